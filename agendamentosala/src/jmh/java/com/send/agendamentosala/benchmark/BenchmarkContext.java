@@ -0,0 +1,76 @@
+package com.send.agendamentosala.benchmark;
+
+import message.agendamentosala.AgendamentosalaApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Sobe a aplicação real (JPA + H2 em memória, sem web e sem consumir filas) e popula o histórico de reservas.
+final class BenchmarkContext {
+
+    static final String[] ROOMS = {"HULK", "THOR", "LOKI", "DR_STRANGE", "CAP_MARVEL"};
+    static final LocalDateTime FIRST_DAY = LocalDateTime.of(2020, 1, 1, 8, 0);
+    static final int SLOTS_PER_DAY = 20;
+
+    private BenchmarkContext() {
+    }
+
+    // As propriedades vão como argumentos de linha de comando para prevalecer sobre o application.properties.
+    static ConfigurableApplicationContext start(String... extraProperties) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:bench_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.rabbitmq.listener.simple.auto-startup=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN"
+        ));
+        for (String property : extraProperties) {
+            args.add("--" + property);
+        }
+        return new SpringApplicationBuilder(AgendamentosalaApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+    }
+
+    // Reservas de 30 min, 20 por dia em cada sala, a partir de FIRST_DAY. Uma a cada "activeEvery"
+    // fica PENDING (ativa); as demais são histórico AVAILABLE.
+    static void seedReservations(JdbcTemplate jdbc, int rows, int activeEvery) {
+        List<Object[]> batch = new ArrayList<>(1000);
+        for (int i = 0; i < rows; i++) {
+            int room = i % ROOMS.length;
+            int slot = (i / ROOMS.length) % SLOTS_PER_DAY;
+            int day = i / (ROOMS.length * SLOTS_PER_DAY);
+            LocalDateTime start = FIRST_DAY.plusDays(day).plusMinutes(30L * slot);
+            batch.add(new Object[]{
+                    "user" + (i % 5000) + "@example.com", ROOMS[room], 2,
+                    Timestamp.valueOf(start), Timestamp.valueOf(start.plusMinutes(30)),
+                    i % activeEvery == 0 ? "PENDING" : "AVAILABLE"
+            });
+            if (batch.size() == 1000) {
+                insert(jdbc, batch);
+            }
+        }
+        insert(jdbc, batch);
+        jdbc.execute("ANALYZE");
+    }
+
+    static LocalDateTime lastSeededDay(int rows) {
+        return FIRST_DAY.plusDays(rows / (ROOMS.length * SLOTS_PER_DAY));
+    }
+
+    private static void insert(JdbcTemplate jdbc, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbc.batchUpdate("INSERT INTO reservation (user_email, room_name, required_people, start_date_time, " +
+                "end_date_time, status) VALUES (?, ?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+}
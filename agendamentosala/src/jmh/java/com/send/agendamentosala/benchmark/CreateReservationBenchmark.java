@@ -0,0 +1,142 @@
+package com.send.agendamentosala.benchmark;
+
+import message.agendamentosala.application.usecase.reservation.CreateReservationUseCase;
+import message.agendamentosala.application.usecase.reservation.ReservationAdmissionLocks;
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.model.Reservation;
+import message.agendamentosala.domain.model.Room;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.User;
+import message.agendamentosala.infrastructure.gateway.messaging.ReservationProducerGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationAdmission;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.user.UserPersistenceGateway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// Latência da criação de reserva com as quatro consultas de validação em sequência (caminho antigo, reproduzido
+// aqui) contra a consulta única de admissão (CreateReservationUseCase).
+// O H2 em memória não tem ida e volta pela rede, então os gateways são trocados por versões que esperam
+// "roundTripMicros" em cada consulta, como faria um banco remoto. O custo das consultas no H2 real fica no
+// ReservationExistenceQueryBenchmark.
+//
+// mvn -Pbenchmark verify -DskipTests -Dbenchmark.include=CreateReservationBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateReservationBenchmark {
+
+    private static final String EMAIL = "user@example.com";
+    private static final RoomName ROOM = RoomName.THOR;
+
+    @Param({"0", "500", "2000"})
+    public long roundTripMicros;
+
+    private UserPersistenceGateway userGateway;
+    private RoomPersistenceGateway roomGateway;
+    private ReservationPersistenceGateway reservationGateway;
+    private ReservationProducerGateway producerGateway;
+    private CreateReservationUseCase useCase;
+    private LocalDateTime start;
+
+    @Setup
+    public void setUp() {
+        long roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+
+        userGateway = new UserPersistenceGateway(null) {
+            @Override
+            public Optional<User> findByEmail(String email) {
+                roundTrip(roundTripNanos);
+                return Optional.of(new User("Test User", email));
+            }
+        };
+        roomGateway = new RoomPersistenceGateway(null) {
+            @Override
+            public Optional<Room> findByName(RoomName name) {
+                roundTrip(roundTripNanos);
+                return Optional.of(new Room(1L, name, RoomStatus.AVAILABLE));
+            }
+        };
+        reservationGateway = new ReservationPersistenceGateway(null, null, null) {
+            @Override
+            public boolean hasActiveReservation(String userEmail) {
+                roundTrip(roundTripNanos);
+                return false;
+            }
+
+            @Override
+            public boolean hasConflict(RoomName roomName, LocalDateTime start, LocalDateTime end) {
+                roundTrip(roundTripNanos);
+                return false;
+            }
+
+            @Override
+            public ReservationAdmission checkAdmission(String userEmail, RoomName roomName,
+                                                       LocalDateTime start, LocalDateTime end) {
+                roundTrip(roundTripNanos);
+                return new ReservationAdmission(true, true, false, false);
+            }
+
+            @Override
+            public Reservation save(Reservation reservation) {
+                return reservation;
+            }
+        };
+        producerGateway = new ReservationProducerGateway(null, null) {
+            @Override
+            public void sendStandByTimeout(Reservation reservation) {
+            }
+        };
+
+        useCase = new CreateReservationUseCase(reservationGateway, producerGateway, new ReservationAdmissionLocks());
+        start = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Benchmark
+    public Reservation createWithSequentialValidations() {
+        userGateway.findByEmail(EMAIL)
+                .orElseThrow(() -> new ValidationException("Usuário não encontrado: " + EMAIL));
+        roomGateway.findByName(ROOM)
+                .orElseThrow(() -> new ValidationException("Sala não encontrada: " + ROOM));
+        if (reservationGateway.hasActiveReservation(EMAIL)) {
+            throw new ValidationException("Usuário " + EMAIL + " já possui uma reserva ativa.");
+        }
+        if (reservationGateway.hasConflict(ROOM, start, start.plusHours(1))) {
+            throw new ValidationException("Para a seguinte sala: " + ROOM + " Este horário já está reservado.");
+        }
+        Reservation saved = reservationGateway.save(
+                Reservation.create(EMAIL, ROOM, 5, start, start.plusHours(1), RoomStatus.STAND_BY));
+        producerGateway.sendStandByTimeout(saved);
+        return saved;
+    }
+
+    @Benchmark
+    public Reservation createWithAdmissionQuery() {
+        return useCase.execute(EMAIL, ROOM, 5, start, start.plusHours(1));
+    }
+
+    private static void roundTrip(long nanos) {
+        if (nanos > 0) {
+            LockSupport.parkNanos(nanos);
+        }
+    }
+}
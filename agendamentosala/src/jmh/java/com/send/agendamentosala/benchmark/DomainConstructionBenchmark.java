@@ -0,0 +1,79 @@
+package com.send.agendamentosala.benchmark;
+
+import message.agendamentosala.domain.model.RecurrenceFrequency;
+import message.agendamentosala.domain.model.RecurrenceRule;
+import message.agendamentosala.domain.model.Reservation;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Custo de montar os modelos do domínio: criação validada de reserva, reconstituição de dados gravados,
+// transição de status, usuário e expansão de uma recorrência semanal de 12 meses.
+//
+// mvn -Pbenchmark verify -DskipTests -Dbenchmark.include=DomainConstructionBenchmark "-Dbenchmark.args=-prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainConstructionBenchmark {
+
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private Reservation stored;
+    private RecurrenceRule weeklyRule;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        start = LocalDate.now().plusDays(1).atTime(10, 0);
+        end = start.plusHours(1);
+        stored = new Reservation(42L, "mariana.souza@empresa.com.br", RoomName.THOR, 6, start, end, RoomStatus.STAND_BY);
+        LocalDate firstDay = start.toLocalDate();
+        weeklyRule = new RecurrenceRule(7L, "mariana.souza@empresa.com.br", RoomName.THOR, 6, RecurrenceFrequency.WEEKLY,
+                firstDay, firstDay.plusMonths(RecurrenceRule.MAXIMUM_DURATION_MONTHS),
+                LocalTime.of(9, 0), LocalTime.of(10, 0), null);
+    }
+
+    @Benchmark
+    public Reservation createReservation() {
+        return Reservation.create("mariana.souza@empresa.com.br", RoomName.THOR, 6, start, end, RoomStatus.STAND_BY);
+    }
+
+    @Benchmark
+    public Reservation restoreReservation() {
+        return new Reservation(42L, "mariana.souza@empresa.com.br", RoomName.THOR, 6, start, end, RoomStatus.PENDING);
+    }
+
+    @Benchmark
+    public Reservation withStatus() {
+        return stored.withStatus(RoomStatus.PENDING);
+    }
+
+    @Benchmark
+    public User createUser() {
+        return new User("Mariana Souza de Oliveira", "mariana.souza@empresa.com.br");
+    }
+
+    @Benchmark
+    public List<Reservation> expandWeeklyRecurrence() {
+        return weeklyRule.occurrences(weeklyRule.startDate(), weeklyRule.untilDate(), RoomStatus.PENDING).toList();
+    }
+}
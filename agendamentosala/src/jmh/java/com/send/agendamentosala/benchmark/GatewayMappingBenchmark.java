@@ -0,0 +1,125 @@
+package com.send.agendamentosala.benchmark;
+
+import message.agendamentosala.infrastructure.config.ConflictIndexProperties;
+import message.agendamentosala.domain.model.Reservation;
+import message.agendamentosala.domain.model.Room;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.infrastructure.entity.ReservationEntity;
+import message.agendamentosala.infrastructure.entity.RoomEntity;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationConflictIndex;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationRepository;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationSlotRepository;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Só o mapeamento entidade <-> domínio dos gateways: os repositórios são substituídos por proxies que
+// devolvem listas prontas, então banco e Hibernate ficam fora da medida.
+//
+// mvn -Pbenchmark verify -DskipTests -Dbenchmark.include=GatewayMappingBenchmark "-Dbenchmark.args=-prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GatewayMappingBenchmark {
+
+    @Param({"1000"})
+    public int reservations;
+
+    private ReservationPersistenceGateway reservationGateway;
+    private RoomPersistenceGateway roomGateway;
+    private Reservation toSave;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime firstSlot = LocalDate.now().plusDays(1).atTime(8, 0);
+        List<ReservationEntity> entities = new ArrayList<>(reservations);
+        for (int i = 0; i < reservations; i++) {
+            LocalDateTime start = firstSlot.plusDays(i / BenchmarkContext.SLOTS_PER_DAY)
+                    .plusMinutes(30L * (i % BenchmarkContext.SLOTS_PER_DAY));
+            entities.add(ReservationEntity.builder()
+                    .id((long) i + 1)
+                    .userEmail("user@example.com")
+                    .roomName(RoomName.values()[i % RoomName.values().length])
+                    .requiredPeople(2)
+                    .startDateTime(start)
+                    .endDateTime(start.plusMinutes(30))
+                    .status(RoomStatus.PENDING)
+                    .build());
+        }
+        List<RoomEntity> rooms = Arrays.stream(RoomName.values())
+                .map(name -> RoomEntity.builder().id((long) name.ordinal() + 1).name(name).status(RoomStatus.AVAILABLE).build())
+                .toList();
+
+        ReservationRepository reservationRepository = proxy(ReservationRepository.class, (method, args) -> switch (method) {
+            case "findByUserEmailAndStatusInOrderByStartDateTimeAsc" -> entities;
+            case "findByStatusIn" -> List.of();
+            case "save" -> args[0];
+            default -> throw new UnsupportedOperationException(method);
+        });
+        ReservationSlotRepository slotRepository = proxy(ReservationSlotRepository.class, (method, args) -> switch (method) {
+            case "deleteByReservationIdIn" -> 0;
+            case "saveAllAndFlush" -> args[0];
+            default -> throw new UnsupportedOperationException(method);
+        });
+        RoomRepository roomRepository = proxy(RoomRepository.class, (method, args) -> switch (method) {
+            case "findAll" -> rooms;
+            default -> throw new UnsupportedOperationException(method);
+        });
+
+        ReservationConflictIndex conflictIndex = new ReservationConflictIndex(reservationRepository, new ConflictIndexProperties(true));
+        conflictIndex.load();
+        reservationGateway = new ReservationPersistenceGateway(reservationRepository, conflictIndex, slotRepository);
+        roomGateway = new RoomPersistenceGateway(roomRepository);
+        toSave = new Reservation(1L, "user@example.com", RoomName.THOR, 2, firstSlot, firstSlot.plusHours(1), RoomStatus.PENDING);
+    }
+
+    private interface Answer {
+        Object answer(String method, Object[] args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Answer answer) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (instance, method, args) -> answer.answer(method.getName(), args));
+    }
+
+    @Benchmark
+    public List<Reservation> reservationEntitiesToDomain() {
+        return reservationGateway.findActiveReservationsByUserEmail("user@example.com");
+    }
+
+    @Benchmark
+    public List<Room> roomEntitiesToDomain() {
+        return roomGateway.findAll();
+    }
+
+    // Domínio -> entidade -> domínio, mais a atualização do índice em memória que acompanha todo save.
+    @Benchmark
+    public Reservation reservationRoundTrip() {
+        return reservationGateway.save(toSave);
+    }
+}
@@ -0,0 +1,69 @@
+package com.send.agendamentosala.benchmark;
+
+import message.agendamentosala.infrastructure.gateway.messaging.ReservationEvent;
+import message.agendamentosala.infrastructure.gateway.messaging.ReservationEventMessageConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+
+import java.util.concurrent.TimeUnit;
+
+// Custo por mensagem dos dois formatos: o Long com serialização Java (SimpleMessageConverter, o formato anterior)
+// e o ReservationEvent binário. decode* é o trabalho do consumidor por mensagem. O tamanho do corpo de cada um
+// é impresso no início da execução; rodar com "-prof gc" para ver a alocação.
+//
+// mvn -Pbenchmark verify -DskipTests -Dbenchmark.include=MessageEncodingBenchmark "-Dbenchmark.args=-prof gc"
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageEncodingBenchmark {
+
+    private final SimpleMessageConverter serialized = new SimpleMessageConverter();
+    private final ReservationEventMessageConverter binary = new ReservationEventMessageConverter();
+    private final long reservationId = 123_456L;
+    private final ReservationEvent event = ReservationEvent.standByTimeout(reservationId);
+
+    private Message serializedMessage;
+    private Message binaryMessage;
+
+    @Setup
+    public void setUp() {
+        serializedMessage = serialized.toMessage(reservationId, new MessageProperties());
+        binaryMessage = binary.toMessage(event, new MessageProperties());
+        System.out.println("Bytes no corpo: Long serializado = " + serializedMessage.getBody().length +
+                ", evento binário = " + binaryMessage.getBody().length);
+    }
+
+    @Benchmark
+    public Message encodeSerializedLong() {
+        return serialized.toMessage(reservationId, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message encodeBinaryEvent() {
+        return binary.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object decodeSerializedLong() {
+        return serialized.fromMessage(serializedMessage);
+    }
+
+    @Benchmark
+    public Object decodeBinaryEvent() {
+        return binary.fromMessage(binaryMessage);
+    }
+}
@@ -0,0 +1,107 @@
+package com.send.agendamentosala.benchmark;
+
+import message.agendamentosala.domain.model.Reservation;
+import message.agendamentosala.domain.model.Room;
+import message.agendamentosala.domain.model.User;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationView;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomView;
+import message.agendamentosala.infrastructure.gateway.persistence.user.UserPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.user.UserView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Compara as leituras dos GETs pelo caminho entidade -> domínio com as projeções em transação readOnly.
+// Rodar com "-prof gc" para ver a alocação por operação.
+//
+// mvn -Pbenchmark verify -DskipTests -Dbenchmark.include=ReadProjectionBenchmark "-Dbenchmark.args=-prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadProjectionBenchmark {
+
+    @Param({"200000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private ReservationPersistenceGateway reservationGateway;
+    private RoomPersistenceGateway roomGateway;
+    private UserPersistenceGateway userGateway;
+    private String busyUser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        // Todas as reservas ativas, para que o histórico do usuário inteiro volte no GET, e levadas para o
+        // futuro, porque o caminho pelo domínio recusa reservas de dias que já passaram.
+        BenchmarkContext.seedReservations(jdbc, rows, 1);
+        jdbc.update("UPDATE reservation SET start_date_time = DATEADD(YEAR, 20, start_date_time), " +
+                "end_date_time = DATEADD(YEAR, 20, end_date_time)");
+        for (String room : BenchmarkContext.ROOMS) {
+            jdbc.update("INSERT INTO room (name, status) VALUES (?, 'AVAILABLE')", room);
+        }
+        busyUser = "user0@example.com";
+        jdbc.update("INSERT INTO app_user (email, full_name) VALUES (?, ?)", busyUser, "Usuario Benchmark");
+
+        reservationGateway = context.getBean(ReservationPersistenceGateway.class);
+        roomGateway = context.getBean(RoomPersistenceGateway.class);
+        userGateway = context.getBean(UserPersistenceGateway.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Reservation> reservationsThroughEntities() {
+        return reservationGateway.findActiveReservationsByUserEmail(busyUser);
+    }
+
+    @Benchmark
+    public List<ReservationView> reservationsThroughProjection() {
+        return reservationGateway.findActiveReservationViewsByUserEmail(busyUser);
+    }
+
+    @Benchmark
+    public List<Room> roomsThroughEntities() {
+        return roomGateway.findAll();
+    }
+
+    @Benchmark
+    public List<RoomView> roomsThroughProjection() {
+        return roomGateway.findAllViews();
+    }
+
+    @Benchmark
+    public Optional<User> userThroughEntity() {
+        return userGateway.findByEmail(busyUser);
+    }
+
+    @Benchmark
+    public Optional<UserView> userThroughProjection() {
+        return userGateway.findViewByEmail(busyUser);
+    }
+}
@@ -0,0 +1,88 @@
+package com.send.agendamentosala.benchmark;
+
+import jakarta.persistence.EntityManagerFactory;
+import message.agendamentosala.domain.model.Reservation;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Vazão do saveAll usado pela criação em lote e pela expansão de recorrências.
+// Cada operação grava "batchSize" reservas novas em uma transação; reservas/s = ops/s * batchSize.
+// Ao final imprime quantos comandos JDBC o Hibernate preparou por operação (um por INSERT sem lote).
+//
+// mvn -Pbenchmark verify -DskipTests -Dbenchmark.include=ReservationBatchInsertBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationBatchInsertBenchmark {
+
+    @Param({"1", "50", "200"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private ReservationPersistenceGateway gateway;
+    private List<Reservation> batch;
+    private LocalDate nextDay;
+    private Statistics statistics;
+    private long operations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("spring.jpa.properties.hibernate.generate_statistics=true");
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        gateway = context.getBean(ReservationPersistenceGateway.class);
+        nextDay = LocalDate.now().plusDays(1);
+    }
+
+    // Cada reserva ativa reivindica as suas fatias em reservation_slot: cada invocação grava o lote em dias
+    // ainda não usados, senão a segunda operação já colidiria com a primeira.
+    @Setup(Level.Invocation)
+    public void nextBatch() {
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            LocalDateTime start = nextDay.plusDays(i / BenchmarkContext.SLOTS_PER_DAY)
+                    .atTime(8, 0).plusMinutes(30L * (i % BenchmarkContext.SLOTS_PER_DAY));
+            batch.add(new Reservation(null, "user" + i + "@example.com", RoomName.HULK, 2,
+                    start, start.plusMinutes(30), RoomStatus.STAND_BY));
+        }
+        nextDay = nextDay.plusDays((batchSize + BenchmarkContext.SLOTS_PER_DAY - 1) / BenchmarkContext.SLOTS_PER_DAY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%nbatchSize=%d: %.1f comandos JDBC preparados por operação%n", batchSize,
+                (double) statistics.getPrepareStatementCount() / operations);
+        context.close();
+    }
+
+    @Benchmark
+    public List<Reservation> saveAll() {
+        operations++;
+        return gateway.saveAll(batch);
+    }
+}
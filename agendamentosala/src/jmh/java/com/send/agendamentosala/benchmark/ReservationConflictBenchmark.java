@@ -0,0 +1,116 @@
+package com.send.agendamentosala.benchmark;
+
+import message.agendamentosala.infrastructure.config.ConflictIndexProperties;
+import message.agendamentosala.application.usecase.room.ListAvailableRoomsUseCase;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.TimeWindow;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationConflictIndex;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationRepository;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationSlotRepository;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Conferência de conflitos e listagem de salas livres com o H2 populado com centenas de milhares de reservas
+// nas cinco salas. "source" escolhe quem responde: o índice em memória ou as consultas no banco
+// (gateway montado com um índice que nunca foi carregado).
+//
+// mvn -Pbenchmark verify -DskipTests -Dbenchmark.include=ReservationConflictBenchmark "-Dbenchmark.args=-prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationConflictBenchmark {
+
+    @Param({"300000"})
+    public int rows;
+
+    @Param({"index", "database"})
+    public String source;
+
+    private ConfigurableApplicationContext context;
+    private ReservationPersistenceGateway gateway;
+    private ListAvailableRoomsUseCase listAvailableRooms;
+
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private List<TimeWindow> weeklyWindows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        BenchmarkContext.seedReservations(jdbc, rows, 4);
+        for (String room : BenchmarkContext.ROOMS) {
+            jdbc.update("INSERT INTO room (name, status) VALUES (?, 'AVAILABLE')", room);
+        }
+
+        if (source.equals("index")) {
+            // O índice foi carregado na subida, antes da carga; recarrega com o histórico inteiro.
+            context.getBean(ReservationConflictIndex.class).load();
+            gateway = context.getBean(ReservationPersistenceGateway.class);
+            listAvailableRooms = context.getBean(ListAvailableRoomsUseCase.class);
+        } else {
+            ReservationRepository repository = context.getBean(ReservationRepository.class);
+            gateway = new ReservationPersistenceGateway(repository, new ReservationConflictIndex(repository, new ConflictIndexProperties(true)),
+                    context.getBean(ReservationSlotRepository.class));
+            listAvailableRooms = new ListAvailableRoomsUseCase(context.getBean(RoomPersistenceGateway.class), gateway);
+        }
+
+        // Uma hora no meio do histórico, e a mesma hora nas 20 semanas seguintes (como numa recorrência).
+        start = BenchmarkContext.lastSeededDay(rows).minusDays(200).plusHours(2);
+        end = start.plusHours(1);
+        weeklyWindows = new ArrayList<>();
+        for (int week = 0; week < 20; week++) {
+            weeklyWindows.add(new TimeWindow(start.plusWeeks(week), end.plusWeeks(week)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean hasConflict() {
+        return gateway.hasConflict(RoomName.HULK, start, end);
+    }
+
+    @Benchmark
+    public List<Boolean> weeklyConflicts() {
+        return gateway.findConflicts(RoomName.HULK, weeklyWindows);
+    }
+
+    @Benchmark
+    public List<RoomView> listAvailableRooms() {
+        return listAvailableRooms.execute(start, end);
+    }
+
+    @Benchmark
+    public Map<TimeWindow, List<RoomView>> listAvailableRoomsForWeeklyWindows() {
+        return listAvailableRooms.execute(weeklyWindows);
+    }
+}
@@ -0,0 +1,106 @@
+package com.send.agendamentosala.benchmark;
+
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationAdmission;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationRepository;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomRepository;
+import message.agendamentosala.infrastructure.gateway.persistence.user.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Compara a conferência de conflito e de "usuário com reserva ativa" carregando a lista de entidades
+// (caminho antigo) com a consulta só de existência. Rodar com "-prof gc" para ver a alocação por operação.
+// A admissão de uma reserva compara as quatro conferências feitas uma a uma com a consulta única (findAdmission).
+//
+// mvn -Pbenchmark verify -DskipTests -Dbenchmark.include=ReservationExistenceQueryBenchmark "-Dbenchmark.args=-prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationExistenceQueryBenchmark {
+
+    @Param({"200000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private ReservationRepository repository;
+    private UserRepository userRepository;
+    private RoomRepository roomRepository;
+
+    private LocalDateTime weekStart;
+    private LocalDateTime weekEnd;
+    private String busyUser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        BenchmarkContext.seedReservations(context.getBean(JdbcTemplate.class), rows, 4);
+        repository = context.getBean(ReservationRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        roomRepository = context.getBean(RoomRepository.class);
+
+        // Uma semana no meio do histórico: dezenas de reservas ativas da sala casam com o período.
+        weekStart = BenchmarkContext.lastSeededDay(rows).minusDays(30);
+        weekEnd = weekStart.plusDays(7);
+        busyUser = "user0@example.com";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean conflictByLoadingEntities() {
+        return !repository.findConflictingReservations(RoomName.HULK, RoomStatus.ACTIVE_STATUSES, weekStart, weekEnd).isEmpty();
+    }
+
+    @Benchmark
+    public boolean conflictByExistence() {
+        return !repository.findActiveConflictIds(RoomName.HULK, weekStart, weekEnd, Limit.of(1)).isEmpty();
+    }
+
+    @Benchmark
+    public boolean activeReservationByLoadingEntities() {
+        return !repository.findByUserEmailAndStatusInOrderByStartDateTimeAsc(busyUser, RoomStatus.ACTIVE_STATUSES).isEmpty();
+    }
+
+    @Benchmark
+    public boolean activeReservationByExistence() {
+        return !repository.findActiveReservationIds(busyUser, Limit.of(1)).isEmpty();
+    }
+
+    @Benchmark
+    public ReservationAdmission admissionQueryByQuery() {
+        return new ReservationAdmission(
+                userRepository.findById(busyUser).isPresent(),
+                roomRepository.findByName(RoomName.HULK).isPresent(),
+                !repository.findActiveReservationIds(busyUser, Limit.of(1)).isEmpty(),
+                !repository.findActiveConflictIds(RoomName.HULK, weekStart, weekEnd, Limit.of(1)).isEmpty());
+    }
+
+    @Benchmark
+    public ReservationAdmission admissionInOneQuery() {
+        return repository.findAdmission(busyUser, RoomName.HULK, weekStart, weekEnd);
+    }
+}
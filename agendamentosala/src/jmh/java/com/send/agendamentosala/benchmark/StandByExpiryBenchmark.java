@@ -0,0 +1,123 @@
+package com.send.agendamentosala.benchmark;
+
+import message.agendamentosala.application.usecase.reservation.ProcessStandByCancellationUseCase;
+import message.agendamentosala.infrastructure.config.RabbitMQConfig;
+import message.agendamentosala.infrastructure.gateway.messaging.ReservationEvent;
+import message.agendamentosala.infrastructure.gateway.messaging.ReservationEventMessageConverter;
+import message.agendamentosala.infrastructure.scheduler.HierarchicalTimingWheel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Custo por reserva dos dois caminhos de vencimento do STAND_BY. Todos os resultados são por reserva.
+// - Agendamento: roda de tempo (agendar e vencer, com o avanço de 15 min de ticks rateado entre as reservas)
+//   contra a parte do broker que roda na aplicação (codificar o evento na publicação e decodificar no consumo).
+//   As duas passagens pelo RabbitMQ (fila com TTL e dead-letter) ficam de fora: não há broker neste ambiente.
+// - Cancelamento: uma reserva por vez (caminho unitário) contra o lote (consumidor em lote e roda de tempo),
+//   que vira um único UPDATE condicional.
+//
+// mvn -Pbenchmark verify -DskipTests -Dbenchmark.include=StandByExpiryBenchmark "-Dbenchmark.args=-prof gc"
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StandByExpiryBenchmark {
+
+    private static final int RESERVATIONS = 100;
+
+    @State(Scope.Thread)
+    public static class Broker {
+        final ReservationEventMessageConverter converter = new ReservationEventMessageConverter();
+        final ReservationEvent event = ReservationEvent.standByTimeout(123_456L);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Database {
+
+        ConfigurableApplicationContext context;
+        JdbcTemplate jdbc;
+        ProcessStandByCancellationUseCase cancellationUseCase;
+        List<Long> ids;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkContext.start();
+            jdbc = context.getBean(JdbcTemplate.class);
+            cancellationUseCase = context.getBean(ProcessStandByCancellationUseCase.class);
+
+            LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(8).withMinute(0);
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = 0; i < RESERVATIONS; i++) {
+                LocalDateTime slot = start.plusDays(i / BenchmarkContext.SLOTS_PER_DAY)
+                        .plusMinutes(30L * (i % BenchmarkContext.SLOTS_PER_DAY));
+                rows.add(new Object[]{"user" + i + "@example.com", "HULK", 2,
+                        Timestamp.valueOf(slot), Timestamp.valueOf(slot.plusMinutes(30))});
+            }
+            jdbc.batchUpdate("INSERT INTO reservation (user_email, room_name, required_people, start_date_time, " +
+                    "end_date_time, status) VALUES (?, ?, ?, ?, ?, 'STAND_BY')", rows);
+            ids = jdbc.queryForList("SELECT id FROM reservation ORDER BY id", Long.class);
+        }
+
+        // Cada invocação começa com as reservas de volta em STAND_BY.
+        @Setup(Level.Invocation)
+        public void resetStatus() {
+            jdbc.update("UPDATE reservation SET status = 'STAND_BY'");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public List<Long> timingWheelScheduleAndExpire() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1000, 64, 0);
+        for (long id = 0; id < 1000; id++) {
+            wheel.schedule(id, RabbitMQConfig.STAND_BY_TTL_MS - id * 100);
+        }
+        return wheel.advance(RabbitMQConfig.STAND_BY_TTL_MS);
+    }
+
+    @Benchmark
+    public Object brokerMessageEncoding(Broker broker) {
+        Message message = broker.converter.toMessage(broker.event, new MessageProperties());
+        return broker.converter.fromMessage(message);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RESERVATIONS)
+    public void cancelOnePerMessage(Database database) {
+        for (Long id : database.ids) {
+            database.cancellationUseCase.execute(id);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RESERVATIONS)
+    public int cancelInBatch(Database database) {
+        return database.cancellationUseCase.execute(database.ids);
+    }
+}
@@ -0,0 +1,80 @@
+package com.send.agendamentosala.benchmark;
+
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.validator.EmailValidator;
+import message.agendamentosala.domain.validator.NameValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+// Custo por chamada dos validadores: a versão anterior (String.matches, que compila o Pattern a cada chamada),
+// um Pattern pré-compilado e a leitura única atual. Rodar com "-prof gc" para ver a alocação por chamada.
+//
+// mvn -Pbenchmark verify -DskipTests -Dbenchmark.include=ValidatorBenchmark "-Dbenchmark.args=-prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private static final Pattern EMAIL = Pattern.compile("(?i)^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,}$");
+    private static final Pattern NAME = Pattern.compile("^[a-zA-Z\\s'-]+$");
+
+    @Param({"mariana.souza@empresa.com.br"})
+    public String email;
+
+    @Param({"Mariana Souza de Oliveira"})
+    public String name;
+
+    @Benchmark
+    public boolean emailWithStringMatches() {
+        return email.matches("(?i)^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,}$");
+    }
+
+    @Benchmark
+    public boolean emailWithPrecompiledPattern() {
+        return EMAIL.matcher(email).matches();
+    }
+
+    @Benchmark
+    public boolean emailWithScanner() {
+        try {
+            EmailValidator.validate(email);
+            return true;
+        } catch (ValidationException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean nameWithStringMatches() {
+        return name.matches("^[a-zA-Z\\s'-]+$");
+    }
+
+    @Benchmark
+    public boolean nameWithPrecompiledPattern() {
+        return NAME.matcher(name).matches();
+    }
+
+    @Benchmark
+    public boolean nameWithScanner() {
+        try {
+            NameValidator.validate(name);
+            return true;
+        } catch (ValidationException e) {
+            return false;
+        }
+    }
+}
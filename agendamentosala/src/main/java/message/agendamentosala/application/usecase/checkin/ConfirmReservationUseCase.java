@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import message.agendamentosala.domain.exception.ValidationException;
 import message.agendamentosala.domain.model.Reservation;
 import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.StatusTransition;
 import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,22 +15,26 @@ public class ConfirmReservationUseCase {
 
     private final ReservationPersistenceGateway persistenceGateway;
 
-    @Transactional // Serve para garantimos que a operação de busca e salvamento seja atômica
+    // A confirmação é um UPDATE condicional (STAND_BY -> PENDING): se o vencimento chegou antes, ela perde.
+    // A reserva só é lida depois, para devolver a confirmada ou explicar por que não foi possível.
+    @Transactional
     public Reservation execute(Long reservationId) {
 
+        boolean confirmed = persistenceGateway.transition(reservationId, StatusTransition.CONFIRM);
+
         Reservation reservation = persistenceGateway.findById(reservationId)
                 .orElseThrow(() -> new ValidationException("Reserva não encontrada para o ID: " + reservationId));
 
-        if (reservation.status() != RoomStatus.STAND_BY) {
+        if (!confirmed) {
             throw new ValidationException(
                     "Reserva ID " + reservationId + " Não é possível confirmar. O status atual é " + reservation.status() + "."
             );
         }
-
-        Reservation confirmedReservation = reservation.confirmToPending();
-        return persistenceGateway.save(confirmedReservation);
+        return reservation;
     }
 
+    // Só reservas avulsas ficam em STAND_BY (as ocorrências de uma recorrência já nascem PENDING), então o filtro
+    // sempre encontra a reserva avulsa do usuário.
     public Reservation execute(String userEmail) {
         Reservation standByReservation = persistenceGateway.findActiveReservationsByUserEmail(userEmail).stream()
                 .filter(r -> r.status() == RoomStatus.STAND_BY)
@@ -38,4 +43,4 @@ public class ConfirmReservationUseCase {
 
         return this.execute(standByReservation.id());
     }
-}
\ No newline at end of file
+}
@@ -21,6 +21,7 @@ public class TriggerCheckInUseCase {
 
         LocalDateTime now = LocalDateTime.now();
 
+        // Avulsas e ocorrências de recorrência exigem check-in: vale a próxima reserva PENDING do usuário.
         Reservation reservation = reservationGateway.findActiveReservationsByUserEmail(email).stream()
                 .filter(r -> r.status() == RoomStatus.PENDING)
                 .findFirst()
@@ -0,0 +1,29 @@
+package message.agendamentosala.application.usecase.reservation;
+
+import lombok.RequiredArgsConstructor;
+import message.agendamentosala.application.usecase.room.RecommendRoomsUseCase;
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.model.Reservation;
+import message.agendamentosala.domain.model.RoomRecommendation;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class AutoAssignReservationUseCase {
+
+    private final RecommendRoomsUseCase recommendRoomsUseCase;
+    private final CreateReservationUseCase createReservationUseCase;
+
+    public Reservation execute(String userEmail, int requiredPeople,
+                               LocalDateTime startDateTime, LocalDateTime endDateTime) {
+
+        RoomRecommendation bestFit = recommendRoomsUseCase.execute(requiredPeople, startDateTime, endDateTime).stream()
+                .findFirst()
+                .orElseThrow(() -> new ValidationException(
+                        "Nenhuma sala disponível para " + requiredPeople + " pessoas no período solicitado."));
+
+        return createReservationUseCase.execute(userEmail, bestFit.roomName(), requiredPeople, startDateTime, endDateTime);
+    }
+}
@@ -0,0 +1,28 @@
+package message.agendamentosala.application.usecase.reservation;
+
+import lombok.RequiredArgsConstructor;
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.infrastructure.gateway.persistence.recurrence.RecurrenceRulePersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class CancelRecurringReservationUseCase {
+
+    private final RecurrenceRulePersistenceGateway recurrenceGateway;
+    private final ReservationPersistenceGateway reservationGateway;
+
+    @Transactional
+    public void execute(Long recurrenceRuleId) {
+        recurrenceGateway.findById(recurrenceRuleId)
+                .orElseThrow(() -> new ValidationException("Recorrência não encontrada para o ID: " + recurrenceRuleId));
+
+        int removed = reservationGateway.deleteRecurrenceOccurrencesFrom(recurrenceRuleId, LocalDateTime.now());
+        recurrenceGateway.deleteById(recurrenceRuleId);
+        System.out.println("Recorrência " + recurrenceRuleId + " excluída com " + removed + " ocorrências futuras.");
+    }
+}
@@ -0,0 +1,112 @@
+package message.agendamentosala.application.usecase.reservation;
+
+import lombok.RequiredArgsConstructor;
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.model.RecurrenceFrequency;
+import message.agendamentosala.domain.model.RecurrenceRule;
+import message.agendamentosala.domain.model.RecurringReservation;
+import message.agendamentosala.domain.model.Reservation;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.TimeWindow;
+import message.agendamentosala.infrastructure.config.RecurrenceProperties;
+import message.agendamentosala.infrastructure.gateway.persistence.recurrence.RecurrenceRulePersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.user.UserPersistenceGateway;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Cria uma reserva recorrente. Todas as ocorrências da série são conferidas contra as reservas ativas
+// de uma vez, mas só as que caem dentro do horizonte configurado viram reservas agora; as demais
+// são materializadas depois pelo MaterializeRecurringReservationsUseCase. Por isso a série também é conferida
+// contra as ocorrências das outras séries da sala que ainda não viraram reservas.
+// As ocorrências já nascem PENDING (a série é a confirmação) e continuam exigindo check-in.
+// A regra de uma reserva ativa por usuário não se aplica às séries: as ocorrências não contam como a reserva ativa
+// do usuário (que continua podendo fazer uma reserva avulsa) e uma reserva avulsa não impede criar uma série.
+// A exclusão e a confirmação por e-mail agem só sobre a reserva avulsa; a série sai pelo CancelRecurringReservationUseCase.
+@Service
+@RequiredArgsConstructor
+public class CreateRecurringReservationUseCase {
+
+    private final UserPersistenceGateway userGateway;
+    private final RoomPersistenceGateway roomGateway;
+    private final ReservationPersistenceGateway reservationGateway;
+    private final RecurrenceRulePersistenceGateway recurrenceGateway;
+    private final RecurrenceProperties recurrenceProperties;
+    private final ReservationAdmissionLocks admissionLocks;
+    private final TransactionTemplate transactionTemplate;
+
+    // A conferência e a gravação da série acontecem sob a trava da sala e do usuário, e a transação (regra e
+    // ocorrências juntas) é confirmada antes de a trava ser liberada.
+    public RecurringReservation execute(String userEmail, RoomName roomName, int requiredPeople,
+                                        RecurrenceFrequency frequency, LocalDate startDate, LocalDate untilDate,
+                                        LocalTime startTime, LocalTime endTime) {
+
+        return admissionLocks.withRoomAndUser(roomName, userEmail, () -> transactionTemplate.execute(status ->
+                admit(userEmail, roomName, requiredPeople, frequency, startDate, untilDate, startTime, endTime)));
+    }
+
+    private RecurringReservation admit(String userEmail, RoomName roomName, int requiredPeople,
+                                       RecurrenceFrequency frequency, LocalDate startDate, LocalDate untilDate,
+                                       LocalTime startTime, LocalTime endTime) {
+
+        userGateway.findByEmail(userEmail)
+                .orElseThrow(() -> new ValidationException("Usuário não encontrado: " + userEmail));
+
+        roomGateway.findByName(roomName)
+                .orElseThrow(() -> new ValidationException("Sala não encontrada: " + roomName));
+
+        if (requiredPeople > roomName.getCapacity()) {
+            throw new ValidationException(
+                    "A sala " + roomName + " possui a capacidade de limite de pessoas: " + roomName.getCapacity() +
+                            ". Não é possível reservar para " + requiredPeople + " pessoas."
+            );
+        }
+
+        RecurrenceRule rule = new RecurrenceRule(null, userEmail, roomName, requiredPeople, frequency,
+                startDate, untilDate, startTime, endTime, null);
+
+        LocalDate today = LocalDate.now();
+        if (startDate.isBefore(today)) {
+            throw new ValidationException("O dia selecionado não pode ser anterior ao dia atual.");
+        }
+
+        List<LocalDate> dates = rule.occurrenceDates(startDate, untilDate).toList();
+        List<TimeWindow> windows = dates.stream()
+                .map(date -> new TimeWindow(date.atTime(startTime), date.atTime(endTime)))
+                .collect(Collectors.toList());
+        List<Boolean> conflicts = reservationGateway.findConflicts(roomName, windows);
+        List<RecurrenceRule> otherSeries = recurrenceGateway.findUnmaterializedOverlapping(
+                roomName, startDate, untilDate, startTime, endTime);
+
+        List<LocalDate> conflictingDates = new ArrayList<>();
+        for (int i = 0; i < dates.size(); i++) {
+            LocalDate date = dates.get(i);
+            if (conflicts.get(i) || otherSeries.stream().anyMatch(other -> other.hasPendingOccurrenceOn(date))) {
+                conflictingDates.add(date);
+            }
+        }
+        if (!conflictingDates.isEmpty()) {
+            throw new ValidationException("Para a seguinte sala: " + roomName +
+                    " Os horários já estão reservados nas datas: " + conflictingDates + ".");
+        }
+
+        LocalDate horizon = today.plusDays(recurrenceProperties.horizonDays());
+        LocalDate materializeUntil = untilDate.isBefore(horizon) ? untilDate : horizon;
+
+        RecurrenceRule savedRule = recurrenceGateway.save(rule.withMaterializedUntil(materializeUntil));
+        List<Reservation> occurrences = savedRule.occurrences(startDate, materializeUntil, RoomStatus.PENDING).toList();
+        List<Reservation> savedOccurrences = occurrences.isEmpty()
+                ? List.of()
+                : reservationGateway.saveAll(occurrences, savedRule.id());
+
+        return new RecurringReservation(savedRule, savedOccurrences);
+    }
+}
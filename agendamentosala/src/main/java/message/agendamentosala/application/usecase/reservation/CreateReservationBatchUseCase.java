@@ -0,0 +1,199 @@
+package message.agendamentosala.application.usecase.reservation;
+
+import lombok.RequiredArgsConstructor;
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.model.Reservation;
+import message.agendamentosala.domain.model.ReservationBatchItem;
+import message.agendamentosala.domain.model.ReservationBatchResult;
+import message.agendamentosala.domain.model.Room;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.TimeWindow;
+import message.agendamentosala.infrastructure.gateway.messaging.ReservationProducerGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.user.UserPersistenceGateway;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Cria várias reservas de uma vez, com as mesmas regras e mensagens do CreateReservationUseCase,
+// mas consultando usuários, salas, reservas ativas e conflitos uma única vez para o lote inteiro.
+// Cada item é aceito ou recusado individualmente; os itens são avaliados na ordem em que chegaram,
+// então um item só perde para outro do mesmo lote que veio antes dele.
+@Service
+@RequiredArgsConstructor
+public class CreateReservationBatchUseCase {
+
+    private final UserPersistenceGateway userGateway;
+    private final RoomPersistenceGateway roomGateway;
+    private final ReservationPersistenceGateway reservationGateway;
+    private final ReservationProducerGateway producerGateway;
+    private final ReservationAdmissionLocks admissionLocks;
+
+    public List<ReservationBatchResult> execute(List<ReservationBatchItem> items) {
+
+        Set<String> emails = items.stream()
+                .map(ReservationBatchItem::userEmail)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<RoomName> roomNames = items.stream()
+                .map(ReservationBatchItem::roomName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(RoomName.class)));
+
+        // Como no CreateReservationUseCase, conferir e gravar acontecem sob as travas de todas as salas e usuários
+        // do lote; as mensagens de STAND_BY saem depois que elas são liberadas.
+        List<ReservationBatchResult> results =
+                admissionLocks.withRoomsAndUsers(roomNames, emails, () -> admit(items, emails));
+
+        List<Reservation> saved = results.stream()
+                .filter(ReservationBatchResult::isSuccess)
+                .map(ReservationBatchResult::reservation)
+                .toList();
+        if (!saved.isEmpty()) {
+            producerGateway.sendStandByTimeouts(saved);
+        }
+        return results;
+    }
+
+    private List<ReservationBatchResult> admit(List<ReservationBatchItem> items, Set<String> emails) {
+
+        Set<String> existingUsers = userGateway.findExistingEmails(emails);
+        Set<String> usersWithActiveReservation = reservationGateway.findUsersWithActiveReservations(existingUsers);
+        Set<RoomName> existingRooms = roomGateway.findAll().stream()
+                .map(Room::name)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(RoomName.class)));
+
+        List<ReservationBatchResult> results = new ArrayList<>(items.size());
+        Reservation[] candidates = new Reservation[items.size()];
+        String[] errors = new String[items.size()];
+
+        for (int i = 0; i < items.size(); i++) {
+            try {
+                candidates[i] = toCandidate(items.get(i));
+            } catch (ValidationException e) {
+                errors[i] = e.getMessage();
+            }
+        }
+
+        List<Reservation> validCandidates = new ArrayList<>();
+        for (Reservation candidate : candidates) {
+            if (candidate != null) {
+                validCandidates.add(candidate);
+            }
+        }
+        List<Boolean> databaseConflicts = reservationGateway.findConflicts(validCandidates);
+
+        Set<String> acceptedUsers = new HashSet<>();
+        Map<RoomName, List<TimeWindow>> acceptedWindows = new EnumMap<>(RoomName.class);
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Reservation> accepted = new ArrayList<>();
+        int candidatePosition = 0;
+
+        for (int i = 0; i < items.size(); i++) {
+            ReservationBatchItem item = items.get(i);
+            Reservation candidate = candidates[i];
+            boolean databaseConflict = candidate != null && databaseConflicts.get(candidatePosition++);
+
+            String error = validate(item, existingUsers, existingRooms, usersWithActiveReservation, acceptedUsers);
+            if (error == null) {
+                error = errors[i];
+            }
+            if (error == null && (databaseConflict || overlapsAccepted(candidate, acceptedWindows))) {
+                error = "Para a seguinte sala: " + item.roomName() + " Este horário já está reservado.";
+            }
+
+            if (error != null) {
+                results.add(ReservationBatchResult.failure(i, error));
+                continue;
+            }
+
+            acceptedUsers.add(item.userEmail());
+            acceptedWindows.computeIfAbsent(item.roomName(), room -> new ArrayList<>())
+                    .add(new TimeWindow(candidate.startDateTime(), candidate.endDateTime()));
+            acceptedIndexes.add(i);
+            accepted.add(candidate);
+            results.add(null);
+        }
+
+        if (!accepted.isEmpty()) {
+            List<ReservationBatchResult> saved = save(accepted, acceptedIndexes);
+            saved.forEach(result -> results.set(result.index(), result));
+        }
+
+        return results;
+    }
+
+    // O lote aceito é gravado numa transação só. Se uma fatia de horário já foi reivindicada por outra instância
+    // (que não passou pelas mesmas travas), a chave única de reservation_slot desfaz a transação inteira; aí cada
+    // reserva é gravada na sua própria transação e só as que colidiram são recusadas.
+    private List<ReservationBatchResult> save(List<Reservation> accepted, List<Integer> acceptedIndexes) {
+        List<ReservationBatchResult> results = new ArrayList<>(accepted.size());
+        try {
+            List<Reservation> saved = reservationGateway.saveAll(accepted);
+            for (int i = 0; i < saved.size(); i++) {
+                results.add(ReservationBatchResult.success(acceptedIndexes.get(i), saved.get(i)));
+            }
+            return results;
+        } catch (ValidationException batchCollision) {
+            for (int i = 0; i < accepted.size(); i++) {
+                int index = acceptedIndexes.get(i);
+                try {
+                    results.add(ReservationBatchResult.success(index, reservationGateway.save(accepted.get(i))));
+                } catch (ValidationException collision) {
+                    results.add(ReservationBatchResult.failure(index, collision.getMessage()));
+                }
+            }
+            return results;
+        }
+    }
+
+    private Reservation toCandidate(ReservationBatchItem item) {
+        return Reservation.create(
+                item.userEmail(),
+                item.roomName(),
+                item.requiredPeople(),
+                item.startDateTime(),
+                item.endDateTime(),
+                RoomStatus.STAND_BY
+        );
+    }
+
+    private String validate(ReservationBatchItem item, Set<String> existingUsers, Set<RoomName> existingRooms,
+                            Set<String> usersWithActiveReservation, Set<String> acceptedUsers) {
+
+        if (!existingUsers.contains(item.userEmail())) {
+            return "Usuário não encontrado: " + item.userEmail();
+        }
+
+        if (!existingRooms.contains(item.roomName())) {
+            return "Sala não encontrada: " + item.roomName();
+        }
+
+        RoomName roomName = item.roomName();
+        if (item.requiredPeople() > roomName.getCapacity()) {
+            return "A sala " + roomName + " possui a capacidade de limite de pessoas: " + roomName.getCapacity() +
+                    ". Não é possível reservar para " + item.requiredPeople() + " pessoas.";
+        }
+
+        if (usersWithActiveReservation.contains(item.userEmail()) || acceptedUsers.contains(item.userEmail())) {
+            return "Usuário " + item.userEmail() + " já possui uma reserva ativa.";
+        }
+
+        return null;
+    }
+
+    private boolean overlapsAccepted(Reservation candidate, Map<RoomName, List<TimeWindow>> acceptedWindows) {
+        return acceptedWindows.getOrDefault(candidate.roomName(), List.of()).stream()
+                .anyMatch(window -> window.overlaps(candidate.startDateTime(), candidate.endDateTime()));
+    }
+}
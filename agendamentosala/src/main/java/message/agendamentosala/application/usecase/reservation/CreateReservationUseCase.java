@@ -6,9 +6,8 @@ import message.agendamentosala.domain.model.Reservation;
 import message.agendamentosala.domain.model.RoomName;
 import message.agendamentosala.domain.model.RoomStatus;
 import message.agendamentosala.infrastructure.gateway.messaging.ReservationProducerGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationAdmission;
 import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
-import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
-import message.agendamentosala.infrastructure.gateway.persistence.user.UserPersistenceGateway;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -17,46 +16,53 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class CreateReservationUseCase {
 
-    private final UserPersistenceGateway userGateway;
-    private final RoomPersistenceGateway roomGateway;
     private final ReservationPersistenceGateway reservationGateway;
     private final ReservationProducerGateway producerGateway;
+    private final ReservationAdmissionLocks admissionLocks;
 
     public Reservation execute(String userEmail, RoomName roomName, int requiredPeople,
                                LocalDateTime startDateTime, LocalDateTime endDateTime) {
 
-        userGateway.findByEmail(userEmail)
-                .orElseThrow(() -> new ValidationException("Usuário não encontrado: " + userEmail));
+        // Conferir e gravar acontecem sob as travas da sala e do usuário: duas requisições concorrentes para o mesmo
+        // horário (ou do mesmo usuário) não passam as duas pela conferência antes de uma delas gravar.
+        Reservation savedReservation = admissionLocks.withRoomAndUser(roomName, userEmail, () -> {
+            // Uma única consulta responde as quatro conferências; as regras continuam avaliadas na ordem de antes.
+            ReservationAdmission admission = reservationGateway.checkAdmission(userEmail, roomName, startDateTime, endDateTime);
 
-        roomGateway.findByName(roomName)
-                .orElseThrow(() -> new ValidationException("Sala não encontrada: " + roomName));
+            if (!admission.userExists()) {
+                throw new ValidationException("Usuário não encontrado: " + userEmail);
+            }
+            if (!admission.roomExists()) {
+                throw new ValidationException("Sala não encontrada: " + roomName);
+            }
 
-        if (requiredPeople > roomName.getCapacity()) {
-            throw new ValidationException(
-                    "A sala " + roomName + " possui a capacidade de limite de pessoas: " + roomName.getCapacity() +
-                            ". Não é possível reservar para " + requiredPeople + " pessoas."
+            if (requiredPeople > roomName.getCapacity()) {
+                throw new ValidationException(
+                        "A sala " + roomName + " possui a capacidade de limite de pessoas: " + roomName.getCapacity() +
+                                ". Não é possível reservar para " + requiredPeople + " pessoas."
+                );
+            }
+
+            if (admission.userHasActiveReservation()) {
+                throw new ValidationException("Usuário " + userEmail + " já possui uma reserva ativa.");
+            }
+
+            if (admission.roomHasConflict()) {
+                throw new ValidationException("Para a seguinte sala: " + roomName + " Este horário já está reservado.");
+            }
+
+            Reservation newReservation = Reservation.create(
+                    userEmail,
+                    roomName,
+                    requiredPeople,
+                    startDateTime,
+                    endDateTime,
+                    RoomStatus.STAND_BY
             );
-        }
-
-        if (!reservationGateway.findActiveReservationsByUserEmail(userEmail).isEmpty()) {
-            throw new ValidationException("Usuário " + userEmail + " já possui uma reserva ativa.");
-        }
-
-        if (reservationGateway.hasConflict(roomName, startDateTime, endDateTime)) {
-            throw new ValidationException("Para a seguinte sala: " + roomName + " Este horário já está reservado.");
-        }
-
-        Reservation newReservation = new Reservation(
-                null,
-                userEmail,
-                roomName,
-                requiredPeople,
-                startDateTime,
-                endDateTime,
-                RoomStatus.STAND_BY
-        );
-
-        Reservation savedReservation = reservationGateway.save(newReservation);
+
+            return reservationGateway.save(newReservation);
+        });
+
         producerGateway.sendStandByTimeout(savedReservation);
         return savedReservation;
     }
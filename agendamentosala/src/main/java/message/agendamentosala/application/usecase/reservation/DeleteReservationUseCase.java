@@ -18,8 +18,8 @@ public class DeleteReservationUseCase {
     public void execute(String email) {
         EmailValidator.validate(email);
 
-        Reservation activeReservation = persistenceGateway.findActiveReservationsByUserEmail(email).stream()
-                .findFirst()
+        // Só a reserva avulsa: as ocorrências de uma recorrência saem pelo cancelamento da série.
+        Reservation activeReservation = persistenceGateway.findActiveStandaloneReservationByUserEmail(email)
                 .orElseThrow(() -> new ValidationException("Não é possível excluir: Nenhuma reserva ativa encontrada para o e-mail: " + email));
 
         persistenceGateway.deleteById(activeReservation.id());
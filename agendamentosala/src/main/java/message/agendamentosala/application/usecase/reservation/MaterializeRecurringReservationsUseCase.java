@@ -0,0 +1,76 @@
+package message.agendamentosala.application.usecase.reservation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import message.agendamentosala.domain.model.RecurrenceMaterialization;
+import message.agendamentosala.domain.model.RecurrenceRule;
+import message.agendamentosala.domain.model.Reservation;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.TimeWindow;
+import message.agendamentosala.infrastructure.config.RecurrenceProperties;
+import message.agendamentosala.infrastructure.gateway.persistence.recurrence.RecurrenceRulePersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Transforma em reservas as ocorrências que entraram no horizonte desde a última execução.
+// Um horário ocupado por outra reserva nesse meio tempo é pulado; o restante da série segue normalmente, e as
+// ocorrências puladas voltam no resultado para quem chamou.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MaterializeRecurringReservationsUseCase {
+
+    private final RecurrenceRulePersistenceGateway recurrenceGateway;
+    private final ReservationPersistenceGateway reservationGateway;
+    private final RecurrenceProperties recurrenceProperties;
+    private final ReservationAdmissionLocks admissionLocks;
+
+    public RecurrenceMaterialization execute() {
+        LocalDate today = LocalDate.now();
+        LocalDate horizon = today.plusDays(recurrenceProperties.horizonDays());
+
+        int created = 0;
+        List<Reservation> skipped = new ArrayList<>();
+        for (RecurrenceRule rule : recurrenceGateway.findPendingMaterialization(horizon)) {
+            // Mesmas travas da criação de reservas: a conferência de conflito e a gravação não se intercalam
+            // com outra reserva da sala.
+            created += admissionLocks.withRoomAndUser(rule.roomName(), rule.userEmail(),
+                    () -> materialize(rule, today, horizon, skipped));
+        }
+        return new RecurrenceMaterialization(created, skipped);
+    }
+
+    private int materialize(RecurrenceRule rule, LocalDate today, LocalDate horizon, List<Reservation> skipped) {
+        LocalDate nextDay = rule.materializedUntil().plusDays(1);
+        LocalDate from = nextDay.isBefore(today) ? today : nextDay;
+        LocalDate to = rule.untilDate().isBefore(horizon) ? rule.untilDate() : horizon;
+
+        List<Reservation> occurrences = rule.occurrences(from, to, RoomStatus.PENDING).toList();
+        List<TimeWindow> windows = occurrences.stream()
+                .map(r -> new TimeWindow(r.startDateTime(), r.endDateTime()))
+                .collect(Collectors.toList());
+        List<Boolean> conflicts = reservationGateway.findConflicts(rule.roomName(), windows);
+
+        List<Reservation> free = new ArrayList<>();
+        for (int i = 0; i < occurrences.size(); i++) {
+            if (conflicts.get(i)) {
+                log.warn("Regra {} de {}: horário de {} na sala {} já está reservado. Ocorrência ignorada.",
+                        rule.id(), rule.userEmail(), occurrences.get(i).startDateTime(), rule.roomName());
+                skipped.add(occurrences.get(i));
+            } else {
+                free.add(occurrences.get(i));
+            }
+        }
+
+        if (!free.isEmpty()) {
+            reservationGateway.saveAll(free, rule.id());
+        }
+        recurrenceGateway.save(rule.withMaterializedUntil(to));
+        return free.size();
+    }
+}
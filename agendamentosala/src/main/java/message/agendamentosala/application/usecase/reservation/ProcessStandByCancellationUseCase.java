@@ -1,49 +1,41 @@
 package message.agendamentosala.application.usecase.reservation;
 
 import lombok.RequiredArgsConstructor;
-import message.agendamentosala.domain.model.Reservation;
-import message.agendamentosala.domain.model.RoomStatus;
+import lombok.extern.slf4j.Slf4j;
+import message.agendamentosala.domain.model.StatusTransition;
 import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProcessStandByCancellationUseCase {
 
     private final ReservationPersistenceGateway persistenceGateway;
 
+    // STAND_BY -> AVAILABLE num único UPDATE condicional: se a reserva já foi confirmada (ou excluída), nada muda.
     @Transactional
     public void execute(Long reservationId) {
 
-        Reservation reservation = persistenceGateway.findById(reservationId)
-                .orElse(null);
-
-        if (reservation == null) {
-            System.out.println("Cancelamento do CONSUMER - ID da reserva: " + reservationId + " Não encontrado. Ignorando.");
-            return;
+        if (persistenceGateway.transition(reservationId, StatusTransition.EXPIRE)) {
+            log.info("ID da reserva {}: tempo limite excedido. O status foi alterado de STAND_BY para AVAILABLE.",
+                    reservationId);
+        } else {
+            log.debug("ID da reserva {} não encontrada ou fora de STAND_BY. Ignorando o vencimento.", reservationId);
         }
+    }
 
-        if (reservation.status() == RoomStatus.STAND_BY) {
-
-            Reservation cancelledReservation = new Reservation(
-                    reservation.id(),
-                    reservation.userEmail(),
-                    reservation.roomName(),
-                    reservation.requiredPeople(),
-                    reservation.startDateTime(),
-                    reservation.endDateTime(),
-                    RoomStatus.AVAILABLE
-            );
-
-            persistenceGateway.save(cancelledReservation);
+    // Vários prazos vencidos de uma vez (lote da fila ou tick da roda de tempo), com um único UPDATE condicional.
+    @Transactional
+    public int execute(List<Long> reservationIds) {
 
-            System.out.println("Cancelamento do CONSUMER - ID da reserva: " + reservationId +
-                    " Tempo limite excedido. O status foi alterado de STAND_BY para AVAILABLE..");
+        int cancelled = persistenceGateway.transition(reservationIds, StatusTransition.EXPIRE);
 
-        } else {
-            System.out.println("Cancelamento do CONSUMER - ID da reserva: " + reservationId +
-                    " O status já é: " + reservation.status() + ". Ignorando TTL message.");
-        }
+        log.info("Cancelamento em lote: {} de {} reservas passaram de STAND_BY para AVAILABLE.",
+                cancelled, reservationIds.size());
+        return cancelled;
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,9 @@
 package message.agendamentosala.application.usecase.reservation;
 
 import lombok.RequiredArgsConstructor;
-import message.agendamentosala.domain.model.Reservation;
 import message.agendamentosala.domain.validator.EmailValidator;
 import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationView;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,10 +14,10 @@ public class ReadReservationUseCase {
 
     private final ReservationPersistenceGateway persistenceGateway;
 
-    public List<Reservation> findActiveByEmail(String email) {
+    public List<ReservationView> findActiveByEmail(String email) {
         EmailValidator.validate(email);
 
-        List<Reservation> activeReservations = persistenceGateway.findActiveReservationsByUserEmail(email);
+        List<ReservationView> activeReservations = persistenceGateway.findActiveReservationViewsByUserEmail(email);
 
         if (activeReservations.isEmpty()) {
             return activeReservations;
@@ -0,0 +1,91 @@
+package message.agendamentosala.application.usecase.reservation;
+
+import message.agendamentosala.domain.model.RoomName;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Fecha a janela entre conferir as regras de uma reserva e gravá-la, dentro de um mesmo nó: enquanto uma reserva
+// é admitida, nenhuma outra entra para a mesma sala nem para o mesmo usuário.
+// Cada sala tem a sua trava, então salas diferentes nunca se disputam. Os usuários são distribuídos em faixas
+// (USER_STRIPES travas, escolhidas pelo hash do e-mail): dois usuários só esperam um pelo outro se caírem na
+// mesma faixa. A ordem é sempre sala e depois usuário (salas na ordem do enum, faixas em ordem crescente quando
+// há várias), o que impede deadlock. Todo caminho que grava reservas novas passa por aqui: criação avulsa,
+// lote, recorrência e materialização das ocorrências.
+// ReentrantLock e não synchronized: quem chama roda nas threads virtuais das requisições.
+@Component
+public class ReservationAdmissionLocks {
+
+    static final int USER_STRIPES = 1024;
+
+    private final Map<RoomName, ReentrantLock> roomLocks = new EnumMap<>(RoomName.class);
+    private final ReentrantLock[] userLocks = new ReentrantLock[USER_STRIPES];
+
+    public ReservationAdmissionLocks() {
+        for (RoomName roomName : RoomName.values()) {
+            roomLocks.put(roomName, new ReentrantLock());
+        }
+        for (int i = 0; i < USER_STRIPES; i++) {
+            userLocks[i] = new ReentrantLock();
+        }
+    }
+
+    // Sem sala não há o que proteger (a admissão vai recusar a reserva), então só a trava do usuário é tomada.
+    public <T> T withRoomAndUser(RoomName roomName, String userEmail, Supplier<T> admission) {
+        ReentrantLock roomLock = roomName == null ? null : roomLocks.get(roomName);
+        ReentrantLock userLock = userLocks[stripe(userEmail)];
+
+        if (roomLock != null) {
+            roomLock.lock();
+        }
+        try {
+            userLock.lock();
+            try {
+                return admission.get();
+            } finally {
+                userLock.unlock();
+            }
+        } finally {
+            if (roomLock != null) {
+                roomLock.unlock();
+            }
+        }
+    }
+
+    // Várias salas e usuários de uma vez (lote de reservas): todas as travas são tomadas antes da admissão.
+    public <T> T withRoomsAndUsers(Collection<RoomName> roomNames, Collection<String> userEmails, Supplier<T> admission) {
+        List<ReentrantLock> locks = new ArrayList<>();
+        EnumSet<RoomName> rooms = EnumSet.noneOf(RoomName.class);
+        roomNames.stream().filter(Objects::nonNull).forEach(rooms::add);
+        rooms.forEach(roomName -> locks.add(roomLocks.get(roomName)));
+        userEmails.stream().mapToInt(ReservationAdmissionLocks::stripe).distinct().sorted()
+                .forEach(stripe -> locks.add(userLocks[stripe]));
+
+        int held = 0;
+        try {
+            for (ReentrantLock lock : locks) {
+                lock.lock();
+                held++;
+            }
+            return admission.get();
+        } finally {
+            for (int i = held - 1; i >= 0; i--) {
+                locks.get(i).unlock();
+            }
+        }
+    }
+
+    // Espalha os bits altos do hash antes de aplicar a máscara, como o HashMap.
+    static int stripe(String userEmail) {
+        int hash = Objects.hashCode(userEmail);
+        return (hash ^ (hash >>> 16)) & (USER_STRIPES - 1);
+    }
+}
@@ -0,0 +1,93 @@
+package message.agendamentosala.application.usecase.room;
+
+import lombok.RequiredArgsConstructor;
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.model.AvailableSlot;
+import message.agendamentosala.domain.model.BusinessHours;
+import message.agendamentosala.domain.model.Room;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.TimeWindow;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class FindNextAvailableSlotsUseCase {
+
+    public static final int MAX_SEARCH_DAYS = 30;
+    public static final int MAX_RESULTS = 20;
+    private static final int SLOT_MINUTES = BusinessHours.SLOT_MINUTES;
+
+    private final RoomPersistenceGateway roomGateway;
+    private final ReservationPersistenceGateway reservationGateway;
+
+    public List<AvailableSlot> execute(int requiredPeople, int durationMinutes, LocalDateTime earliestStart, int limit) {
+
+        if (requiredPeople <= 0) {
+            throw new ValidationException("O número de pessoas necessárias deve ser maior que zero.");
+        }
+        if (durationMinutes < BusinessHours.MINIMUM_RESERVATION_MINUTES) {
+            throw new ValidationException("O tempo mínimo para reserva é de " + BusinessHours.MINIMUM_RESERVATION_MINUTES + " min.");
+        }
+        if (durationMinutes % SLOT_MINUTES != 0) {
+            throw new ValidationException("A duração da reserva deve ser múltipla de " + SLOT_MINUTES + " min.");
+        }
+        if (limit <= 0 || limit > MAX_RESULTS) {
+            throw new ValidationException("A quantidade de opções deve estar entre 1 e " + MAX_RESULTS + ".");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime notBefore = roundUpToSlot(earliestStart.isBefore(now) ? now : earliestStart);
+
+        List<RoomName> candidateRooms = roomGateway.findAll().stream()
+                .map(Room::name)
+                .filter(name -> name.getCapacity() >= requiredPeople)
+                .sorted(Comparator.comparingInt(RoomName::getCapacity))
+                .collect(Collectors.toList());
+
+        if (candidateRooms.isEmpty()) {
+            throw new ValidationException("Nenhuma sala comporta " + requiredPeople + " pessoas.");
+        }
+
+        // Os dias são percorridos em ordem; dentro de um dia, cada período livre de cada sala gera no máximo
+        // uma opção (o início mais cedo possível), então basta fechar o dia em que o limite for atingido.
+        List<AvailableSlot> options = new ArrayList<>();
+        LocalDate lastDay = notBefore.toLocalDate().plusDays(MAX_SEARCH_DAYS);
+        for (LocalDate day = notBefore.toLocalDate(); day.isBefore(lastDay) && options.size() < limit; day = day.plusDays(1)) {
+            List<AvailableSlot> dayOptions = new ArrayList<>();
+            for (RoomName roomName : candidateRooms) {
+                for (TimeWindow free : reservationGateway.findFreeWindows(roomName, day)) {
+                    // Uma reserva antiga, de antes da grade de 5 min, pode terminar fora dela.
+                    LocalDateTime start = free.startDateTime().isBefore(notBefore) ? notBefore : roundUpToSlot(free.startDateTime());
+                    LocalDateTime end = start.plusMinutes(durationMinutes);
+                    if (!end.isAfter(free.endDateTime())) {
+                        dayOptions.add(new AvailableSlot(roomName, start, end));
+                    }
+                }
+            }
+            dayOptions.sort(Comparator.comparing(AvailableSlot::startDateTime)
+                    .thenComparingInt(slot -> slot.roomName().getCapacity()));
+            options.addAll(dayOptions);
+        }
+
+        return options.size() > limit ? new ArrayList<>(options.subList(0, limit)) : options;
+    }
+
+    private LocalDateTime roundUpToSlot(LocalDateTime time) {
+        LocalDateTime truncated = time.truncatedTo(ChronoUnit.MINUTES);
+        if (truncated.isBefore(time)) {
+            truncated = truncated.plusMinutes(1);
+        }
+        int remainder = truncated.getMinute() % SLOT_MINUTES;
+        return remainder == 0 ? truncated : truncated.plusMinutes(SLOT_MINUTES - remainder);
+    }
+}
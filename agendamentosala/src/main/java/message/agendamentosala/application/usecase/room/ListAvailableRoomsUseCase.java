@@ -2,13 +2,18 @@ package message.agendamentosala.application.usecase.room;
 
 import lombok.RequiredArgsConstructor;
 import message.agendamentosala.domain.exception.ValidationException;
-import message.agendamentosala.domain.model.Room;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.TimeWindow;
 import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
 import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomView;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,16 +23,40 @@ public class ListAvailableRoomsUseCase {
     private final RoomPersistenceGateway roomGateway;
     private final ReservationPersistenceGateway reservationGateway;
 
-    public List<Room> execute(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+    public List<RoomView> execute(LocalDateTime startDateTime, LocalDateTime endDateTime) {
 
+        validateWindow(startDateTime, endDateTime);
+
+        Set<RoomName> conflictingRooms = reservationGateway.findConflictingRoomNames(startDateTime, endDateTime);
+
+        return withoutConflicts(roomGateway.findAllViews(), conflictingRooms);
+    }
+
+    public Map<TimeWindow, List<RoomView>> execute(List<TimeWindow> windows) {
+
+        if (windows == null || windows.isEmpty()) {
+            throw new ValidationException("Informe ao menos um período.");
+        }
+        windows.forEach(window -> validateWindow(window.startDateTime(), window.endDateTime()));
+
+        Map<TimeWindow, Set<RoomName>> conflictsByWindow = reservationGateway.findConflictingRoomNames(windows);
+        List<RoomView> allRooms = roomGateway.findAllViews();
+
+        Map<TimeWindow, List<RoomView>> availableByWindow = new LinkedHashMap<>();
+        conflictsByWindow.forEach((window, conflictingRooms) ->
+                availableByWindow.put(window, withoutConflicts(allRooms, conflictingRooms)));
+        return availableByWindow;
+    }
+
+    private void validateWindow(LocalDateTime startDateTime, LocalDateTime endDateTime) {
         if (startDateTime.isAfter(endDateTime) || startDateTime.isEqual(endDateTime)) {
             throw new ValidationException("O horário de início deve ser anterior ao horário de término.");
         }
+    }
 
-        List<Room> allRooms = roomGateway.findAll();
-
-        return allRooms.stream()
-                .filter(room -> !reservationGateway.hasConflict(room.name(), startDateTime, endDateTime))
+    private List<RoomView> withoutConflicts(List<RoomView> rooms, Set<RoomName> conflictingRooms) {
+        return rooms.stream()
+                .filter(room -> !conflictingRooms.contains(room.name()))
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
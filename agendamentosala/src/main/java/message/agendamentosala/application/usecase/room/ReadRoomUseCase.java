@@ -2,8 +2,8 @@ package message.agendamentosala.application.usecase.room;
 
 import lombok.RequiredArgsConstructor;
 import message.agendamentosala.domain.exception.ValidationException;
-import message.agendamentosala.domain.model.Room;
 import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomView;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,12 +14,12 @@ public class ReadRoomUseCase {
 
     private final RoomPersistenceGateway persistenceGateway;
 
-    public List<Room> findAll() {
-        return persistenceGateway.findAll();
+    public List<RoomView> findAll() {
+        return persistenceGateway.findAllViews();
     }
 
-    public Room findById(Long id) {
-        return persistenceGateway.findById(id)
+    public RoomView findById(Long id) {
+        return persistenceGateway.findViewById(id)
                 .orElseThrow(() -> new ValidationException("Sala não encontrada para esse ID: " + id));
     }
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package message.agendamentosala.application.usecase.room;
+
+import lombok.RequiredArgsConstructor;
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.model.BusinessHours;
+import message.agendamentosala.domain.model.Room;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomRecommendation;
+import message.agendamentosala.domain.model.TimeWindow;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class RecommendRoomsUseCase {
+
+    private final RoomPersistenceGateway roomGateway;
+    private final ReservationPersistenceGateway reservationGateway;
+
+    // Ordena as salas livres pela menor capacidade suficiente e, em seguida, pelos minutos que a reserva
+    // deixaria presos em sobras menores que o tempo mínimo de reserva (inutilizáveis para outra pessoa).
+    public List<RoomRecommendation> execute(int requiredPeople, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+
+        if (requiredPeople <= 0) {
+            throw new ValidationException("O número de pessoas necessárias deve ser maior que zero.");
+        }
+        if (startDateTime.isAfter(endDateTime) || startDateTime.isEqual(endDateTime)) {
+            throw new ValidationException("O horário de início deve ser anterior ao horário de término.");
+        }
+
+        Set<RoomName> conflictingRooms = reservationGateway.findConflictingRoomNames(startDateTime, endDateTime);
+
+        return roomGateway.findAll().stream()
+                .map(Room::name)
+                .filter(name -> name.getCapacity() >= requiredPeople)
+                .filter(name -> !conflictingRooms.contains(name))
+                .map(name -> new RoomRecommendation(name, name.getCapacity(),
+                        fragmentedMinutes(name, startDateTime, endDateTime)))
+                .sorted(Comparator.comparingInt(RoomRecommendation::capacity)
+                        .thenComparingLong(RoomRecommendation::fragmentedMinutes)
+                        .thenComparing(RoomRecommendation::roomName))
+                .collect(Collectors.toList());
+    }
+
+    private long fragmentedMinutes(RoomName roomName, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        if (!startDateTime.toLocalDate().equals(endDateTime.toLocalDate())) {
+            return 0;
+        }
+        List<TimeWindow> freeWindows = reservationGateway.findFreeWindows(roomName, startDateTime.toLocalDate());
+        return freeWindows.stream()
+                .filter(window -> window.overlaps(startDateTime, endDateTime))
+                .findFirst()
+                .map(window -> unusable(window.startDateTime(), startDateTime) + unusable(endDateTime, window.endDateTime()))
+                .orElse(0L);
+    }
+
+    private long unusable(LocalDateTime from, LocalDateTime to) {
+        long minutes = Math.max(0, Duration.between(from, to).toMinutes());
+        return minutes < BusinessHours.MINIMUM_RESERVATION_MINUTES ? minutes : 0;
+    }
+}
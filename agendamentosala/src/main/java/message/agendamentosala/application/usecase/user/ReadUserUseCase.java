@@ -2,9 +2,9 @@ package message.agendamentosala.application.usecase.user;
 
 import lombok.RequiredArgsConstructor;
 import message.agendamentosala.domain.exception.ValidationException;
-import message.agendamentosala.domain.model.User;
 import message.agendamentosala.domain.validator.EmailValidator;
 import message.agendamentosala.infrastructure.gateway.persistence.user.UserPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.user.UserView;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -13,11 +13,11 @@ public class ReadUserUseCase {
 
     private final UserPersistenceGateway persistenceGateway;
 
-    public User execute(String email) {
+    public UserView execute(String email) {
 
         EmailValidator.validate(email);
 
-        return persistenceGateway.findByEmail(email)
+        return persistenceGateway.findViewByEmail(email)
                 .orElseThrow(() -> new ValidationException("Usuário não cadastrado: " + email));
     }
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package message.agendamentosala.domain.model;
+
+import java.time.LocalDateTime;
+
+public record AvailableSlot(RoomName roomName,
+                            LocalDateTime startDateTime,
+                            LocalDateTime endDateTime) {
+}
@@ -0,0 +1,62 @@
+package message.agendamentosala.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public final class BusinessHours {
+
+    public static final LocalTime OPENING_TIME = LocalTime.of(8, 0);
+    public static final LocalTime CLOSING_TIME = LocalTime.of(18, 0);
+    public static final int MINIMUM_RESERVATION_MINUTES = 30;
+    // Grade dos horários de reserva: início e término caem sempre em múltiplos de 5 min. É a mesma fatia que o
+    // banco usa para barrar sobreposições (reservation_slot), então reservas encostadas nunca disputam uma fatia.
+    public static final int SLOT_MINUTES = 5;
+    public static final String SLOT_GRID_MESSAGE =
+            "Os horários de início e término devem ser múltiplos de " + SLOT_MINUTES + " min (ex.: 09:00, 09:05, 09:10).";
+
+    private BusinessHours() {
+    }
+
+    public static boolean isOnSlotGrid(LocalTime time) {
+        return time.getMinute() % SLOT_MINUTES == 0 && time.getSecond() == 0 && time.getNano() == 0;
+    }
+
+    public static LocalDateTime openingOf(LocalDate date) {
+        return date.atTime(OPENING_TIME);
+    }
+
+    public static LocalDateTime closingOf(LocalDate date) {
+        return date.atTime(CLOSING_TIME);
+    }
+
+    // Períodos livres do expediente de "date", dados os períodos ocupados (em qualquer ordem, podendo se sobrepor).
+    public static List<TimeWindow> freeWindows(LocalDate date, List<TimeWindow> busy) {
+        LocalDateTime cursor = openingOf(date);
+        LocalDateTime closing = closingOf(date);
+
+        List<TimeWindow> sorted = new ArrayList<>(busy);
+        sorted.sort(Comparator.comparing(TimeWindow::startDateTime));
+
+        List<TimeWindow> free = new ArrayList<>();
+        for (TimeWindow window : sorted) {
+            if (!window.endDateTime().isAfter(cursor)) {
+                continue;
+            }
+            if (!window.startDateTime().isBefore(closing)) {
+                break;
+            }
+            if (window.startDateTime().isAfter(cursor)) {
+                free.add(new TimeWindow(cursor, window.startDateTime()));
+            }
+            cursor = window.endDateTime();
+        }
+        if (cursor.isBefore(closing)) {
+            free.add(new TimeWindow(cursor, closing));
+        }
+        return free;
+    }
+}
@@ -0,0 +1,15 @@
+package message.agendamentosala.domain.model;
+
+import lombok.Getter;
+
+@Getter
+public enum RecurrenceFrequency {
+    DAILY(1),
+    WEEKLY(7);
+
+    private final int stepDays;
+
+    RecurrenceFrequency(int stepDays) {
+        this.stepDays = stepDays;
+    }
+}
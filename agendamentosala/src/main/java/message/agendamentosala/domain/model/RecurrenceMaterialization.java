@@ -0,0 +1,9 @@
+package message.agendamentosala.domain.model;
+
+import java.util.List;
+
+// Resultado de uma rodada de materialização: quantas ocorrências viraram reservas e quais foram puladas
+// porque o horário já estava ocupado quando entraram no horizonte.
+public record RecurrenceMaterialization(int created,
+                                        List<Reservation> skipped) {
+}
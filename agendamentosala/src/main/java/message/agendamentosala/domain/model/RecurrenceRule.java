@@ -0,0 +1,109 @@
+package message.agendamentosala.domain.model;
+
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.validator.EmailValidator;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.stream.Stream;
+
+// Regra de uma reserva recorrente (ex.: toda segunda das 09:00 às 10:00 até uma data final).
+// As ocorrências não são guardadas na regra: são geradas sob demanda para o intervalo pedido,
+// e "materializedUntil" indica até que dia elas já viraram reservas.
+public record RecurrenceRule(Long id,
+                             String userEmail,
+                             RoomName roomName,
+                             int requiredPeople,
+                             RecurrenceFrequency frequency,
+                             LocalDate startDate,
+                             LocalDate untilDate,
+                             LocalTime startTime,
+                             LocalTime endTime,
+                             LocalDate materializedUntil
+) {
+    public static final int MAXIMUM_DURATION_MONTHS = 12;
+
+    public RecurrenceRule {
+
+        EmailValidator.validate(userEmail);
+
+        if (roomName == null) {
+            throw new ValidationException("O nome da sala é obrigatório.");
+        }
+        if (frequency == null) {
+            throw new ValidationException("A frequência da recorrência é obrigatória.");
+        }
+        if (startDate == null || untilDate == null || startTime == null || endTime == null) {
+            throw new ValidationException("As datas e os horários da recorrência são obrigatórios.");
+        }
+        if (untilDate.isBefore(startDate)) {
+            throw new ValidationException("A data final da recorrência não pode ser anterior à data inicial.");
+        }
+        if (untilDate.isAfter(startDate.plusMonths(MAXIMUM_DURATION_MONTHS))) {
+            throw new ValidationException("A recorrência pode durar no máximo " + MAXIMUM_DURATION_MONTHS + " meses.");
+        }
+        if (!endTime.isAfter(startTime)) {
+            throw new ValidationException("O horário final não pode ser anterior ou igual ao horário inicial.");
+        }
+        if (startTime.isBefore(BusinessHours.OPENING_TIME) || endTime.isAfter(BusinessHours.CLOSING_TIME)) {
+            throw new ValidationException("O tempo permitido para reserva é das 08:00 até às 18:00.");
+        }
+        if (!BusinessHours.isOnSlotGrid(startTime) || !BusinessHours.isOnSlotGrid(endTime)) {
+            throw new ValidationException(BusinessHours.SLOT_GRID_MESSAGE);
+        }
+        if (ChronoUnit.MINUTES.between(startTime, endTime) < BusinessHours.MINIMUM_RESERVATION_MINUTES) {
+            throw new ValidationException("O tempo mínimo para reserva é de 30 min.");
+        }
+        if (requiredPeople <= 0) {
+            throw new ValidationException("O número de pessoas necessárias deve ser maior que zero.");
+        }
+    }
+
+    // Datas das ocorrências entre "from" e "to" (inclusive), geradas sob demanda.
+    public Stream<LocalDate> occurrenceDates(LocalDate from, LocalDate to) {
+        LocalDate last = to.isBefore(untilDate) ? to : untilDate;
+        return Stream.iterate(firstOccurrenceOnOrAfter(from),
+                date -> !date.isAfter(last),
+                date -> date.plusDays(frequency.getStepDays()));
+    }
+
+    // As regras de criação já foram conferidas uma vez na própria regra; as ocorrências só copiam os campos.
+    // Quem chama garante que "from" não é um dia passado.
+    public Stream<Reservation> occurrences(LocalDate from, LocalDate to, RoomStatus status) {
+        return occurrenceDates(from, to).map(date -> new Reservation(
+                null,
+                userEmail,
+                roomName,
+                requiredPeople,
+                date.atTime(startTime),
+                date.atTime(endTime),
+                status
+        ));
+    }
+
+    // Se a série tem uma ocorrência em "date" que ainda não virou reserva.
+    public boolean hasPendingOccurrenceOn(LocalDate date) {
+        return (materializedUntil == null || date.isAfter(materializedUntil))
+                && !date.isBefore(startDate) && !date.isAfter(untilDate)
+                && ChronoUnit.DAYS.between(startDate, date) % frequency.getStepDays() == 0;
+    }
+
+    public boolean isFullyMaterialized() {
+        return materializedUntil != null && !materializedUntil.isBefore(untilDate);
+    }
+
+    public RecurrenceRule withMaterializedUntil(LocalDate date) {
+        return new RecurrenceRule(id, userEmail, roomName, requiredPeople, frequency,
+                startDate, untilDate, startTime, endTime, date);
+    }
+
+    private LocalDate firstOccurrenceOnOrAfter(LocalDate from) {
+        if (!from.isAfter(startDate)) {
+            return startDate;
+        }
+        long step = frequency.getStepDays();
+        long steps = (ChronoUnit.DAYS.between(startDate, from) + step - 1) / step;
+        return startDate.plusDays(steps * step);
+    }
+}
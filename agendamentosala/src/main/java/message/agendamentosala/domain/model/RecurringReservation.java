@@ -0,0 +1,7 @@
+package message.agendamentosala.domain.model;
+
+import java.util.List;
+
+public record RecurringReservation(RecurrenceRule rule,
+                                   List<Reservation> reservations) {
+}
@@ -6,6 +6,9 @@ import message.agendamentosala.domain.validator.EmailValidator;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 
+// O construtor do record não valida: ele reconstitui reservas já gravadas (que podem ser de dias passados)
+// e produz as transições de status. Reservas novas, vindas da entrada do usuário, entram por create(...),
+// que aplica as regras de criação uma única vez.
 public record Reservation(Long id,
                           String userEmail,
                           RoomName roomName,
@@ -14,7 +17,13 @@ public record Reservation(Long id,
                           LocalDateTime endDateTime,
                           RoomStatus status
 ) {
-    public Reservation {
+
+    public static Reservation create(String userEmail,
+                                     RoomName roomName,
+                                     int requiredPeople,
+                                     LocalDateTime startDateTime,
+                                     LocalDateTime endDateTime,
+                                     RoomStatus status) {
 
         EmailValidator.validate(userEmail);
 
@@ -36,6 +45,10 @@ public record Reservation(Long id,
             throw new ValidationException("O tempo permitido para reserva é das 08:00 até às 18:00.");
         }
 
+        if (!BusinessHours.isOnSlotGrid(startDateTime.toLocalTime()) || !BusinessHours.isOnSlotGrid(endDateTime.toLocalTime())) {
+            throw new ValidationException(BusinessHours.SLOT_GRID_MESSAGE);
+        }
+
         long durationMinutes = ChronoUnit.MINUTES.between(startDateTime, endDateTime);
         if (durationMinutes < 30) {
             throw new ValidationException("O tempo mínimo para reserva é de 30 min.");
@@ -44,12 +57,11 @@ public record Reservation(Long id,
         if (requiredPeople <= 0) {
             throw new ValidationException("O número de pessoas necessárias deve ser maior que zero.");
         }
+
+        return new Reservation(null, userEmail, roomName, requiredPeople, startDateTime, endDateTime, status);
     }
 
-    public Reservation confirmToPending() {
-        if (this.status != RoomStatus.STAND_BY) {
-            throw new ValidationException("Somente reservas em 'STAND_BY' podem ser confirmadas como 'PENDING'");
-        }
-        return new Reservation(id, userEmail, roomName, requiredPeople, startDateTime, endDateTime, RoomStatus.PENDING);
+    public Reservation withStatus(RoomStatus newStatus) {
+        return new Reservation(id, userEmail, roomName, requiredPeople, startDateTime, endDateTime, newStatus);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,10 @@
+package message.agendamentosala.domain.model;
+
+import java.time.LocalDateTime;
+
+public record ReservationBatchItem(String userEmail,
+                                   RoomName roomName,
+                                   int requiredPeople,
+                                   LocalDateTime startDateTime,
+                                   LocalDateTime endDateTime) {
+}
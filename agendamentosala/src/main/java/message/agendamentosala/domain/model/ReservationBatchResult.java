@@ -0,0 +1,18 @@
+package message.agendamentosala.domain.model;
+
+public record ReservationBatchResult(int index,
+                                     Reservation reservation,
+                                     String error) {
+
+    public static ReservationBatchResult success(int index, Reservation reservation) {
+        return new ReservationBatchResult(index, reservation, null);
+    }
+
+    public static ReservationBatchResult failure(int index, String error) {
+        return new ReservationBatchResult(index, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
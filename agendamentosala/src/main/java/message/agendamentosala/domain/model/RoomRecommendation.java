@@ -0,0 +1,6 @@
+package message.agendamentosala.domain.model;
+
+public record RoomRecommendation(RoomName roomName,
+                                 int capacity,
+                                 long fragmentedMinutes) {
+}
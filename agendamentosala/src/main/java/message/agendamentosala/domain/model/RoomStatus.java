@@ -1,8 +1,25 @@
 package message.agendamentosala.domain.model;
 
+import java.util.List;
+
 public enum RoomStatus {
     AVAILABLE,
     STAND_BY,
     PENDING,
-    CHECKED_IN
+    CHECKED_IN;
+
+    public static final List<RoomStatus> ACTIVE_STATUSES = List.of(STAND_BY, PENDING, CHECKED_IN);
+
+    public boolean isActive() {
+        return ACTIVE_STATUSES.contains(this);
+    }
+
+    public boolean canTransitionTo(RoomStatus target) {
+        for (StatusTransition transition : StatusTransition.values()) {
+            if (transition.getFrom() == this && transition.getTo() == target) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,20 @@
+package message.agendamentosala.domain.model;
+
+import lombok.Getter;
+
+// Tabela das transições de status de uma reserva. Cada uma só parte do seu status de origem: a persistência
+// aplica como UPDATE ... WHERE id = ? AND status = "from", então entre duas transições concorrentes só uma vence.
+@Getter
+public enum StatusTransition {
+    CONFIRM(RoomStatus.STAND_BY, RoomStatus.PENDING),
+    EXPIRE(RoomStatus.STAND_BY, RoomStatus.AVAILABLE),
+    CHECK_IN(RoomStatus.PENDING, RoomStatus.CHECKED_IN);
+
+    private final RoomStatus from;
+    private final RoomStatus to;
+
+    StatusTransition(RoomStatus from, RoomStatus to) {
+        this.from = from;
+        this.to = to;
+    }
+}
@@ -0,0 +1,10 @@
+package message.agendamentosala.domain.model;
+
+import java.time.LocalDateTime;
+
+public record TimeWindow(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return start.isBefore(endDateTime) && end.isAfter(startDateTime);
+    }
+}
@@ -10,8 +10,53 @@ public class EmailValidator {
             throw new ValidationException("O e-mail não pode ser nulo ou vazio.");
         }
 
-        if (!email.matches("(?i)^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,}$")) {
+        if (!isWellFormed(email)) {
             throw new ValidationException("Formato de e-mail inválido.");
         }
     }
-}
\ No newline at end of file
+
+    // Leitura única, sem alocação, equivalente a "(?i)^[A-Z0-9._%+-]+@[A-Z0-9.-]+\.[A-Z]{2,}$":
+    // parte local não vazia, um único "@", domínio só com letras, dígitos, "." e "-", e depois do
+    // último "." do domínio ao menos duas letras, com algo antes desse ponto.
+    private static boolean isWellFormed(String email) {
+        int length = email.length();
+        int at = -1;
+        int lastDot = -1;
+
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                if (at >= 0) {
+                    return false;
+                }
+                at = i;
+            } else if (at < 0) {
+                if (!isLetterOrDigit(c) && c != '.' && c != '_' && c != '%' && c != '+' && c != '-') {
+                    return false;
+                }
+            } else if (c == '.') {
+                lastDot = i;
+            } else if (!isLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+
+        if (at < 1 || lastDot < at + 2 || length - lastDot - 1 < 2) {
+            return false;
+        }
+        for (int i = lastDot + 1; i < length; i++) {
+            if (!isLetter(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9');
+    }
+}
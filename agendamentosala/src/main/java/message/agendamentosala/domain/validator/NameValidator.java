@@ -10,8 +10,26 @@ public class NameValidator {
             throw new ValidationException("O nome não pode ser nulo ou vazio.");
         }
 
-        if (!name.matches("^[a-zA-Z\\s'-]+$")) {
+        if (!isWellFormed(name)) {
             throw new ValidationException("O nome não pode conter números ou caracteres especiais.");
         }
     }
-}
\ No newline at end of file
+
+    // Leitura única, sem alocação, equivalente a "^[a-zA-Z\s'-]+$", em que \s é o espaço em branco
+    // ASCII do java.util.regex: espaço, \t, \n, \x0B, \f e \r.
+    private static boolean isWellFormed(String name) {
+        int length = name.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            boolean letter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+            boolean whitespace = c == ' ' || (c >= '\t' && c <= '\r');
+            if (!letter && !whitespace && c != '\'' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,12 @@
+package message.agendamentosala.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// enabled: carrega o índice de conflitos em memória (ReservationConflictIndex) na subida.
+// O índice de cada instância só recebe as reservas gravadas por ela mesma depois da carga; com mais de uma
+// instância, use false para que as consultas de conflito, disponibilidade, próximos horários e recomendações
+// leiam o banco. A gravação é protegida por reservation_slot nos dois casos.
+@ConfigurationProperties(prefix = "reservation.conflict-index")
+public record ConflictIndexProperties(@DefaultValue("true") boolean enabled) {
+}
@@ -0,0 +1,9 @@
+package message.agendamentosala.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ConflictIndexProperties.class)
+public class PersistenceConfig {
+}
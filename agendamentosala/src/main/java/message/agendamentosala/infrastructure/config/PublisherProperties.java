@@ -0,0 +1,17 @@
+package message.agendamentosala.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// Publicação assíncrona das mensagens de reserva (ver ReservationMessagePublisher).
+// bufferCapacity: mensagens aguardando publicação; com o buffer cheio, quem chama publica sozinho, de forma síncrona.
+// batchSize: mensagens publicadas no canal antes de esperar as confirmações do lote.
+// confirmTimeoutMillis: prazo para o broker confirmar um lote; o que não for confirmado é publicado de novo.
+// maxAttempts e retryBackoffMillis: tentativas por mensagem (nack ou sem confirmação) e pausa entre elas.
+@ConfigurationProperties(prefix = "reservation.publisher")
+public record PublisherProperties(@DefaultValue("10000") int bufferCapacity,
+                                  @DefaultValue("100") int batchSize,
+                                  @DefaultValue("5000") long confirmTimeoutMillis,
+                                  @DefaultValue("5") int maxAttempts,
+                                  @DefaultValue("200") long retryBackoffMillis) {
+}
@@ -1,10 +1,17 @@
 package message.agendamentosala.infrastructure.config;
 
+import message.agendamentosala.infrastructure.gateway.messaging.ReservationEventMessageConverter;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties(PublisherProperties.class)
 public class RabbitMQConfig {
 
     public static final String STAND_BY_DELAY_ROUTING_KEY = "standby.delay";
@@ -17,6 +24,7 @@ public class RabbitMQConfig {
     public static final String CHECK_IN_EXCHANGE = "room.checkin.exchange";
     public static final String CHECK_IN_QUEUE = "room.checkin.queue";
     public static final long STAND_BY_TTL_MS = 15 * 60 * 1000;
+    public static final String STAND_BY_BATCH_CONTAINER_FACTORY = "standByBatchContainerFactory";
 
     // --- 1. Exchanges ---
 
@@ -78,4 +86,29 @@ public class RabbitMQConfig {
                 .to(checkInExchange())
                 .with(CHECK_IN_ROUTING_KEY).noargs();
     }
+
+    // --- 4. Formato das mensagens ---
+
+    // Único MessageConverter do contexto: o Spring Boot o aplica ao RabbitTemplate e às fábricas de listener.
+    @Bean
+    public MessageConverter reservationEventMessageConverter() {
+        return new ReservationEventMessageConverter();
+    }
+
+    // --- 5. Consumo em lote ---
+
+    // A fila de cancelamento é lida em lotes de até consumerBatchSize mensagens (ou o que tiver chegado ao fim
+    // do receive-timeout), entregues ao listener como uma lista; as confirmações do lote saem juntas.
+    @Bean(STAND_BY_BATCH_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory standByBatchContainerFactory(SimpleRabbitListenerContainerFactoryConfigurer configurer,
+                                                                             ConnectionFactory connectionFactory,
+                                                                             StandByProperties properties) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(properties.consumerBatchSize());
+        factory.setPrefetchCount(Math.max(properties.consumerBatchSize(), 250));
+        return factory;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package message.agendamentosala.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// horizonDays: quantos dias à frente as ocorrências de uma recorrência viram reservas de fato.
+// Ocorrências além do horizonte só são geradas quando entram nele (ver RecurrenceMaterializationScheduler).
+@ConfigurationProperties(prefix = "reservation.recurrence")
+public record RecurrenceProperties(@DefaultValue("28") int horizonDays) {
+}
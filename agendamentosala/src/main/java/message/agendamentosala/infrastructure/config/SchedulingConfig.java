@@ -0,0 +1,11 @@
+package message.agendamentosala.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({RecurrenceProperties.class, StandByProperties.class})
+public class SchedulingConfig {
+}
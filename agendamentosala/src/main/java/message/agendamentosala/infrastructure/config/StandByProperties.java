@@ -0,0 +1,17 @@
+package message.agendamentosala.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// expiry: como o STAND_BY vence depois de RabbitMQConfig.STAND_BY_TTL_MS.
+//   "broker"       -> fila com TTL no RabbitMQ, que cai na fila de cancelamento (padrão);
+//   "timing-wheel" -> roda de tempo em memória, sem passar pelo broker (ver StandByExpiryScheduler).
+// tickMillis e batchSize só valem para a roda de tempo: precisão do vencimento e quantas reservas são
+// canceladas por transação.
+// consumerBatchSize: quantas mensagens da fila de cancelamento o consumidor recebe e confirma de uma vez.
+@ConfigurationProperties(prefix = "reservation.standby")
+public record StandByProperties(@DefaultValue("broker") String expiry,
+                                @DefaultValue("1000") long tickMillis,
+                                @DefaultValue("100") int batchSize,
+                                @DefaultValue("100") int consumerBatchSize) {
+}
@@ -3,6 +3,7 @@ package message.agendamentosala.infrastructure.consumer;
 import lombok.AllArgsConstructor;
 import message.agendamentosala.application.usecase.checkin.ProcessCheckInUseCase;
 import message.agendamentosala.infrastructure.config.RabbitMQConfig;
+import message.agendamentosala.infrastructure.gateway.messaging.ReservationEvent;
 import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Service;
@@ -14,7 +15,8 @@ public class CheckInConfirmationConsumer {
     private final ProcessCheckInUseCase checkInUseCase;
 
     @RabbitListener(queues = RabbitMQConfig.CHECK_IN_QUEUE)
-    public void receiveCheckInMessage(Long reservationId) {
+    public void receiveCheckInMessage(ReservationEvent event) {
+        long reservationId = event.reservationId();
         try {
             System.out.println("CONSUMER - Recebeu mensagem de Check-in para ID: " + reservationId);
             checkInUseCase.execute(reservationId);
@@ -1,26 +1,44 @@
 package message.agendamentosala.infrastructure.consumer;
 
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import message.agendamentosala.application.usecase.reservation.ProcessStandByCancellationUseCase;
 import message.agendamentosala.infrastructure.config.RabbitMQConfig;
-import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import message.agendamentosala.infrastructure.gateway.messaging.ReservationEvent;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
+@Slf4j
 @Service
 @AllArgsConstructor
 public class StandByCancellationConsumer {
 
     private final ProcessStandByCancellationUseCase cancellationUseCase;
 
-    @RabbitListener(queues = RabbitMQConfig.STAND_BY_CANCEL_QUEUE)
-    public void receiveCancellationMessage(Long reservationId) {
+    // Recebe até reservation.standby.consumer-batch-size IDs por entrega; o lote é cancelado numa transação
+    // e confirmado inteiro ao final. Se o lote falhar, cada ID é tentado de novo na sua própria transação, e só
+    // os que continuarem falhando ficam de fora (registrados com a exceção), como acontecia com uma mensagem por vez.
+    @RabbitListener(queues = RabbitMQConfig.STAND_BY_CANCEL_QUEUE,
+            containerFactory = RabbitMQConfig.STAND_BY_BATCH_CONTAINER_FACTORY)
+    public void receiveCancellationMessages(List<ReservationEvent> events) {
+        List<Long> reservationIds = events.stream().map(ReservationEvent::reservationId).toList();
+        try {
+            log.debug("Recebeu {} mensagens de expiração do STAND_BY.", reservationIds.size());
+            cancellationUseCase.execute(reservationIds);
+        } catch (Exception e) {
+            log.warn("Erro ao cancelar o lote de Stand By {}; tentando cada ID separadamente.", reservationIds, e);
+            reservationIds.forEach(this::cancelAlone);
+        }
+    }
+
+    private void cancelAlone(Long reservationId) {
         try {
-            System.out.println("CONSUMER - Recebeu mensagem de expiração para ID: " + reservationId);
-            cancellationUseCase.execute(reservationId);
+            cancellationUseCase.execute(List.of(reservationId));
         } catch (Exception e) {
-            System.err.println("Erro ao processar cancelamento de Stand By para ID " + reservationId + ": " + e.getMessage());
-            throw new AmqpRejectAndDontRequeueException("Erro ao processar o cancelamento do Stand By");
+            log.error("Erro ao processar cancelamento de Stand By para o ID {}; a mensagem foi descartada.",
+                    reservationId, e);
         }
     }
-}
\ No newline at end of file
+}
@@ -3,21 +3,43 @@ package message.agendamentosala.infrastructure.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import message.agendamentosala.application.usecase.checkin.ConfirmReservationUseCase;
+import message.agendamentosala.application.usecase.reservation.AutoAssignReservationUseCase;
+import message.agendamentosala.application.usecase.reservation.CancelRecurringReservationUseCase;
+import message.agendamentosala.application.usecase.reservation.CreateRecurringReservationUseCase;
+import message.agendamentosala.application.usecase.reservation.CreateReservationBatchUseCase;
 import message.agendamentosala.application.usecase.reservation.CreateReservationUseCase;
 import message.agendamentosala.application.usecase.reservation.DeleteReservationUseCase;
+import message.agendamentosala.application.usecase.room.FindNextAvailableSlotsUseCase;
 import message.agendamentosala.application.usecase.room.ListAvailableRoomsUseCase;
 import message.agendamentosala.application.usecase.checkin.TriggerCheckInUseCase;
 import message.agendamentosala.application.usecase.reservation.ReadReservationUseCase;
+import message.agendamentosala.application.usecase.room.RecommendRoomsUseCase;
+import message.agendamentosala.domain.model.RecurrenceRule;
+import message.agendamentosala.domain.model.RecurringReservation;
 import message.agendamentosala.domain.model.Reservation;
+import message.agendamentosala.domain.model.ReservationBatchItem;
+import message.agendamentosala.domain.model.TimeWindow;
+import message.agendamentosala.infrastructure.controller.request.AutoAssignReservationRequest;
+import message.agendamentosala.infrastructure.controller.request.AvailabilityRequest;
+import message.agendamentosala.infrastructure.controller.request.BulkReservationRequest;
+import message.agendamentosala.infrastructure.controller.request.RecurringReservationRequest;
 import message.agendamentosala.infrastructure.controller.request.ReservationRequest;
+import message.agendamentosala.infrastructure.controller.response.AvailabilityResponse;
+import message.agendamentosala.infrastructure.controller.response.AvailableSlotResponse;
+import message.agendamentosala.infrastructure.controller.response.BulkReservationItemResponse;
+import message.agendamentosala.infrastructure.controller.response.RecurringReservationResponse;
 import message.agendamentosala.infrastructure.controller.response.ReservationResponse;
+import message.agendamentosala.infrastructure.controller.response.RoomRecommendationResponse;
 import message.agendamentosala.infrastructure.controller.response.RoomResponse;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationView;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomView;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -31,6 +53,12 @@ public class ReservationController {
     private final TriggerCheckInUseCase triggerCheckInUseCase;
     private final ListAvailableRoomsUseCase listAvailableRoomsUseCase;
     private final DeleteReservationUseCase deleteReservationUseCase;
+    private final FindNextAvailableSlotsUseCase findNextAvailableSlotsUseCase;
+    private final RecommendRoomsUseCase recommendRoomsUseCase;
+    private final AutoAssignReservationUseCase autoAssignReservationUseCase;
+    private final CreateReservationBatchUseCase createReservationBatchUseCase;
+    private final CreateRecurringReservationUseCase createRecurringReservationUseCase;
+    private final CancelRecurringReservationUseCase cancelRecurringReservationUseCase;
 
     private ReservationResponse toResponse(Reservation reservation) {
         return new ReservationResponse(
@@ -40,13 +68,73 @@ public class ReservationController {
         );
     }
 
+    private ReservationResponse toResponse(ReservationView reservation) {
+        return new ReservationResponse(
+                reservation.id(), reservation.userEmail(), reservation.roomName(),
+                reservation.requiredPeople(), reservation.startDateTime(),
+                reservation.endDateTime(), reservation.status()
+        );
+    }
+
+    private RoomResponse toAvailableRoomResponse(RoomView room) {
+        return new RoomResponse(null, room.name(), room.getCapacity(), room.status());
+    }
+
     @GetMapping("/available")
     public ResponseEntity<List<RoomResponse>> listAvailableRooms(
             @RequestParam LocalDateTime startDateTime,
             @RequestParam LocalDateTime endDateTime) {
 
         List<RoomResponse> response = listAvailableRoomsUseCase.execute(startDateTime, endDateTime).stream()
-                .map(r -> new RoomResponse(null, r.name(), r.getCapacity(), r.status()))
+                .map(this::toAvailableRoomResponse)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/available")
+    public ResponseEntity<List<AvailabilityResponse>> listAvailableRooms(@Valid @RequestBody AvailabilityRequest request) {
+        List<TimeWindow> windows = request.windows().stream()
+                .map(w -> new TimeWindow(w.startDateTime(), w.endDateTime()))
+                .collect(Collectors.toList());
+
+        Map<TimeWindow, List<RoomView>> availableByWindow = listAvailableRoomsUseCase.execute(windows);
+
+        List<AvailabilityResponse> response = availableByWindow.entrySet().stream()
+                .map(entry -> new AvailabilityResponse(
+                        entry.getKey().startDateTime(),
+                        entry.getKey().endDateTime(),
+                        entry.getValue().stream().map(this::toAvailableRoomResponse).collect(Collectors.toList())))
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/next-available")
+    public ResponseEntity<List<AvailableSlotResponse>> findNextAvailableSlots(
+            @RequestParam int requiredPeople,
+            @RequestParam int durationMinutes,
+            @RequestParam LocalDateTime earliestStart,
+            @RequestParam(defaultValue = "5") int limit) {
+
+        List<AvailableSlotResponse> response = findNextAvailableSlotsUseCase
+                .execute(requiredPeople, durationMinutes, earliestStart, limit).stream()
+                .map(slot -> new AvailableSlotResponse(slot.roomName(), slot.roomName().getCapacity(),
+                        slot.startDateTime(), slot.endDateTime()))
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/recommendations")
+    public ResponseEntity<List<RoomRecommendationResponse>> recommendRooms(
+            @RequestParam int requiredPeople,
+            @RequestParam LocalDateTime startDateTime,
+            @RequestParam LocalDateTime endDateTime) {
+
+        List<RoomRecommendationResponse> response = recommendRoomsUseCase
+                .execute(requiredPeople, startDateTime, endDateTime).stream()
+                .map(r -> new RoomRecommendationResponse(r.roomName(), r.capacity(), r.fragmentedMinutes()))
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(response);
@@ -73,6 +161,65 @@ public class ReservationController {
         return new ResponseEntity<>(toResponse(reservation), HttpStatus.CREATED);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkReservationItemResponse>> createBulk(@Valid @RequestBody BulkReservationRequest request) {
+        List<ReservationBatchItem> items = request.reservations().stream()
+                .map(r -> new ReservationBatchItem(r.userEmail(), r.roomName(), r.requiredPeople(),
+                        r.startDateTime(), r.endDateTime()))
+                .collect(Collectors.toList());
+
+        List<BulkReservationItemResponse> response = createReservationBatchUseCase.execute(items).stream()
+                .map(result -> new BulkReservationItemResponse(
+                        result.index(),
+                        result.isSuccess(),
+                        result.isSuccess() ? toResponse(result.reservation()) : null,
+                        result.error()))
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{userEmail}/recurring")
+    public ResponseEntity<RecurringReservationResponse> createRecurring(@PathVariable String userEmail,
+                                                                        @Valid @RequestBody RecurringReservationRequest request) {
+        RecurringReservation recurring = createRecurringReservationUseCase.execute(
+                userEmail,
+                request.roomName(),
+                request.requiredPeople(),
+                request.frequency(),
+                request.startDate(),
+                request.untilDate(),
+                request.startTime(),
+                request.endTime()
+        );
+
+        RecurrenceRule rule = recurring.rule();
+        RecurringReservationResponse response = new RecurringReservationResponse(
+                rule.id(), rule.userEmail(), rule.roomName(), rule.requiredPeople(), rule.frequency(),
+                rule.startDate(), rule.untilDate(), rule.startTime(), rule.endTime(), rule.materializedUntil(),
+                recurring.reservations().stream().map(this::toResponse).collect(Collectors.toList())
+        );
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @DeleteMapping("/recurring/{recurrenceRuleId}")
+    public ResponseEntity<Void> cancelRecurring(@PathVariable Long recurrenceRuleId) {
+        cancelRecurringReservationUseCase.execute(recurrenceRuleId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{userEmail}/auto-assign")
+    public ResponseEntity<ReservationResponse> createWithAutoAssignedRoom(@PathVariable String userEmail,
+                                                                          @Valid @RequestBody AutoAssignReservationRequest request) {
+        Reservation reservation = autoAssignReservationUseCase.execute(
+                userEmail,
+                request.requiredPeople(),
+                request.startDateTime(),
+                request.endDateTime()
+        );
+        return new ResponseEntity<>(toResponse(reservation), HttpStatus.CREATED);
+    }
+
     @PostMapping("/confirm/{userEmail}")
     public ResponseEntity<ReservationResponse> confirm(@PathVariable String userEmail) {
         Reservation reservation = confirmReservationUseCase.execute(userEmail);
@@ -8,6 +8,7 @@ import message.agendamentosala.application.usecase.room.UpdateRoomUseCase;
 import message.agendamentosala.domain.model.Room;
 import message.agendamentosala.domain.model.RoomName;
 import message.agendamentosala.infrastructure.controller.response.RoomResponse;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomView;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -29,6 +30,10 @@ public class RoomController {
         return new RoomResponse(room.id(), room.name(), room.getCapacity(), room.status());
     }
 
+    private RoomResponse toResponse(RoomView room) {
+        return new RoomResponse(room.id(), room.name(), room.getCapacity(), room.status());
+    }
+
     @PostMapping("/{roomName}")
     public ResponseEntity<RoomResponse> create(@PathVariable RoomName roomName) {
         Room room = createRoomUseCase.execute(roomName);
@@ -9,6 +9,7 @@ import message.agendamentosala.application.usecase.user.UpdateUserUseCase;
 import message.agendamentosala.domain.model.User;
 import message.agendamentosala.infrastructure.controller.request.UserRequest;
 import message.agendamentosala.infrastructure.controller.response.UserResponse;
+import message.agendamentosala.infrastructure.gateway.persistence.user.UserView;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -27,6 +28,10 @@ public class UserController {
         return new UserResponse(user.fullName(), user.email());
     }
 
+    private UserResponse toResponse(UserView user) {
+        return new UserResponse(user.fullName(), user.email());
+    }
+
     @PostMapping
     public ResponseEntity<UserResponse> create(@Valid @RequestBody UserRequest request) {
         User user = createUserUseCase.execute(request.fullName(), request.email());
@@ -35,7 +40,7 @@ public class UserController {
 
     @GetMapping("/{email}")
     public ResponseEntity<UserResponse> findByEmail(@PathVariable String email) {
-        User user = readUserUseCase.execute(email);
+        UserView user = readUserUseCase.execute(email);
         return ResponseEntity.ok(toResponse(user));
     }
 
@@ -0,0 +1,12 @@
+package message.agendamentosala.infrastructure.controller.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record AvailabilityRequest(@NotEmpty(message = "Informe ao menos um período.")
+                                  @Size(max = 50, message = "É possível consultar no máximo 50 períodos por vez.")
+                                  List<@Valid TimeWindowRequest> windows) {
+}
@@ -0,0 +1,24 @@
+package message.agendamentosala.infrastructure.controller.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import message.agendamentosala.domain.model.RoomName;
+
+import java.time.LocalDateTime;
+
+public record BulkReservationItemRequest(@NotBlank(message = "O email do usuário é obrigatório.")
+                                         String userEmail,
+
+                                         @NotNull(message = "Nome da sala é obrigatório")
+                                         RoomName roomName,
+
+                                         @Min(value = 1, message = "O número mínimo de pessoas exigido é 1.")
+                                         int requiredPeople,
+
+                                         @NotNull(message = "A data e hora de início são obrigatórias.")
+                                         LocalDateTime startDateTime,
+
+                                         @NotNull(message = "A data e hora de término são obrigatórias.")
+                                         LocalDateTime endDateTime) {
+}
@@ -0,0 +1,12 @@
+package message.agendamentosala.infrastructure.controller.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkReservationRequest(@NotEmpty(message = "Informe ao menos uma reserva.")
+                                     @Size(max = 200, message = "É possível criar no máximo 200 reservas por vez.")
+                                     List<@Valid BulkReservationItemRequest> reservations) {
+}
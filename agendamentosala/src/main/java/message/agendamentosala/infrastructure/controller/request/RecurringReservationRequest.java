@@ -0,0 +1,31 @@
+package message.agendamentosala.infrastructure.controller.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import message.agendamentosala.domain.model.RecurrenceFrequency;
+import message.agendamentosala.domain.model.RoomName;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record RecurringReservationRequest(@NotNull(message = "Nome da sala é obrigatório")
+                                          RoomName roomName,
+
+                                          @Min(value = 1, message = "O número mínimo de pessoas exigido é 1.")
+                                          int requiredPeople,
+
+                                          @NotNull(message = "A frequência da recorrência é obrigatória.")
+                                          RecurrenceFrequency frequency,
+
+                                          @NotNull(message = "A data inicial é obrigatória.")
+                                          LocalDate startDate,
+
+                                          @NotNull(message = "A data final é obrigatória.")
+                                          LocalDate untilDate,
+
+                                          @NotNull(message = "O horário de início é obrigatório.")
+                                          LocalTime startTime,
+
+                                          @NotNull(message = "O horário de término é obrigatório.")
+                                          LocalTime endTime) {
+}
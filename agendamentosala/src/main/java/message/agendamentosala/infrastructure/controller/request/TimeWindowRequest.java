@@ -0,0 +1,12 @@
+package message.agendamentosala.infrastructure.controller.request;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+public record TimeWindowRequest(@NotNull(message = "A data e hora de início são obrigatórias.")
+                                LocalDateTime startDateTime,
+
+                                @NotNull(message = "A data e hora de término são obrigatórias.")
+                                LocalDateTime endDateTime) {
+}
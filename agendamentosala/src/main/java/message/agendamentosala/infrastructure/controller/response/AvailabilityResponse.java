@@ -0,0 +1,9 @@
+package message.agendamentosala.infrastructure.controller.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record AvailabilityResponse(LocalDateTime startDateTime,
+                                   LocalDateTime endDateTime,
+                                   List<RoomResponse> rooms) {
+}
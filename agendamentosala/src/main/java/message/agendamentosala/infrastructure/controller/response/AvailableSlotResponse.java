@@ -0,0 +1,11 @@
+package message.agendamentosala.infrastructure.controller.response;
+
+import message.agendamentosala.domain.model.RoomName;
+
+import java.time.LocalDateTime;
+
+public record AvailableSlotResponse(RoomName roomName,
+                                    int capacity,
+                                    LocalDateTime startDateTime,
+                                    LocalDateTime endDateTime) {
+}
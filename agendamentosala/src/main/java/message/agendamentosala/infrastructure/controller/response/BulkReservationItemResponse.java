@@ -0,0 +1,7 @@
+package message.agendamentosala.infrastructure.controller.response;
+
+public record BulkReservationItemResponse(int index,
+                                          boolean success,
+                                          ReservationResponse reservation,
+                                          String error) {
+}
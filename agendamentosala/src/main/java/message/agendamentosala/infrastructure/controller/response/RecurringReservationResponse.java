@@ -0,0 +1,21 @@
+package message.agendamentosala.infrastructure.controller.response;
+
+import message.agendamentosala.domain.model.RecurrenceFrequency;
+import message.agendamentosala.domain.model.RoomName;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public record RecurringReservationResponse(Long id,
+                                           String userEmail,
+                                           RoomName roomName,
+                                           int requiredPeople,
+                                           RecurrenceFrequency frequency,
+                                           LocalDate startDate,
+                                           LocalDate untilDate,
+                                           LocalTime startTime,
+                                           LocalTime endTime,
+                                           LocalDate materializedUntil,
+                                           List<ReservationResponse> reservations) {
+}
@@ -0,0 +1,8 @@
+package message.agendamentosala.infrastructure.controller.response;
+
+import message.agendamentosala.domain.model.RoomName;
+
+public record RoomRecommendationResponse(RoomName roomName,
+                                         int capacity,
+                                         long fragmentedMinutes) {
+}
@@ -0,0 +1,42 @@
+package message.agendamentosala.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import message.agendamentosala.domain.model.RecurrenceFrequency;
+import message.agendamentosala.domain.model.RoomName;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Entity
+@Table(name = "recurrence_rule")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurrenceRuleEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recurrence_rule_seq")
+    @SequenceGenerator(name = "recurrence_rule_seq", sequenceName = "recurrence_rule_seq", allocationSize = 50)
+    private Long id;
+
+    private String userEmail;
+
+    @Enumerated(EnumType.STRING)
+    private RoomName roomName;
+
+    private int requiredPeople;
+
+    @Enumerated(EnumType.STRING)
+    private RecurrenceFrequency frequency;
+
+    private LocalDate startDate;
+    private LocalDate untilDate;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private LocalDate materializedUntil;
+}
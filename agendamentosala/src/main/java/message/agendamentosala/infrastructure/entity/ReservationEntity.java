@@ -19,7 +19,10 @@ import java.time.LocalDateTime;
 public class ReservationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Sequência com incremento 50 (otimizador pooled): os ids são reservados em blocos na aplicação,
+    // então os INSERTs do saveAll saem em lote. O allocationSize precisa bater com o INCREMENT BY da V3.
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq")
+    @SequenceGenerator(name = "reservation_seq", sequenceName = "reservation_seq", allocationSize = 50)
     private Long id;
 
     private String userEmail;
@@ -33,4 +36,9 @@ public class ReservationEntity {
 
     @Enumerated(EnumType.STRING)
     private RoomStatus status;
+
+    // Regra que gerou a reserva, quando ela faz parte de uma recorrência. As atualizações de status
+    // reconstroem a entidade a partir do domínio, então a coluna não é sobrescrita em updates.
+    @Column(updatable = false)
+    private Long recurrenceRuleId;
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package message.agendamentosala.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import message.agendamentosala.domain.model.RoomName;
+
+import java.time.LocalDate;
+
+// Fatia de 5 min de uma sala reivindicada por uma reserva ativa (V4). A chave única
+// (room_name, slot_date, slot_index) é o que impede duas reservas sobrepostas no banco.
+@Entity
+@Table(name = "reservation_slot")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationSlotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_slot_seq")
+    @SequenceGenerator(name = "reservation_slot_seq", sequenceName = "reservation_slot_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private RoomName roomName;
+
+    private LocalDate slotDate;
+    private int slotIndex;
+
+    // Associação só para o Hibernate inserir a reserva antes das suas fatias no mesmo flush.
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "reservation_id")
+    private ReservationEntity reservation;
+}
@@ -0,0 +1,21 @@
+package message.agendamentosala.infrastructure.gateway.messaging;
+
+import message.agendamentosala.domain.model.RoomStatus;
+
+// Mensagem trocada pelas filas de reserva. "status" é o status em que a reserva estava quando o evento foi
+// publicado; o consumidor decide pelo status atual do banco (as transições são condicionais).
+public record ReservationEvent(Type type, long reservationId, RoomStatus status) {
+
+    public enum Type {
+        STAND_BY_TIMEOUT,
+        CHECK_IN
+    }
+
+    public static ReservationEvent standByTimeout(long reservationId) {
+        return new ReservationEvent(Type.STAND_BY_TIMEOUT, reservationId, RoomStatus.STAND_BY);
+    }
+
+    public static ReservationEvent checkIn(long reservationId) {
+        return new ReservationEvent(Type.CHECK_IN, reservationId, RoomStatus.PENDING);
+    }
+}
@@ -0,0 +1,98 @@
+package message.agendamentosala.infrastructure.gateway.messaging;
+
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.infrastructure.config.RabbitMQConfig;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+// Formato binário fixo dos eventos de reserva, no lugar da serialização Java de um Long (~80 bytes de
+// cabeçalho para um id de 8 bytes, e desserialização de classes arbitrárias no consumidor):
+//   [0] versão do formato  [1] tipo do evento  [2] status  [3..10] id da reserva (big-endian)
+// Os códigos de tipo e status são fixos aqui, não dependem da ordem de declaração dos enums.
+// Mensagens antigas (Long serializado, ainda nas filas durante a troca de versão) continuam sendo lidas:
+// só java.lang.Long é desserializado, e o tipo do evento sai da routing key de entrega.
+public class ReservationEventMessageConverter implements MessageConverter {
+
+    public static final String CONTENT_TYPE = "application/vnd.agendamentosala.reservation-event";
+    public static final int SIZE = 11;
+
+    private static final byte VERSION = 1;
+    private static final ReservationEvent.Type[] TYPES = {
+            ReservationEvent.Type.STAND_BY_TIMEOUT, ReservationEvent.Type.CHECK_IN
+    };
+    private static final RoomStatus[] STATUSES = {
+            RoomStatus.AVAILABLE, RoomStatus.STAND_BY, RoomStatus.PENDING, RoomStatus.CHECKED_IN
+    };
+
+    private final SimpleMessageConverter legacyConverter = new SimpleMessageConverter();
+
+    public ReservationEventMessageConverter() {
+        legacyConverter.setAllowedListPatterns(List.of(Long.class.getName(), Number.class.getName()));
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        if (!(object instanceof ReservationEvent event)) {
+            throw new MessageConversionException("Somente ReservationEvent pode ser publicado, recebido: " +
+                    (object == null ? null : object.getClass().getName()));
+        }
+        byte[] body = ByteBuffer.allocate(SIZE)
+                .put(VERSION)
+                .put(code(TYPES, event.type()))
+                .put(code(STATUSES, event.status()))
+                .putLong(event.reservationId())
+                .array();
+        messageProperties.setContentType(CONTENT_TYPE);
+        messageProperties.setContentLength(SIZE);
+        return new Message(body, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        if (!CONTENT_TYPE.equals(message.getMessageProperties().getContentType())) {
+            return fromLegacyMessage(message);
+        }
+        byte[] body = message.getBody();
+        if (body.length != SIZE || body[0] != VERSION) {
+            throw new MessageConversionException("Evento de reserva inválido: " + body.length + " bytes, versão " +
+                    (body.length > 0 ? body[0] : "-"));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(body, 1, SIZE - 1);
+        ReservationEvent.Type type = decode(TYPES, buffer.get());
+        RoomStatus status = decode(STATUSES, buffer.get());
+        return new ReservationEvent(type, buffer.getLong(), status);
+    }
+
+    private ReservationEvent fromLegacyMessage(Message message) {
+        if (!(legacyConverter.fromMessage(message) instanceof Long reservationId)) {
+            throw new MessageConversionException("Conteúdo não suportado: " + message.getMessageProperties().getContentType());
+        }
+        String routingKey = message.getMessageProperties().getReceivedRoutingKey();
+        if (RabbitMQConfig.CHECK_IN_ROUTING_KEY.equals(routingKey)) {
+            return ReservationEvent.checkIn(reservationId);
+        }
+        return ReservationEvent.standByTimeout(reservationId);
+    }
+
+    private static <T> byte code(T[] table, T value) {
+        for (int i = 0; i < table.length; i++) {
+            if (table[i] == value) {
+                return (byte) i;
+            }
+        }
+        throw new MessageConversionException("Valor sem código no formato binário: " + value);
+    }
+
+    private static <T> T decode(T[] table, byte code) {
+        if (code < 0 || code >= table.length) {
+            throw new MessageConversionException("Código desconhecido no evento de reserva: " + code);
+        }
+        return table[code];
+    }
+}
@@ -0,0 +1,258 @@
+package message.agendamentosala.infrastructure.gateway.messaging;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import message.agendamentosala.infrastructure.config.PublisherProperties;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Publicação assíncrona das mensagens de reserva. A thread da requisição só coloca a mensagem num buffer limitado;
+// uma thread própria esvazia o buffer em lotes, publica cada lote num único canal (invoke) com publisher confirms
+// correlacionados e espera as confirmações do lote de uma vez. O que voltar com nack, ou não for confirmado no
+// prazo, é publicado de novo até maxAttempts.
+// Com o buffer cheio, quem chama publica de forma síncrona: a requisição fica mais lenta, mas a mensagem não se perde.
+// As métricas (profundidade do buffer, latência de confirmação, nacks, descartes) ficam expostas por JMX.
+@Slf4j
+@Component
+@ManagedResource(objectName = "agendamentosala:type=Messaging,name=ReservationMessagePublisher")
+public class ReservationMessagePublisher {
+
+    private static final long POLL_MILLIS = 100;
+
+    // lastFailure: por que a última tentativa não foi confirmada (falha na publicação, nack ou prazo esgotado).
+    private record OutboundMessage(String exchange, String routingKey, Object payload, int attempt,
+                                   Throwable lastFailure) {
+
+        OutboundMessage nextAttempt() {
+            return new OutboundMessage(exchange, routingKey, payload, attempt + 1, null);
+        }
+
+        OutboundMessage failedWith(Throwable failure) {
+            return new OutboundMessage(exchange, routingKey, payload, attempt, failure);
+        }
+    }
+
+    private final RabbitTemplate rabbitTemplate;
+    private final PublisherProperties properties;
+    private final BlockingQueue<OutboundMessage> buffer;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder confirmed = new LongAdder();
+    private final LongAdder unconfirmed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder publishedSynchronously = new LongAdder();
+    private final LongAdder confirmLatencyNanos = new LongAdder();
+    private final LongAccumulator maxConfirmLatencyNanos = new LongAccumulator(Math::max, 0);
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public ReservationMessagePublisher(RabbitTemplate rabbitTemplate, PublisherProperties properties) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(properties.bufferCapacity());
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform().name("reservation-publisher").daemon().start(this::run);
+    }
+
+    // Para de aceitar trabalho na thread própria e publica o que ainda estiver no buffer antes de fechar.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(properties.confirmTimeoutMillis() + POLL_MILLIS);
+        }
+        drain();
+    }
+
+    public void publish(String exchange, String routingKey, Object payload) {
+        OutboundMessage message = new OutboundMessage(exchange, routingKey, payload, 1, null);
+        if (!buffer.offer(message)) {
+            publishedSynchronously.increment();
+            deliver(List.of(message));
+        }
+    }
+
+    // Publica na thread de quem chama tudo o que estiver no buffer. Devolve quantas mensagens saíram do buffer.
+    public int drain() {
+        int drained = 0;
+        List<OutboundMessage> batch = new ArrayList<>(properties.batchSize());
+        while (buffer.drainTo(batch, properties.batchSize()) > 0) {
+            drained += batch.size();
+            deliver(batch);
+            batch = new ArrayList<>(properties.batchSize());
+        }
+        return drained;
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                OutboundMessage first = buffer.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<OutboundMessage> batch = new ArrayList<>(properties.batchSize());
+                batch.add(first);
+                buffer.drainTo(batch, properties.batchSize() - 1);
+                deliver(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void deliver(List<OutboundMessage> batch) {
+        List<OutboundMessage> pending = batch;
+        while (!pending.isEmpty()) {
+            List<OutboundMessage> retry = new ArrayList<>();
+            for (OutboundMessage message : publishBatch(pending)) {
+                if (message.attempt() >= properties.maxAttempts()) {
+                    dropped.increment();
+                    log.error("Mensagem para {} ({}) descartada após {} tentativas sem confirmação.",
+                            message.routingKey(), message.payload(), message.attempt(), message.lastFailure());
+                } else {
+                    retried.increment();
+                    retry.add(message.nextAttempt());
+                }
+            }
+            pending = retry;
+            if (!pending.isEmpty()) {
+                pause(properties.retryBackoffMillis());
+            }
+        }
+    }
+
+    // Devolve as mensagens do lote que o broker não confirmou (nack, prazo esgotado ou falha na publicação).
+    private List<OutboundMessage> publishBatch(List<OutboundMessage> batch) {
+        long start = System.nanoTime();
+        List<CorrelationData> correlations;
+        try {
+            correlations = rabbitTemplate.invoke(operations -> {
+                List<CorrelationData> sent = new ArrayList<>(batch.size());
+                for (OutboundMessage message : batch) {
+                    CorrelationData correlation = new CorrelationData();
+                    operations.convertAndSend(message.exchange(), message.routingKey(), message.payload(), correlation);
+                    sent.add(correlation);
+                }
+                return sent;
+            });
+        } catch (AmqpException e) {
+            log.warn("Falha ao publicar lote de {} mensagens: {}", batch.size(),
+                    batch.stream().map(m -> m.routingKey() + " " + m.payload()).toList(), e);
+            unconfirmed.add(batch.size());
+            return batch.stream().map(m -> m.failedWith(e)).toList();
+        }
+        published.add(batch.size());
+
+        if (!rabbitTemplate.getConnectionFactory().isPublisherConfirms()) {
+            return List.of();
+        }
+
+        List<OutboundMessage> failed = new ArrayList<>();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(properties.confirmTimeoutMillis());
+        for (int i = 0; i < batch.size(); i++) {
+            Throwable failure = confirmFailure(correlations.get(i), deadline);
+            if (failure == null) {
+                long latency = System.nanoTime() - start;
+                confirmed.increment();
+                confirmLatencyNanos.add(latency);
+                maxConfirmLatencyNanos.accumulate(latency);
+            } else {
+                unconfirmed.increment();
+                failed.add(batch.get(i).failedWith(failure));
+            }
+        }
+        return failed;
+    }
+
+    // null quando o broker confirmou; senão, o motivo (nack com a razão dada pelo broker, prazo esgotado...).
+    private Throwable confirmFailure(CorrelationData correlation, long deadlineNanos) {
+        try {
+            long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+            CorrelationData.Confirm confirm = correlation.getFuture().get(remaining, TimeUnit.NANOSECONDS);
+            return confirm.isAck() ? null : new AmqpException("nack do broker: " + confirm.getReason());
+        } catch (TimeoutException | ExecutionException e) {
+            return e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return e;
+        }
+    }
+
+    private void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ---------------------- MÉTRICAS ----------------------
+
+    @ManagedAttribute(description = "Mensagens aguardando publicação no buffer")
+    public int getBufferDepth() {
+        return buffer.size();
+    }
+
+    @ManagedAttribute(description = "Mensagens publicadas no broker, incluindo as republicações")
+    public long getPublished() {
+        return published.sum();
+    }
+
+    @ManagedAttribute(description = "Mensagens confirmadas pelo broker")
+    public long getConfirmed() {
+        return confirmed.sum();
+    }
+
+    @ManagedAttribute(description = "Publicações com nack, sem confirmação no prazo ou com falha no envio")
+    public long getUnconfirmed() {
+        return unconfirmed.sum();
+    }
+
+    @ManagedAttribute(description = "Mensagens republicadas depois de uma publicação não confirmada")
+    public long getRetried() {
+        return retried.sum();
+    }
+
+    @ManagedAttribute(description = "Mensagens descartadas depois de maxAttempts tentativas")
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    @ManagedAttribute(description = "Mensagens publicadas na thread de quem chama porque o buffer estava cheio")
+    public long getPublishedSynchronously() {
+        return publishedSynchronously.sum();
+    }
+
+    @ManagedAttribute(description = "Latência média de confirmação, em microssegundos")
+    public long getAverageConfirmLatencyMicros() {
+        long count = confirmed.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(confirmLatencyNanos.sum() / count);
+    }
+
+    @ManagedAttribute(description = "Maior latência de confirmação, em microssegundos")
+    public long getMaxConfirmLatencyMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxConfirmLatencyNanos.get());
+    }
+}
@@ -3,39 +3,67 @@ package message.agendamentosala.infrastructure.gateway.messaging;
 import lombok.AllArgsConstructor;
 import message.agendamentosala.domain.model.Reservation;
 import message.agendamentosala.infrastructure.config.RabbitMQConfig;
-import org.springframework.amqp.AmqpException;
-import org.springframework.amqp.core.MessagePostProcessor;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import message.agendamentosala.infrastructure.scheduler.StandByExpiryScheduler;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 @Service
 @AllArgsConstructor
 public class ReservationProducerGateway {
 
-    private final RabbitTemplate rabbitTemplate;
+    // A publicação não acontece na thread da requisição: as mensagens vão para o buffer do publisher.
+    private final ReservationMessagePublisher publisher;
+    // Presente só com reservation.standby.expiry=timing-wheel; aí o vencimento do STAND_BY não passa pelo broker.
+    private final ObjectProvider<StandByExpiryScheduler> timingWheel;
 
     public void sendStandByTimeout(Reservation reservation) {
         Long reservationId = reservation.id();
 
+        StandByExpiryScheduler wheel = timingWheel.getIfAvailable();
+        if (wheel != null) {
+            wheel.schedule(reservationId);
+            return;
+        }
+
         System.out.println("PT: PRODUCER - Enviando ID " + reservationId + " para a fila STAND_BY_DELAY.");
 
-        rabbitTemplate.convertAndSend(
+        publisher.publish(
                 RabbitMQConfig.STAND_BY_DELAY_EXCHANGE,
                 RabbitMQConfig.STAND_BY_DELAY_ROUTING_KEY,
-                reservationId
+                ReservationEvent.standByTimeout(reservationId)
         );
     }
 
+    // As mensagens entram juntas no buffer; o publisher as envia em lote, no mesmo canal.
+    public void sendStandByTimeouts(List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        StandByExpiryScheduler wheel = timingWheel.getIfAvailable();
+        if (wheel != null) {
+            reservations.forEach(reservation -> wheel.schedule(reservation.id()));
+            return;
+        }
+        System.out.println("PT: PRODUCER - Enviando " + reservations.size() + " IDs para a fila STAND_BY_DELAY.");
+
+        for (Reservation reservation : reservations) {
+            publisher.publish(
+                    RabbitMQConfig.STAND_BY_DELAY_EXCHANGE,
+                    RabbitMQConfig.STAND_BY_DELAY_ROUTING_KEY,
+                    ReservationEvent.standByTimeout(reservation.id())
+            );
+        }
+    }
+
     public void sendCheckInConfirmation(Long reservationId) {
         System.out.println("PT: PRODUCER - Enviando ID " + reservationId + " para a fila CHECK_IN_QUEUE.");
 
-        rabbitTemplate.convertAndSend(
+        publisher.publish(
                 RabbitMQConfig.CHECK_IN_EXCHANGE,
                 RabbitMQConfig.CHECK_IN_ROUTING_KEY,
-                reservationId
+                ReservationEvent.checkIn(reservationId)
         );
     }
 }
\ No newline at end of file
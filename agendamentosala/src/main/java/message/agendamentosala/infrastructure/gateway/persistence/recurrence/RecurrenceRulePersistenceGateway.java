@@ -0,0 +1,70 @@
+package message.agendamentosala.infrastructure.gateway.persistence.recurrence;
+
+import lombok.AllArgsConstructor;
+import message.agendamentosala.domain.model.RecurrenceRule;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.infrastructure.entity.RecurrenceRuleEntity;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+@AllArgsConstructor
+public class RecurrenceRulePersistenceGateway {
+
+    private final RecurrenceRuleRepository repository;
+
+    private RecurrenceRule toDomain(RecurrenceRuleEntity entity) {
+        return new RecurrenceRule(
+                entity.getId(), entity.getUserEmail(), entity.getRoomName(), entity.getRequiredPeople(),
+                entity.getFrequency(), entity.getStartDate(), entity.getUntilDate(),
+                entity.getStartTime(), entity.getEndTime(), entity.getMaterializedUntil()
+        );
+    }
+
+    private RecurrenceRuleEntity toEntity(RecurrenceRule rule) {
+        return RecurrenceRuleEntity.builder()
+                .id(rule.id())
+                .userEmail(rule.userEmail())
+                .roomName(rule.roomName())
+                .requiredPeople(rule.requiredPeople())
+                .frequency(rule.frequency())
+                .startDate(rule.startDate())
+                .untilDate(rule.untilDate())
+                .startTime(rule.startTime())
+                .endTime(rule.endTime())
+                .materializedUntil(rule.materializedUntil())
+                .build();
+    }
+
+    public RecurrenceRule save(RecurrenceRule rule) {
+        RecurrenceRuleEntity savedEntity = repository.save(toEntity(rule));
+        return toDomain(savedEntity);
+    }
+
+    public Optional<RecurrenceRule> findById(Long id) {
+        return repository.findById(id).map(this::toDomain);
+    }
+
+    // Regras que ainda têm ocorrências a materializar antes de "horizon".
+    public List<RecurrenceRule> findPendingMaterialization(LocalDate horizon) {
+        return repository.findPendingMaterialization(horizon).stream()
+                .map(this::toDomain).collect(Collectors.toList());
+    }
+
+    // Séries da sala que ainda têm ocorrências só na regra (depois de materializedUntil) entre "from" e "until"
+    // e cujo horário se sobrepõe a startTime–endTime. Essas ocorrências ainda não estão em reservation nem no índice.
+    public List<RecurrenceRule> findUnmaterializedOverlapping(RoomName roomName, LocalDate from, LocalDate until,
+                                                              LocalTime startTime, LocalTime endTime) {
+        return repository.findUnmaterializedOverlapping(roomName, from, until, startTime, endTime).stream()
+                .map(this::toDomain).collect(Collectors.toList());
+    }
+
+    public void deleteById(Long id) {
+        repository.deleteById(id);
+    }
+}
@@ -0,0 +1,28 @@
+package message.agendamentosala.infrastructure.gateway.persistence.recurrence;
+
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.infrastructure.entity.RecurrenceRuleEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Repository
+public interface RecurrenceRuleRepository extends JpaRepository<RecurrenceRuleEntity, Long> {
+
+    @Query("SELECT r FROM RecurrenceRuleEntity r WHERE r.materializedUntil < r.untilDate AND r.materializedUntil < :horizon")
+    List<RecurrenceRuleEntity> findPendingMaterialization(@Param("horizon") LocalDate horizon);
+
+    @Query("SELECT r FROM RecurrenceRuleEntity r WHERE r.roomName = :roomName " +
+            "AND r.materializedUntil < r.untilDate AND r.untilDate >= :from AND r.startDate <= :until " +
+            "AND r.startTime < :endTime AND r.endTime > :startTime")
+    List<RecurrenceRuleEntity> findUnmaterializedOverlapping(@Param("roomName") RoomName roomName,
+                                                             @Param("from") LocalDate from,
+                                                             @Param("until") LocalDate until,
+                                                             @Param("startTime") LocalTime startTime,
+                                                             @Param("endTime") LocalTime endTime);
+}
@@ -0,0 +1,155 @@
+package message.agendamentosala.infrastructure.gateway.persistence.reservation;
+
+import message.agendamentosala.domain.model.BusinessHours;
+import message.agendamentosala.domain.model.TimeWindow;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Grade de ocupação de uma sala em um dia, em fatias de 5 minutos entre 08:00 e 18:00 (120 bits = 2 longs).
+// "touched" marca toda fatia em que alguma reserva encosta; "covered" marca só as fatias inteiramente ocupadas.
+// Assim, uma consulta sem nenhum bit "touched" está livre, uma consulta com bit "covered" em seu interior
+// está em conflito, e apenas as bordas parcialmente ocupadas precisam da comparação exata de horários.
+public final class DaySlotBitmap {
+
+    public static final int SLOT_MINUTES = BusinessHours.SLOT_MINUTES;
+    public static final int SLOTS_PER_DAY =
+            (int) Duration.between(BusinessHours.OPENING_TIME, BusinessHours.CLOSING_TIME).toMinutes() / SLOT_MINUTES;
+
+    private static final long SLOT_NANOS = Duration.ofMinutes(SLOT_MINUTES).toNanos();
+    private static final int WORDS = (SLOTS_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+
+    private final LocalDate date;
+    private final long[] touched = new long[WORDS];
+    private final long[] covered = new long[WORDS];
+    private boolean irregular;
+
+    public DaySlotBitmap(LocalDate date) {
+        this.date = date;
+    }
+
+    public static boolean fitsGrid(LocalDateTime start, LocalDateTime end) {
+        LocalDate day = start.toLocalDate();
+        return end.toLocalDate().equals(day)
+                && !start.isBefore(BusinessHours.openingOf(day))
+                && !end.isAfter(BusinessHours.closingOf(day))
+                && start.isBefore(end);
+    }
+
+    // Reservas fora da grade (atravessando dias ou fora do expediente) não cabem nos bits;
+    // o dia passa a depender só da comparação exata.
+    public void markIrregular() {
+        irregular = true;
+    }
+
+    public boolean isIrregular() {
+        return irregular;
+    }
+
+    public void mark(LocalDateTime start, LocalDateTime end) {
+        if (!fitsGrid(start, end) || !start.toLocalDate().equals(date)) {
+            irregular = true;
+            return;
+        }
+        setRange(touched, floorSlot(start), ceilSlot(end));
+        setRange(covered, ceilSlot(start), floorSlot(end));
+    }
+
+    public boolean isEmpty() {
+        return !irregular && nextSetBit(touched, 0) >= SLOTS_PER_DAY;
+    }
+
+    // Nenhuma reserva encosta nas fatias da consulta: certamente livre.
+    public boolean isCertainlyFree(LocalDateTime start, LocalDateTime end) {
+        return !irregular && !anyInRange(touched, floorSlot(start), ceilSlot(end));
+    }
+
+    // Alguma fatia totalmente ocupada está inteiramente dentro da consulta: certamente em conflito.
+    public boolean isCertainlyTaken(LocalDateTime start, LocalDateTime end) {
+        return !irregular && anyInRange(covered, ceilSlot(start), floorSlot(end));
+    }
+
+    // Períodos livres alinhados às fatias de 5 minutos (uma fatia parcialmente ocupada conta como ocupada).
+    public List<TimeWindow> freeWindows() {
+        List<TimeWindow> free = new ArrayList<>();
+        int slot = nextClearBit(touched, 0);
+        while (slot < SLOTS_PER_DAY) {
+            int busy = Math.min(nextSetBit(touched, slot), SLOTS_PER_DAY);
+            free.add(new TimeWindow(slotStart(slot), slotStart(busy)));
+            slot = nextClearBit(touched, busy);
+        }
+        return free;
+    }
+
+    private LocalDateTime slotStart(int slot) {
+        return BusinessHours.openingOf(date).plusMinutes((long) slot * SLOT_MINUTES);
+    }
+
+    private int floorSlot(LocalDateTime time) {
+        long nanos = Duration.between(BusinessHours.openingOf(date), time).toNanos();
+        return clamp(Math.floorDiv(nanos, SLOT_NANOS));
+    }
+
+    private int ceilSlot(LocalDateTime time) {
+        long nanos = Duration.between(BusinessHours.openingOf(date), time).toNanos();
+        return clamp(-Math.floorDiv(-nanos, SLOT_NANOS));
+    }
+
+    private static int clamp(long slot) {
+        return (int) Math.max(0, Math.min(SLOTS_PER_DAY, slot));
+    }
+
+    private static long wordMask(int word, int from, int to) {
+        int low = Math.max(from - word * Long.SIZE, 0);
+        int high = Math.min(to - word * Long.SIZE, Long.SIZE);
+        if (low >= high) {
+            return 0L;
+        }
+        long upTo = high == Long.SIZE ? -1L : (1L << high) - 1;
+        return upTo & (-1L << low);
+    }
+
+    private static void setRange(long[] words, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        for (int word = from / Long.SIZE; word <= (to - 1) / Long.SIZE; word++) {
+            words[word] |= wordMask(word, from, to);
+        }
+    }
+
+    private static boolean anyInRange(long[] words, int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+        for (int word = from / Long.SIZE; word <= (to - 1) / Long.SIZE; word++) {
+            if ((words[word] & wordMask(word, from, to)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int nextSetBit(long[] words, int from) {
+        for (int word = from / Long.SIZE; word < words.length; word++) {
+            long bits = words[word] & wordMask(word, from, SLOTS_PER_DAY);
+            if (bits != 0) {
+                return word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return SLOTS_PER_DAY;
+    }
+
+    private static int nextClearBit(long[] words, int from) {
+        for (int word = from / Long.SIZE; word < words.length; word++) {
+            long bits = ~words[word] & wordMask(word, from, SLOTS_PER_DAY);
+            if (bits != 0) {
+                return word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return SLOTS_PER_DAY;
+    }
+}
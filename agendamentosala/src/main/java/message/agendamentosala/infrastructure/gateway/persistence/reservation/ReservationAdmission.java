@@ -0,0 +1,10 @@
+package message.agendamentosala.infrastructure.gateway.persistence.reservation;
+
+// Tudo o que a criação de uma reserva precisa saber do banco, respondido por uma única consulta
+// (ReservationRepository.findAdmission): se o usuário e a sala existem, se o usuário já tem reserva ativa
+// e se a sala já está ocupada no período.
+public record ReservationAdmission(boolean userExists,
+                                   boolean roomExists,
+                                   boolean userHasActiveReservation,
+                                   boolean roomHasConflict) {
+}
@@ -0,0 +1,293 @@
+package message.agendamentosala.infrastructure.gateway.persistence.reservation;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import message.agendamentosala.domain.model.BusinessHours;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.TimeWindow;
+import message.agendamentosala.infrastructure.config.ConflictIndexProperties;
+import message.agendamentosala.infrastructure.entity.ReservationEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// Índice em memória das reservas ativas (STAND_BY, PENDING, CHECKED_IN) por sala.
+// Cada sala guarda as reservas ordenadas pelo início e uma grade de fatias por dia (DaySlotBitmap),
+// que responde a maior parte das consultas sem comparar horários.
+// O banco continua sendo a fonte da verdade: enquanto o índice não estiver carregado, o gateway consulta o banco.
+// O índice só vê as reservas gravadas por esta instância; com várias instâncias, reservation.conflict-index.enabled=false
+// deixa o índice desligado e todas as leituras vão ao banco (ver ConflictIndexProperties).
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationConflictIndex {
+
+    private final ReservationRepository repository;
+    private final ConflictIndexProperties properties;
+
+    private final Map<RoomName, RoomTimeline> timelines = new EnumMap<>(RoomName.class);
+    private final Map<Long, IndexedReservation> reservationsById = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public record IndexedReservation(Long id, RoomName roomName, LocalDateTime startDateTime,
+                                     LocalDateTime endDateTime, RoomStatus status) {
+    }
+
+    @PostConstruct
+    public void load() {
+        if (!properties.enabled()) {
+            log.info("Índice de conflitos desligado (reservation.conflict-index.enabled=false); as consultas vão ao banco.");
+            return;
+        }
+        for (RoomName roomName : RoomName.values()) {
+            timelines.put(roomName, new RoomTimeline());
+        }
+        try {
+            List<ReservationEntity> activeReservations = repository.findByStatusIn(RoomStatus.ACTIVE_STATUSES);
+            activeReservations.forEach(this::apply);
+            loaded = true;
+            log.info("Índice de conflitos carregado com {} reservas ativas.", activeReservations.size());
+        } catch (RuntimeException e) {
+            log.warn("Não foi possível carregar o índice de conflitos; as consultas de conflito vão direto ao banco.", e);
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public boolean hasConflict(RoomName roomName, LocalDateTime start, LocalDateTime end) {
+        return timelines.get(roomName).overlaps(start, end);
+    }
+
+    // Verifica vários períodos da mesma sala com uma única aquisição do lock da sala.
+    public List<Boolean> findConflicts(RoomName roomName, List<TimeWindow> windows) {
+        return timelines.get(roomName).overlapsEach(windows);
+    }
+
+    public Set<RoomName> findConflictingRoomNames(LocalDateTime start, LocalDateTime end) {
+        Set<RoomName> conflicting = EnumSet.noneOf(RoomName.class);
+        timelines.forEach((roomName, timeline) -> {
+            if (timeline.overlaps(start, end)) {
+                conflicting.add(roomName);
+            }
+        });
+        return conflicting;
+    }
+
+    public List<TimeWindow> findFreeWindows(RoomName roomName, LocalDate date) {
+        return timelines.get(roomName).freeWindows(date);
+    }
+
+    public void upsert(ReservationEntity entity) {
+        if (!properties.enabled()) {
+            return;
+        }
+        IndexedReservation reservation = new IndexedReservation(entity.getId(), entity.getRoomName(),
+                entity.getStartDateTime(), entity.getEndDateTime(), entity.getStatus());
+        afterCommit(() -> apply(reservation));
+    }
+
+    public void remove(Long id) {
+        if (!properties.enabled()) {
+            return;
+        }
+        afterCommit(() -> evict(id));
+    }
+
+    private void apply(ReservationEntity entity) {
+        apply(new IndexedReservation(entity.getId(), entity.getRoomName(),
+                entity.getStartDateTime(), entity.getEndDateTime(), entity.getStatus()));
+    }
+
+    private void apply(IndexedReservation reservation) {
+        evict(reservation.id());
+        if (reservation.status() != null && reservation.status().isActive()) {
+            timelines.get(reservation.roomName()).add(reservation);
+            reservationsById.put(reservation.id(), reservation);
+        }
+    }
+
+    private void evict(Long id) {
+        IndexedReservation previous = reservationsById.remove(id);
+        if (previous != null) {
+            timelines.get(previous.roomName()).remove(previous);
+        }
+    }
+
+    // Só altera o índice depois do commit, para que um rollback não deixe o índice divergente do banco.
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class RoomTimeline {
+
+        private static final Comparator<IndexedReservation> BY_START =
+                Comparator.comparing(IndexedReservation::startDateTime).thenComparing(IndexedReservation::id);
+
+        private final NavigableSet<IndexedReservation> intervals = new TreeSet<>(BY_START);
+        private final Map<LocalDate, DaySlotBitmap> days = new HashMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private Duration longest = Duration.ZERO;
+
+        void add(IndexedReservation reservation) {
+            lock.writeLock().lock();
+            try {
+                intervals.add(reservation);
+                Duration span = Duration.between(reservation.startDateTime(), reservation.endDateTime());
+                if (span.compareTo(longest) > 0) {
+                    longest = span;
+                }
+                markDays(reservation);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(IndexedReservation reservation) {
+            lock.writeLock().lock();
+            try {
+                intervals.remove(reservation);
+                for (LocalDate date : datesOf(reservation)) {
+                    rebuildDay(date);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        boolean overlaps(LocalDateTime start, LocalDateTime end) {
+            lock.readLock().lock();
+            try {
+                return overlapsUnlocked(start, end);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<Boolean> overlapsEach(List<TimeWindow> windows) {
+            lock.readLock().lock();
+            try {
+                List<Boolean> conflicts = new ArrayList<>(windows.size());
+                for (TimeWindow window : windows) {
+                    conflicts.add(overlapsUnlocked(window.startDateTime(), window.endDateTime()));
+                }
+                return conflicts;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<TimeWindow> freeWindows(LocalDate date) {
+            lock.readLock().lock();
+            try {
+                DaySlotBitmap day = days.get(date);
+                if (day == null) {
+                    return BusinessHours.freeWindows(date, List.of());
+                }
+                if (!day.isIrregular()) {
+                    return day.freeWindows();
+                }
+                List<TimeWindow> busy = new ArrayList<>();
+                forEachOverlapping(BusinessHours.openingOf(date), BusinessHours.closingOf(date),
+                        reservation -> busy.add(new TimeWindow(reservation.startDateTime(), reservation.endDateTime())));
+                return BusinessHours.freeWindows(date, busy);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private boolean overlapsUnlocked(LocalDateTime start, LocalDateTime end) {
+            if (DaySlotBitmap.fitsGrid(start, end)) {
+                DaySlotBitmap day = days.get(start.toLocalDate());
+                if (day == null || day.isCertainlyFree(start, end)) {
+                    return false;
+                }
+                if (day.isCertainlyTaken(start, end)) {
+                    return true;
+                }
+            }
+            return overlapsExactly(start, end);
+        }
+
+        // Qualquer reserva que termine depois de "start" começou no máximo "longest" antes dele,
+        // então basta percorrer as reservas que começam em [start - longest, end).
+        private boolean overlapsExactly(LocalDateTime start, LocalDateTime end) {
+            for (IndexedReservation candidate : candidates(start, end)) {
+                if (candidate.endDateTime().isAfter(start)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void forEachOverlapping(LocalDateTime start, LocalDateTime end, Consumer<IndexedReservation> action) {
+            for (IndexedReservation candidate : candidates(start, end)) {
+                if (candidate.endDateTime().isAfter(start)) {
+                    action.accept(candidate);
+                }
+            }
+        }
+
+        private NavigableSet<IndexedReservation> candidates(LocalDateTime start, LocalDateTime end) {
+            return intervals.subSet(probe(start.minus(longest)), true, probe(end), false);
+        }
+
+        private void markDays(IndexedReservation reservation) {
+            if (DaySlotBitmap.fitsGrid(reservation.startDateTime(), reservation.endDateTime())) {
+                LocalDate date = reservation.startDateTime().toLocalDate();
+                days.computeIfAbsent(date, DaySlotBitmap::new)
+                        .mark(reservation.startDateTime(), reservation.endDateTime());
+                return;
+            }
+            for (LocalDate date : datesOf(reservation)) {
+                days.computeIfAbsent(date, DaySlotBitmap::new).markIrregular();
+            }
+        }
+
+        // Remover bits não é seguro quando duas reservas dividem uma fatia, então o dia é remontado
+        // a partir das reservas que ainda o ocupam.
+        private void rebuildDay(LocalDate date) {
+            days.remove(date);
+            forEachOverlapping(date.atStartOfDay(), date.plusDays(1).atStartOfDay(), this::markDays);
+        }
+
+        private static List<LocalDate> datesOf(IndexedReservation reservation) {
+            LocalDate last = reservation.endDateTime().minusNanos(1).toLocalDate();
+            return reservation.startDateTime().toLocalDate().datesUntil(last.plusDays(1)).toList();
+        }
+
+        private static IndexedReservation probe(LocalDateTime start) {
+            return new IndexedReservation(Long.MIN_VALUE, null, start, start, null);
+        }
+    }
+}
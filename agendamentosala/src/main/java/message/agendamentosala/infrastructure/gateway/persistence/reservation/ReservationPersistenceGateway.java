@@ -1,15 +1,32 @@
 package message.agendamentosala.infrastructure.gateway.persistence.reservation;
 
 import lombok.AllArgsConstructor;
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.model.BusinessHours;
 import message.agendamentosala.domain.model.Reservation;
 import message.agendamentosala.domain.model.RoomName;
 import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.StatusTransition;
+import message.agendamentosala.domain.model.TimeWindow;
 import message.agendamentosala.infrastructure.entity.ReservationEntity;
+import message.agendamentosala.infrastructure.entity.ReservationSlotEntity;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,6 +34,8 @@ import java.util.stream.Collectors;
 public class ReservationPersistenceGateway {
 
     private final ReservationRepository repository;
+    private final ReservationConflictIndex conflictIndex;
+    private final ReservationSlotRepository slotRepository;
 
     private Reservation toDomain(ReservationEntity entity) {
         return new Reservation(
@@ -37,27 +56,265 @@ public class ReservationPersistenceGateway {
                 .build();
     }
 
+    // A reserva e as fatias que ela reivindica (reservation_slot) são gravadas na mesma transação.
+    @Transactional
     public Reservation save(Reservation reservation) {
+        if (reservation.id() != null) {
+            slotRepository.deleteByReservationIdIn(List.of(reservation.id()));
+        }
         ReservationEntity savedEntity = repository.save(toEntity(reservation));
+        claimSlots(List.of(savedEntity));
+        conflictIndex.upsert(savedEntity);
         return toDomain(savedEntity);
     }
 
+    @Transactional
+    public List<Reservation> saveAll(List<Reservation> reservations) {
+        return saveAll(reservations, null);
+    }
+
+    @Transactional
+    public List<Reservation> saveAll(List<Reservation> reservations, Long recurrenceRuleId) {
+        List<ReservationEntity> entities = reservations.stream().map(this::toEntity).toList();
+        entities.forEach(entity -> entity.setRecurrenceRuleId(recurrenceRuleId));
+        List<ReservationEntity> savedEntities = repository.saveAll(entities);
+        claimSlots(savedEntities);
+        savedEntities.forEach(conflictIndex::upsert);
+        return savedEntities.stream().map(this::toDomain).collect(Collectors.toList());
+    }
+
     public Optional<Reservation> findById(Long id) {
         return repository.findById(id).map(this::toDomain);
     }
 
+    public List<Reservation> findAllById(Collection<Long> ids) {
+        return repository.findAllById(ids).stream().map(this::toDomain).collect(Collectors.toList());
+    }
+
+    public List<Long> findIdsByStatus(RoomStatus status) {
+        return repository.findIdsByStatus(status);
+    }
+
+    // Transição sem ler a reserva antes: um único UPDATE ... WHERE id = ? AND status = ?, e o retorno diz se
+    // ela venceu. Confirmação e vencimento do STAND_BY não se sobrescrevem mais: quem chega depois não muda nada.
+    @Transactional
+    public boolean transition(Long id, StatusTransition transition) {
+        boolean applied = repository.compareAndSetStatus(id, transition.getFrom(), transition.getTo()) == 1;
+        if (applied && !transition.getTo().isActive()) {
+            slotRepository.deleteByReservationIdIn(List.of(id));
+            conflictIndex.remove(id);
+        }
+        return applied;
+    }
+
+    // A mesma transição para um lote, num UPDATE só. O índice perde apenas as reservas que de fato mudaram:
+    // as que já tinham saído do status de origem (ex.: confirmadas antes do vencimento) continuam nele.
+    @Transactional
+    public int transition(Collection<Long> ids, StatusTransition transition) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int applied = repository.compareAndSetStatusIn(ids, transition.getFrom(), transition.getTo());
+        if (applied > 0 && !transition.getTo().isActive()) {
+            List<Long> released = repository.findIdsByIdInAndStatus(ids, transition.getTo());
+            slotRepository.deleteByReservationIdIn(released);
+            released.forEach(conflictIndex::remove);
+        }
+        return applied;
+    }
+
+    // Caminho só de leitura: transação readOnly (sem flush nem dirty checking) e linhas projetadas direto da consulta.
+    @Transactional(readOnly = true)
+    public List<ReservationView> findActiveReservationViewsByUserEmail(String userEmail) {
+        return repository.findActiveViewsByUserEmail(userEmail);
+    }
+
     public List<Reservation> findActiveReservationsByUserEmail(String userEmail) {
-        List<RoomStatus> activeStatuses = List.of(RoomStatus.STAND_BY, RoomStatus.PENDING, RoomStatus.CHECKED_IN);
-        return repository.findByUserEmailAndStatusIn(userEmail, activeStatuses)
+        return repository.findByUserEmailAndStatusInOrderByStartDateTimeAsc(userEmail, RoomStatus.ACTIVE_STATUSES)
                 .stream().map(this::toDomain).collect(Collectors.toList());
     }
 
+    // Reserva ativa avulsa do usuário, a que a exclusão e a confirmação por e-mail alcançam. As ocorrências de uma
+    // recorrência ficam de fora: saem pelo cancelamento da série e já nascem PENDING.
+    public Optional<Reservation> findActiveStandaloneReservationByUserEmail(String userEmail) {
+        return repository.findFirstByUserEmailAndRecurrenceRuleIdIsNullAndStatusInOrderByStartDateTimeAsc(
+                userEmail, RoomStatus.ACTIVE_STATUSES).map(this::toDomain);
+    }
+
+    // A regra de uma reserva ativa por usuário conta só as reservas avulsas: uma série recorrente não impede
+    // o usuário de reservar normalmente, e vice-versa.
+    public boolean hasActiveReservation(String userEmail) {
+        return !repository.findActiveReservationIds(userEmail, Limit.of(1)).isEmpty();
+    }
+
+    // Uma ida ao banco para as quatro conferências da criação de reserva. O conflito também sai dessa consulta,
+    // e não do índice em memória: a ida ao banco já acontece para as outras três. A reserva ativa do usuário
+    // segue a mesma regra de hasActiveReservation (só reservas avulsas).
+    public ReservationAdmission checkAdmission(String userEmail, RoomName roomName,
+                                               LocalDateTime start, LocalDateTime end) {
+        return repository.findAdmission(userEmail, roomName, start, end);
+    }
+
+    public Set<String> findUsersWithActiveReservations(Collection<String> userEmails) {
+        return new HashSet<>(repository.findStandaloneUserEmailsWithStatusIn(userEmails, RoomStatus.ACTIVE_STATUSES));
+    }
+
     public boolean hasConflict(RoomName roomName, LocalDateTime start, LocalDateTime end) {
-        List<RoomStatus> conflictingStatuses = List.of(RoomStatus.STAND_BY, RoomStatus.PENDING, RoomStatus.CHECKED_IN);
-        return !repository.findConflictingReservations(roomName, conflictingStatuses, start, end).isEmpty();
+        if (conflictIndex.isLoaded()) {
+            return conflictIndex.hasConflict(roomName, start, end);
+        }
+        return !repository.findActiveConflictIds(roomName, start, end, Limit.of(1)).isEmpty();
     }
 
+    public Set<RoomName> findConflictingRoomNames(LocalDateTime start, LocalDateTime end) {
+        if (conflictIndex.isLoaded()) {
+            return conflictIndex.findConflictingRoomNames(start, end);
+        }
+        Set<RoomName> conflicting = EnumSet.noneOf(RoomName.class);
+        conflicting.addAll(repository.findConflictingRoomNames(RoomStatus.ACTIVE_STATUSES, start, end));
+        return conflicting;
+    }
+
+    // Sem o índice, busca de uma vez as reservas ativas do intervalo que engloba todos os períodos
+    // e resolve cada período em memória.
+    public Map<TimeWindow, Set<RoomName>> findConflictingRoomNames(List<TimeWindow> windows) {
+        Map<TimeWindow, Set<RoomName>> conflictsByWindow = new LinkedHashMap<>();
+        if (conflictIndex.isLoaded()) {
+            windows.forEach(window -> conflictsByWindow.put(window,
+                    conflictIndex.findConflictingRoomNames(window.startDateTime(), window.endDateTime())));
+            return conflictsByWindow;
+        }
+
+        LocalDateTime envelopeStart = windows.stream().map(TimeWindow::startDateTime).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime envelopeEnd = windows.stream().map(TimeWindow::endDateTime).max(Comparator.naturalOrder()).orElseThrow();
+        List<ReservationEntity> overlapping =
+                repository.findReservationsOverlapping(RoomStatus.ACTIVE_STATUSES, envelopeStart, envelopeEnd);
+
+        for (TimeWindow window : windows) {
+            Set<RoomName> conflicting = EnumSet.noneOf(RoomName.class);
+            for (ReservationEntity entity : overlapping) {
+                if (window.overlaps(entity.getStartDateTime(), entity.getEndDateTime())) {
+                    conflicting.add(entity.getRoomName());
+                }
+            }
+            conflictsByWindow.put(window, conflicting);
+        }
+        return conflictsByWindow;
+    }
+
+    // Uma posição por candidato, na mesma ordem; sem o índice, uma única consulta cobre o intervalo de todos.
+    public List<Boolean> findConflicts(List<Reservation> candidates) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        if (conflictIndex.isLoaded()) {
+            return candidates.stream()
+                    .map(c -> conflictIndex.hasConflict(c.roomName(), c.startDateTime(), c.endDateTime()))
+                    .collect(Collectors.toList());
+        }
+
+        LocalDateTime envelopeStart = candidates.stream().map(Reservation::startDateTime).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime envelopeEnd = candidates.stream().map(Reservation::endDateTime).max(Comparator.naturalOrder()).orElseThrow();
+        List<ReservationEntity> overlapping =
+                repository.findReservationsOverlapping(RoomStatus.ACTIVE_STATUSES, envelopeStart, envelopeEnd);
+
+        return candidates.stream()
+                .map(c -> overlapping.stream().anyMatch(entity -> entity.getRoomName() == c.roomName()
+                        && new TimeWindow(c.startDateTime(), c.endDateTime())
+                        .overlaps(entity.getStartDateTime(), entity.getEndDateTime())))
+                .collect(Collectors.toList());
+    }
+
+    // Vários períodos da mesma sala (ex.: as ocorrências de uma recorrência) resolvidos de uma vez:
+    // pelo índice, sob um único lock; sem ele, com uma consulta só e uma varredura das reservas ordenadas.
+    public List<Boolean> findConflicts(RoomName roomName, List<TimeWindow> windows) {
+        if (windows.isEmpty()) {
+            return List.of();
+        }
+        if (conflictIndex.isLoaded()) {
+            return conflictIndex.findConflicts(roomName, windows);
+        }
+
+        LocalDateTime envelopeStart = windows.stream().map(TimeWindow::startDateTime).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime envelopeEnd = windows.stream().map(TimeWindow::endDateTime).max(Comparator.naturalOrder()).orElseThrow();
+        List<ReservationEntity> overlapping = new ArrayList<>(repository.findConflictingReservations(
+                roomName, RoomStatus.ACTIVE_STATUSES, envelopeStart, envelopeEnd));
+        overlapping.sort(Comparator.comparing(ReservationEntity::getStartDateTime));
+
+        // latestEnd[i] = maior término entre as i+1 primeiras reservas (ordenadas pelo início).
+        LocalDateTime[] latestEnd = new LocalDateTime[overlapping.size()];
+        for (int i = 0; i < overlapping.size(); i++) {
+            LocalDateTime end = overlapping.get(i).getEndDateTime();
+            latestEnd[i] = i == 0 || end.isAfter(latestEnd[i - 1]) ? end : latestEnd[i - 1];
+        }
+
+        List<Boolean> conflicts = new ArrayList<>(windows.size());
+        for (TimeWindow window : windows) {
+            int startedBefore = countStartingBefore(overlapping, window.endDateTime());
+            conflicts.add(startedBefore > 0 && latestEnd[startedBefore - 1].isAfter(window.startDateTime()));
+        }
+        return conflicts;
+    }
+
+    private static int countStartingBefore(List<ReservationEntity> sortedByStart, LocalDateTime time) {
+        int low = 0;
+        int high = sortedByStart.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedByStart.get(mid).getStartDateTime().isBefore(time)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public List<TimeWindow> findFreeWindows(RoomName roomName, LocalDate date) {
+        if (conflictIndex.isLoaded()) {
+            return conflictIndex.findFreeWindows(roomName, date);
+        }
+        List<TimeWindow> busy = repository.findConflictingReservations(roomName, RoomStatus.ACTIVE_STATUSES,
+                        BusinessHours.openingOf(date), BusinessHours.closingOf(date))
+                .stream().map(entity -> new TimeWindow(entity.getStartDateTime(), entity.getEndDateTime()))
+                .collect(Collectors.toList());
+        return BusinessHours.freeWindows(date, busy);
+    }
+
+    // Remove as ocorrências de uma recorrência que começam a partir de "from"; as passadas ficam como histórico.
+    @Transactional
+    public int deleteRecurrenceOccurrencesFrom(Long recurrenceRuleId, LocalDateTime from) {
+        List<ReservationEntity> occurrences =
+                repository.findByRecurrenceRuleIdAndStartDateTimeGreaterThanEqual(recurrenceRuleId, from);
+        repository.deleteAll(occurrences);
+        occurrences.forEach(entity -> conflictIndex.remove(entity.getId()));
+        return occurrences.size();
+    }
+
+    // As fatias da reserva saem junto, pelo ON DELETE CASCADE da V4.
     public void deleteById(Long id) {
         repository.deleteById(id);
+        conflictIndex.remove(id);
+    }
+
+    // Insere as fatias das reservas ativas e força o flush: uma fatia que já pertence a outra reserva (gravada por
+    // outra instância, que não passou pelas mesmas travas) viola a chave única e a transação inteira é desfeita.
+    private void claimSlots(List<ReservationEntity> entities) {
+        List<ReservationSlotEntity> slots = new ArrayList<>();
+        for (ReservationEntity entity : entities) {
+            if (entity.getStatus() != null && entity.getStatus().isActive()) {
+                slots.addAll(ReservationSlots.claimedBy(entity));
+            }
+        }
+        if (slots.isEmpty()) {
+            return;
+        }
+        try {
+            slotRepository.saveAllAndFlush(slots);
+        } catch (DataIntegrityViolationException e) {
+            String rooms = entities.stream().map(entity -> String.valueOf(entity.getRoomName()))
+                    .distinct().collect(Collectors.joining(", "));
+            throw new ValidationException("Para a seguinte sala: " + rooms + " Este horário já está reservado.");
+        }
     }
-}
\ No newline at end of file
+}
@@ -3,12 +3,15 @@ package message.agendamentosala.infrastructure.gateway.persistence.reservation;
 import message.agendamentosala.domain.model.RoomName;
 import message.agendamentosala.domain.model.RoomStatus;
 import message.agendamentosala.infrastructure.entity.ReservationEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,7 +19,12 @@ import java.util.Optional;
 public interface ReservationRepository extends JpaRepository<ReservationEntity, Long> {
 
     Optional<ReservationEntity> findByRoomNameAndStatus(RoomName roomName, RoomStatus status);
-    List<ReservationEntity> findByUserEmailAndStatusIn(String userEmail, List<RoomStatus> statuses);
+    // Ordenadas pelo início: com recorrências o usuário pode ter várias reservas ativas, e a próxima vem primeiro.
+    List<ReservationEntity> findByUserEmailAndStatusInOrderByStartDateTimeAsc(String userEmail, List<RoomStatus> statuses);
+    // A reserva avulsa (fora de recorrência) do usuário: a regra de uma reserva ativa por usuário vale só para elas.
+    Optional<ReservationEntity> findFirstByUserEmailAndRecurrenceRuleIdIsNullAndStatusInOrderByStartDateTimeAsc(
+            String userEmail, List<RoomStatus> statuses);
+    List<ReservationEntity> findByStatusIn(List<RoomStatus> statuses);
 
     @Query("SELECT r FROM ReservationEntity r WHERE r.roomName = :roomName AND r.status IN :statuses " +
             "AND (" +
@@ -27,4 +35,87 @@ public interface ReservationRepository extends JpaRepository<ReservationEntity,
             @Param("statuses") List<RoomStatus> statuses,
             @Param("startDateTime") LocalDateTime startDateTime,
             @Param("endDateTime") LocalDateTime endDateTime);
-}
\ No newline at end of file
+
+    // Mesmo conjunto de RoomStatus.ACTIVE_STATUSES, escrito como literais: com "IN :statuses" o Hibernate
+    // precisa traduzir a consulta de novo a cada execução, o que custa mais que a própria consulta.
+    String ACTIVE_STATUSES_JPQL = "(message.agendamentosala.domain.model.RoomStatus.STAND_BY, " +
+            "message.agendamentosala.domain.model.RoomStatus.PENDING, " +
+            "message.agendamentosala.domain.model.RoomStatus.CHECKED_IN)";
+
+    // Consultas só de existência: devolvem no máximo "limit" ids, sem carregar entidades no contexto de persistência.
+    @Query("SELECT r.id FROM ReservationEntity r WHERE r.roomName = :roomName AND r.status IN " + ACTIVE_STATUSES_JPQL +
+            " AND r.startDateTime < :endDateTime AND r.endDateTime > :startDateTime")
+    List<Long> findActiveConflictIds(
+            @Param("roomName") RoomName roomName,
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime,
+            Limit limit);
+
+    // Só reservas avulsas: as ocorrências de uma recorrência não contam para a regra de uma reserva ativa por usuário.
+    @Query("SELECT r.id FROM ReservationEntity r WHERE r.userEmail = :userEmail AND r.status IN " + ACTIVE_STATUSES_JPQL +
+            " AND r.recurrenceRuleId IS NULL")
+    List<Long> findActiveReservationIds(@Param("userEmail") String userEmail, Limit limit);
+
+    // Admissão de uma nova reserva numa ida ao banco: as quatro conferências viram subconsultas EXISTS de um
+    // SELECT sem FROM, cada uma resolvida pelo seu índice (chave de app_user, uk_room_name,
+    // idx_reservation_user_status e idx_reservation_room_status_start).
+    @Query("SELECT new message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationAdmission(" +
+            "CASE WHEN EXISTS (SELECT 1 FROM UserEntity u WHERE u.email = :userEmail) THEN true ELSE false END, " +
+            "CASE WHEN EXISTS (SELECT 1 FROM RoomEntity m WHERE m.name = :roomName) THEN true ELSE false END, " +
+            "CASE WHEN EXISTS (SELECT 1 FROM ReservationEntity a WHERE a.userEmail = :userEmail " +
+            "AND a.status IN " + ACTIVE_STATUSES_JPQL + " AND a.recurrenceRuleId IS NULL) THEN true ELSE false END, " +
+            "CASE WHEN EXISTS (SELECT 1 FROM ReservationEntity c WHERE c.roomName = :roomName " +
+            "AND c.status IN " + ACTIVE_STATUSES_JPQL + " AND c.startDateTime < :endDateTime " +
+            "AND c.endDateTime > :startDateTime) THEN true ELSE false END)")
+    ReservationAdmission findAdmission(
+            @Param("userEmail") String userEmail,
+            @Param("roomName") RoomName roomName,
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime);
+
+    // Leitura das reservas ativas do usuário para o GET: projeção direta, sem entidades gerenciadas.
+    @Query("SELECT new message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationView(" +
+            "r.id, r.userEmail, r.roomName, r.requiredPeople, r.startDateTime, r.endDateTime, r.status) " +
+            "FROM ReservationEntity r WHERE r.userEmail = :userEmail AND r.status IN " + ACTIVE_STATUSES_JPQL +
+            " ORDER BY r.startDateTime")
+    List<ReservationView> findActiveViewsByUserEmail(@Param("userEmail") String userEmail);
+
+    @Query("SELECT DISTINCT r.roomName FROM ReservationEntity r WHERE r.status IN :statuses " +
+            "AND r.startDateTime < :endDateTime AND r.endDateTime > :startDateTime")
+    List<RoomName> findConflictingRoomNames(
+            @Param("statuses") List<RoomStatus> statuses,
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime);
+
+    @Query("SELECT r FROM ReservationEntity r WHERE r.status IN :statuses " +
+            "AND r.startDateTime < :endDateTime AND r.endDateTime > :startDateTime")
+    List<ReservationEntity> findReservationsOverlapping(
+            @Param("statuses") List<RoomStatus> statuses,
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime);
+
+    @Query("SELECT DISTINCT r.userEmail FROM ReservationEntity r WHERE r.userEmail IN :userEmails AND r.status IN :statuses " +
+            "AND r.recurrenceRuleId IS NULL")
+    List<String> findStandaloneUserEmailsWithStatusIn(
+            @Param("userEmails") Collection<String> userEmails,
+            @Param("statuses") List<RoomStatus> statuses);
+
+    List<ReservationEntity> findByRecurrenceRuleIdAndStartDateTimeGreaterThanEqual(Long recurrenceRuleId,
+                                                                                   LocalDateTime startDateTime);
+
+    @Query("SELECT r.id FROM ReservationEntity r WHERE r.status = :status")
+    List<Long> findIdsByStatus(@Param("status") RoomStatus status);
+
+    @Query("SELECT r.id FROM ReservationEntity r WHERE r.id IN :ids AND r.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") RoomStatus status);
+
+    // Transições condicionais: só mudam as linhas que ainda estão no status de origem.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReservationEntity r SET r.status = :to WHERE r.id = :id AND r.status = :from")
+    int compareAndSetStatus(@Param("id") Long id, @Param("from") RoomStatus from, @Param("to") RoomStatus to);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReservationEntity r SET r.status = :to WHERE r.id IN :ids AND r.status = :from")
+    int compareAndSetStatusIn(@Param("ids") Collection<Long> ids, @Param("from") RoomStatus from,
+                              @Param("to") RoomStatus to);
+}
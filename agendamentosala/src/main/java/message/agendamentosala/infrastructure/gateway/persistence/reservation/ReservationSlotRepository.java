@@ -0,0 +1,19 @@
+package message.agendamentosala.infrastructure.gateway.persistence.reservation;
+
+import message.agendamentosala.infrastructure.entity.ReservationSlotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface ReservationSlotRepository extends JpaRepository<ReservationSlotEntity, Long> {
+
+    // Libera as fatias das reservas num único DELETE, sem carregar as entidades.
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ReservationSlotEntity s WHERE s.reservation.id IN :reservationIds")
+    int deleteByReservationIdIn(@Param("reservationIds") Collection<Long> reservationIds);
+}
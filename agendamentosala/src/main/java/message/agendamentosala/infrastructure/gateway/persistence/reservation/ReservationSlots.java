@@ -0,0 +1,39 @@
+package message.agendamentosala.infrastructure.gateway.persistence.reservation;
+
+import message.agendamentosala.infrastructure.entity.ReservationEntity;
+import message.agendamentosala.infrastructure.entity.ReservationSlotEntity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+// Fatias de 5 min (as mesmas do DaySlotBitmap, mas no dia inteiro: índices 0 a 287) em que uma reserva encosta,
+// da fatia do início até a que contém o fim. Reservas novas começam e terminam na grade de 5 min
+// (BusinessHours.isOnSlotGrid), então as fatias cobrem exatamente [início, fim): duas reservas disputam uma fatia
+// se e somente se se sobrepõem, e reservas encostadas nunca colidem. Reservas antigas, de antes da grade,
+// reivindicam também as fatias parciais das bordas.
+final class ReservationSlots {
+
+    private static final int SLOT_MINUTES = DaySlotBitmap.SLOT_MINUTES;
+
+    private ReservationSlots() {
+    }
+
+    static List<ReservationSlotEntity> claimedBy(ReservationEntity reservation) {
+        LocalDateTime start = reservation.getStartDateTime().truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime cursor = start.minusMinutes(start.getMinute() % SLOT_MINUTES);
+
+        List<ReservationSlotEntity> slots = new ArrayList<>();
+        while (cursor.isBefore(reservation.getEndDateTime())) {
+            slots.add(ReservationSlotEntity.builder()
+                    .roomName(reservation.getRoomName())
+                    .slotDate(cursor.toLocalDate())
+                    .slotIndex((cursor.getHour() * 60 + cursor.getMinute()) / SLOT_MINUTES)
+                    .reservation(reservation)
+                    .build());
+            cursor = cursor.plusMinutes(SLOT_MINUTES);
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,17 @@
+package message.agendamentosala.infrastructure.gateway.persistence.reservation;
+
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+
+import java.time.LocalDateTime;
+
+// Reserva como lida pelas consultas GET: montada direto pelo "SELECT new", sem entidade gerenciada
+// no contexto de persistência e sem passar de novo pelas validações de criação do domínio.
+public record ReservationView(Long id,
+                              String userEmail,
+                              RoomName roomName,
+                              int requiredPeople,
+                              LocalDateTime startDateTime,
+                              LocalDateTime endDateTime,
+                              RoomStatus status) {
+}
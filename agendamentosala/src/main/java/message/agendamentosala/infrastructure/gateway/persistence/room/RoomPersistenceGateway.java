@@ -6,6 +6,7 @@ import message.agendamentosala.domain.model.RoomName;
 import message.agendamentosala.domain.model.RoomStatus;
 import message.agendamentosala.infrastructure.entity.RoomEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -46,6 +47,17 @@ public class RoomPersistenceGateway {
         return repository.findAll().stream().map(this::toDomain).collect(Collectors.toList());
     }
 
+    // Caminhos só de leitura: transação readOnly e linhas projetadas direto da consulta.
+    @Transactional(readOnly = true)
+    public List<RoomView> findAllViews() {
+        return repository.findAllViews();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<RoomView> findViewById(Long id) {
+        return repository.findViewById(id);
+    }
+
     public List<Room> findByStatus(RoomStatus status) {
         return repository.findByStatus(status).stream().map(this::toDomain).collect(Collectors.toList());
     }
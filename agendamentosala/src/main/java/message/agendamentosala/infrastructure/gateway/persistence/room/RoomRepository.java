@@ -4,6 +4,8 @@ import message.agendamentosala.domain.model.RoomName;
 import message.agendamentosala.domain.model.RoomStatus;
 import message.agendamentosala.infrastructure.entity.RoomEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +16,13 @@ public interface RoomRepository extends JpaRepository<RoomEntity, Long> {
 
     Optional<RoomEntity> findByName(RoomName name);
     List<RoomEntity> findByStatus(RoomStatus status);
+
+    // Projeções para as consultas GET: linhas leves, sem entidades no contexto de persistência.
+    @Query("SELECT new message.agendamentosala.infrastructure.gateway.persistence.room.RoomView(r.id, r.name, r.status) " +
+            "FROM RoomEntity r ORDER BY r.id")
+    List<RoomView> findAllViews();
+
+    @Query("SELECT new message.agendamentosala.infrastructure.gateway.persistence.room.RoomView(r.id, r.name, r.status) " +
+            "FROM RoomEntity r WHERE r.id = :id")
+    Optional<RoomView> findViewById(@Param("id") Long id);
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package message.agendamentosala.infrastructure.gateway.persistence.room;
+
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+
+// Sala como lida pelas consultas GET, projetada direto da tabela.
+public record RoomView(Long id, RoomName name, RoomStatus status) {
+
+    public int getCapacity() {
+        return name.getCapacity();
+    }
+}
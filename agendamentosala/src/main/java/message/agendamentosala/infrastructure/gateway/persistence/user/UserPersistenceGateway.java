@@ -4,8 +4,12 @@ import lombok.AllArgsConstructor;
 import message.agendamentosala.domain.model.User;
 import message.agendamentosala.infrastructure.entity.UserEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
@@ -28,6 +32,16 @@ public class UserPersistenceGateway {
         return repository.findById(email).map(this::toDomain);
     }
 
+    // Caminho só de leitura: transação readOnly e linha projetada direto da consulta.
+    @Transactional(readOnly = true)
+    public Optional<UserView> findViewByEmail(String email) {
+        return repository.findViewByEmail(email);
+    }
+
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return repository.findAllById(emails).stream().map(UserEntity::getEmail).collect(Collectors.toSet());
+    }
+
     public User save(User user) {
         UserEntity savedEntity = repository.save(toEntity(user));
         return toDomain(savedEntity);
@@ -2,8 +2,17 @@ package message.agendamentosala.infrastructure.gateway.persistence.user;
 
 import message.agendamentosala.infrastructure.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, String> {
+
+    // Projeção para o GET de usuário: linha leve, sem entidade no contexto de persistência.
+    @Query("SELECT new message.agendamentosala.infrastructure.gateway.persistence.user.UserView(u.fullName, u.email) " +
+            "FROM UserEntity u WHERE u.email = :email")
+    Optional<UserView> findViewByEmail(@Param("email") String email);
 }
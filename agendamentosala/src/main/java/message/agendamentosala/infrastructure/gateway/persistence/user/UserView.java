@@ -0,0 +1,5 @@
+package message.agendamentosala.infrastructure.gateway.persistence.user;
+
+// Usuário como lido pelas consultas GET, projetado direto da tabela.
+public record UserView(String fullName, String email) {
+}
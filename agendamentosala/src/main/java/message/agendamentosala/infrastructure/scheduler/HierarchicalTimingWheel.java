@@ -0,0 +1,136 @@
+package message.agendamentosala.infrastructure.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Roda de tempo hierárquica: o nível 0 tem "wheelSize" posições de um tick cada; cada nível acima cobre
+// "wheelSize" vezes o anterior. Um item entra no nível mais baixo que alcança o seu prazo e desce de nível
+// quando o tempo chega na posição dele, até expirar no nível 0. Agendar e expirar custam O(1) por item,
+// independentemente de quantos estão pendentes.
+// O tempo é sempre passado por quem chama (advance), e um item nunca expira antes do seu prazo.
+// O acesso é protegido por um ReentrantLock, não por synchronized: schedule é chamado das threads virtuais das
+// requisições, e esperar por um monitor no Java 21 prende a thread portadora.
+public class HierarchicalTimingWheel<T> {
+
+    private record Entry<T>(T item, long deadlineTick) {
+    }
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<List<Entry<T>>[]> levels = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis deve ser positivo e wheelSize maior que 1.");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTick = startMillis / tickMillis;
+        addLevel();
+    }
+
+    // Devolve true se o prazo já passou: nesse caso o item não é guardado e quem chama decide o que fazer.
+    public boolean schedule(T item, long deadlineMillis) {
+        long deadlineTick = Math.ceilDiv(deadlineMillis, tickMillis);
+        lock.lock();
+        try {
+            if (deadlineTick <= currentTick) {
+                return true;
+            }
+            place(new Entry<>(item, deadlineTick));
+            size++;
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Avança até "nowMillis" e devolve os itens cujo prazo foi alcançado, em ordem de prazo.
+    public List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+        lock.lock();
+        try {
+            while (currentTick < targetTick) {
+                currentTick++;
+                cascade();
+                List<Entry<T>>[] root = levels.get(0);
+                int slot = (int) (currentTick % wheelSize);
+                if (root[slot] != null) {
+                    for (Entry<T> entry : root[slot]) {
+                        expired.add(entry.item());
+                    }
+                    size -= root[slot].size();
+                    root[slot] = null;
+                }
+            }
+            return expired;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Ao cruzar a fronteira de um nível, a posição atual dele é redistribuída nos níveis de baixo,
+    // começando pelo mais alto para que um item possa descer mais de um nível no mesmo tick.
+    private void cascade() {
+        for (int level = levels.size() - 1; level >= 1; level--) {
+            long span = span(level);
+            if (currentTick % span != 0) {
+                continue;
+            }
+            List<Entry<T>>[] buckets = levels.get(level);
+            int slot = (int) ((currentTick / span) % wheelSize);
+            List<Entry<T>> due = buckets[slot];
+            if (due != null) {
+                buckets[slot] = null;
+                due.forEach(this::place);
+            }
+        }
+    }
+
+    // Nível mais baixo em que o prazo cai dentro de uma volta; cria níveis novos conforme a necessidade.
+    // No nível 0, um prazo igual ao tick atual só acontece durante a redistribuição e expira neste mesmo tick.
+    private void place(Entry<T> entry) {
+        int level = 0;
+        while (entry.deadlineTick() / span(level) - currentTick / span(level) >= wheelSize) {
+            level++;
+            if (level == levels.size()) {
+                addLevel();
+            }
+        }
+        long position = entry.deadlineTick() / span(level);
+        List<Entry<T>>[] buckets = levels.get(level);
+        int slot = (int) (position % wheelSize);
+        if (buckets[slot] == null) {
+            buckets[slot] = new ArrayList<>();
+        }
+        buckets[slot].add(entry);
+    }
+
+    private long span(int level) {
+        long span = 1;
+        for (int i = 0; i < level; i++) {
+            span *= wheelSize;
+        }
+        return span;
+    }
+
+    private void addLevel() {
+        @SuppressWarnings("unchecked")
+        List<Entry<T>>[] buckets = (List<Entry<T>>[]) new List<?>[wheelSize];
+        levels.add(buckets);
+    }
+}
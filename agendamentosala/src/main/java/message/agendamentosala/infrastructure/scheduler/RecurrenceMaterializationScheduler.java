@@ -0,0 +1,23 @@
+package message.agendamentosala.infrastructure.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import message.agendamentosala.application.usecase.reservation.MaterializeRecurringReservationsUseCase;
+import message.agendamentosala.domain.model.RecurrenceMaterialization;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecurrenceMaterializationScheduler {
+
+    private final MaterializeRecurringReservationsUseCase materializeRecurringReservationsUseCase;
+
+    @Scheduled(cron = "${reservation.recurrence.materialization-cron:0 0 1 * * *}")
+    public void materialize() {
+        RecurrenceMaterialization result = materializeRecurringReservationsUseCase.execute();
+        log.info("{} ocorrências materializadas, {} puladas por conflito de horário.",
+                result.created(), result.skipped().size());
+    }
+}
@@ -0,0 +1,121 @@
+package message.agendamentosala.infrastructure.scheduler;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import message.agendamentosala.application.usecase.reservation.ProcessStandByCancellationUseCase;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.infrastructure.config.RabbitMQConfig;
+import message.agendamentosala.infrastructure.config.StandByProperties;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+// Vencimento do STAND_BY em memória (reservation.standby.expiry=timing-wheel), no lugar da fila com TTL do
+// RabbitMQ: sem as duas passagens pelo broker por reserva, e os vencidos de cada tick são cancelados em lote.
+// Na subida a roda é remontada com todas as reservas STAND_BY do banco. Como o banco não guarda quando a reserva
+// entrou em STAND_BY, elas recebem o TTL inteiro a partir da subida: nenhuma vence antes do prazo, mas depois de
+// um restart podem durar até um TTL a mais.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reservation.standby.expiry", havingValue = "timing-wheel")
+public class StandByExpiryScheduler {
+
+    public static final int MAX_EXPIRY_ATTEMPTS = 5;
+    private static final int WHEEL_SIZE = 64;
+
+    private final ReservationPersistenceGateway reservationGateway;
+    private final ProcessStandByCancellationUseCase cancellationUseCase;
+    private final StandByProperties properties;
+    private final LongSupplier clock;
+    private final HierarchicalTimingWheel<Long> wheel;
+    // Tentativas que já falharam por reserva; só a thread do @Scheduled mexe aqui.
+    private final Map<Long, Integer> failedAttempts = new HashMap<>();
+
+    @Autowired
+    public StandByExpiryScheduler(ReservationPersistenceGateway reservationGateway,
+                                  ProcessStandByCancellationUseCase cancellationUseCase,
+                                  StandByProperties properties) {
+        this(reservationGateway, cancellationUseCase, properties, System::currentTimeMillis);
+    }
+
+    public StandByExpiryScheduler(ReservationPersistenceGateway reservationGateway,
+                                  ProcessStandByCancellationUseCase cancellationUseCase,
+                                  StandByProperties properties,
+                                  LongSupplier clock) {
+        this.reservationGateway = reservationGateway;
+        this.cancellationUseCase = cancellationUseCase;
+        this.properties = properties;
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel<>(properties.tickMillis(), WHEEL_SIZE, clock.getAsLong());
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        List<Long> standByIds = reservationGateway.findIdsByStatus(RoomStatus.STAND_BY);
+        long deadline = clock.getAsLong() + RabbitMQConfig.STAND_BY_TTL_MS;
+        standByIds.forEach(id -> wheel.schedule(id, deadline));
+        log.info("Roda de tempo do STAND_BY remontada com {} reservas.", standByIds.size());
+    }
+
+    public void schedule(Long reservationId) {
+        wheel.schedule(reservationId, clock.getAsLong() + RabbitMQConfig.STAND_BY_TTL_MS);
+    }
+
+    public int pending() {
+        return wheel.size();
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.standby.tick-millis:1000}")
+    public void expire() {
+        List<Long> expired = wheel.advance(clock.getAsLong());
+        for (int from = 0; from < expired.size(); from += properties.batchSize()) {
+            List<Long> batch = expired.subList(from, Math.min(from + properties.batchSize(), expired.size()));
+            try {
+                cancellationUseCase.execute(batch);
+                if (!failedAttempts.isEmpty()) {
+                    batch.forEach(failedAttempts::remove);
+                }
+            } catch (RuntimeException e) {
+                if (batch.size() == 1) {
+                    retryLater(batch.getFirst(), e);
+                } else {
+                    log.warn("Erro ao cancelar {} reservas STAND_BY vencidas; tentando cada ID separadamente.",
+                            batch.size(), e);
+                    batch.forEach(this::expireAlone);
+                }
+            }
+        }
+    }
+
+    private void expireAlone(Long reservationId) {
+        try {
+            cancellationUseCase.execute(List.of(reservationId));
+            failedAttempts.remove(reservationId);
+        } catch (RuntimeException e) {
+            retryLater(reservationId, e);
+        }
+    }
+
+    // Um ID que continua falhando volta para a roda com espera dobrada a cada tentativa (2, 4, 8... ticks) e, depois
+    // de MAX_EXPIRY_ATTEMPTS tentativas, sai da roda, como a fila faz com a mensagem que falha.
+    private void retryLater(Long reservationId, RuntimeException e) {
+        int attempts = failedAttempts.merge(reservationId, 1, Integer::sum);
+        if (attempts >= MAX_EXPIRY_ATTEMPTS) {
+            failedAttempts.remove(reservationId);
+            log.error("Reserva {} não pôde ser cancelada após {} tentativas; removida da roda de tempo.",
+                    reservationId, attempts, e);
+            return;
+        }
+        long delay = properties.tickMillis() << attempts;
+        log.warn("Erro ao cancelar a reserva {} (tentativa {} de {}); nova tentativa em {} ms.",
+                reservationId, attempts, MAX_EXPIRY_ATTEMPTS, delay, e);
+        wheel.schedule(reservationId, clock.getAsLong() + delay);
+    }
+}
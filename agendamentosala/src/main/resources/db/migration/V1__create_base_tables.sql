@@ -0,0 +1,41 @@
+-- Esquema inicial, equivalente ao que o ddl-auto=update gerava a partir das entidades.
+-- Os enums são gravados como texto (@Enumerated(EnumType.STRING)).
+
+CREATE TABLE app_user (
+    email     VARCHAR(255) NOT NULL,
+    full_name VARCHAR(255),
+    PRIMARY KEY (email)
+);
+
+CREATE TABLE room (
+    id     BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name   VARCHAR(20),
+    status VARCHAR(20),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE recurrence_rule (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_email         VARCHAR(255),
+    room_name          VARCHAR(20),
+    required_people    INTEGER NOT NULL,
+    frequency          VARCHAR(20),
+    start_date         DATE,
+    until_date         DATE,
+    start_time         TIME(6),
+    end_time           TIME(6),
+    materialized_until DATE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE reservation (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_email         VARCHAR(255),
+    room_name          VARCHAR(20),
+    required_people    INTEGER NOT NULL,
+    start_date_time    TIMESTAMP(6),
+    end_date_time      TIMESTAMP(6),
+    status             VARCHAR(20),
+    recurrence_rule_id BIGINT,
+    PRIMARY KEY (id)
+);
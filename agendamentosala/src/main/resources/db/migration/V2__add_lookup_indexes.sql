@@ -0,0 +1,29 @@
+-- Conferência de conflito (findConflictingReservations / findFreeWindows):
+--   room_name = ? AND status IN (...) AND start_date_time < ? AND end_date_time > ?
+-- Igualdade em room_name e status, faixa em start_date_time; end_date_time entra no índice
+-- para o filtro final ser resolvido sem voltar à tabela.
+CREATE INDEX idx_reservation_room_status_start
+    ON reservation (room_name, status, start_date_time, end_date_time);
+
+-- Reservas ativas do usuário (findByUserEmailAndStatusIn...OrderByStartDateTimeAsc e lote de usuários).
+CREATE INDEX idx_reservation_user_status
+    ON reservation (user_email, status, start_date_time);
+
+-- Consultas por status sem sala: carga do índice em memória e consultas de disponibilidade de todas as salas.
+CREATE INDEX idx_reservation_status_start
+    ON reservation (status, start_date_time, end_date_time);
+
+-- Ocorrências de uma recorrência a partir de uma data (cancelamento da série).
+CREATE INDEX idx_reservation_recurrence_start
+    ON reservation (recurrence_rule_id, start_date_time);
+
+-- Salas são buscadas pelo nome e o CreateRoomUseCase já impede nomes repetidos.
+CREATE UNIQUE INDEX uk_room_name
+    ON room (name);
+
+CREATE INDEX idx_room_status
+    ON room (status);
+
+-- Regras com ocorrências ainda não materializadas.
+CREATE INDEX idx_recurrence_rule_materialized
+    ON recurrence_rule (materialized_until);
@@ -0,0 +1,22 @@
+-- Com IDENTITY o Hibernate precisa executar cada INSERT na hora para descobrir o id, o que desliga o
+-- batch do JDBC. Os ids passam a vir de sequências com incremento 50 (otimizador "pooled" do Hibernate):
+-- cada valor lido da sequência reserva 50 ids na aplicação, e os INSERTs saem em lote no flush.
+-- O incremento precisa ser igual ao allocationSize do @SequenceGenerator da entidade.
+--
+-- A coluna continua com valor padrão vindo da sequência para INSERTs feitos direto no banco
+-- (cargas e testes); cada um desses consome um bloco inteiro, então não colide com os ids da aplicação.
+
+CREATE SEQUENCE reservation_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE reservation_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM reservation);
+ALTER TABLE reservation ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE reservation ALTER COLUMN id SET DEFAULT NEXT VALUE FOR reservation_seq;
+
+CREATE SEQUENCE room_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE room_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM room);
+ALTER TABLE room ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE room ALTER COLUMN id SET DEFAULT NEXT VALUE FOR room_seq;
+
+CREATE SEQUENCE recurrence_rule_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE recurrence_rule_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM recurrence_rule);
+ALTER TABLE recurrence_rule ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE recurrence_rule ALTER COLUMN id SET DEFAULT NEXT VALUE FOR recurrence_rule_seq;
@@ -0,0 +1,38 @@
+-- Cada reserva ativa reivindica, na sua sala, as fatias de 5 min do dia (0 a 287) em que encosta. A chave única
+-- impede que duas reservas reivindiquem a mesma fatia: a sobreposição passa a ser barrada pelo próprio banco,
+-- mesmo com várias instâncias da aplicação e sem travar a tabela. As fatias são inseridas na mesma transação da
+-- reserva e apagadas quando ela vence no STAND_BY ou é excluída (ON DELETE CASCADE).
+CREATE SEQUENCE reservation_slot_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE reservation_slot (
+    id             BIGINT DEFAULT NEXT VALUE FOR reservation_slot_seq NOT NULL,
+    room_name      VARCHAR(20) NOT NULL,
+    slot_date      DATE        NOT NULL,
+    slot_index     INTEGER     NOT NULL,
+    reservation_id BIGINT      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_reservation_slot UNIQUE (room_name, slot_date, slot_index),
+    CONSTRAINT fk_reservation_slot_reservation FOREIGN KEY (reservation_id)
+        REFERENCES reservation (id) ON DELETE CASCADE
+);
+
+-- Liberação das fatias de uma reserva (vencimento do STAND_BY e exclusão).
+CREATE INDEX idx_reservation_slot_reservation
+    ON reservation_slot (reservation_id);
+
+-- Fatias das reservas que já estão ativas. Se duas delas já se sobrepunham, a fatia em comum fica com a mais antiga.
+INSERT INTO reservation_slot (room_name, slot_date, slot_index, reservation_id)
+SELECT c.room_name, CAST(c.slot_start AS DATE),
+       (EXTRACT(HOUR FROM c.slot_start) * 60 + EXTRACT(MINUTE FROM c.slot_start)) / 5, MIN(c.id)
+FROM (
+    SELECT r.id, r.room_name, r.end_date_time,
+           DATEADD(MINUTE, 5 * s.X - MOD(EXTRACT(MINUTE FROM r.start_date_time), 5),
+                   DATE_TRUNC(MINUTE, r.start_date_time)) AS slot_start
+    FROM reservation r
+    JOIN SYSTEM_RANGE(0, (SELECT COALESCE(MAX(DATEDIFF(MINUTE, start_date_time, end_date_time)), 0) / 5 + 1
+                          FROM reservation)) s ON TRUE
+    WHERE r.status IN ('STAND_BY', 'PENDING', 'CHECKED_IN')
+) c
+WHERE c.slot_start < c.end_date_time
+GROUP BY c.room_name, CAST(c.slot_start AS DATE),
+         (EXTRACT(HOUR FROM c.slot_start) * 60 + EXTRACT(MINUTE FROM c.slot_start)) / 5;
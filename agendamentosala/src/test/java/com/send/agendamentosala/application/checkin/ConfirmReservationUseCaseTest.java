@@ -5,6 +5,7 @@ import message.agendamentosala.domain.exception.ValidationException;
 import message.agendamentosala.domain.model.Reservation;
 import message.agendamentosala.domain.model.RoomName;
 import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.StatusTransition;
 import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -43,37 +45,33 @@ class ConfirmReservationUseCaseTest {
     // ---------------------- EXECUTE (Long reservationId) ----------------------
 
     @Test
-    @DisplayName("Should change status to PENDING and save when reservation is STAND_BY")
-    void shouldChangeStatusToPendingAndSaveWhenReservationIsStandBy() {
+    @DisplayName("Should confirm with a conditional update and return the PENDING reservation")
+    void shouldConfirmWithAConditionalUpdateAndReturnThePendingReservation() {
 
-        var standByReservation = createMockReservation(RESERVATION_ID, RoomStatus.STAND_BY);
+        var pendingReservation = createMockReservation(RESERVATION_ID, RoomStatus.PENDING);
 
-        when(persistenceGateway.findById(eq(RESERVATION_ID))).thenReturn(Optional.of(standByReservation));
-        when(persistenceGateway.save(any(Reservation.class))).thenAnswer(invocation -> {
-            Reservation saved = invocation.getArgument(0);
-            assertEquals(RoomStatus.PENDING, saved.status()); // Verifica a transição
-            return saved;
-        });
+        when(persistenceGateway.transition(eq(RESERVATION_ID), eq(StatusTransition.CONFIRM))).thenReturn(true);
+        when(persistenceGateway.findById(eq(RESERVATION_ID))).thenReturn(Optional.of(pendingReservation));
 
         var result = confirmReservationUseCase.execute(RESERVATION_ID);
 
         assertNotNull(result);
         assertEquals(RoomStatus.PENDING, result.status());
-        verify(persistenceGateway, times(1)).findById(eq(RESERVATION_ID));
-        verify(persistenceGateway, times(1)).save(any(Reservation.class));
+        verify(persistenceGateway, times(1)).transition(eq(RESERVATION_ID), eq(StatusTransition.CONFIRM));
+        verify(persistenceGateway, never()).save(any());
     }
 
     @Test
     @DisplayName("Should throw ValidationException when reservation ID is not found")
     void shouldThrowValidationExceptionWhenReservationIdIsNotFound() {
 
+        when(persistenceGateway.transition(eq(RESERVATION_ID), eq(StatusTransition.CONFIRM))).thenReturn(false);
         when(persistenceGateway.findById(eq(RESERVATION_ID))).thenReturn(Optional.empty());
 
         var exception = assertThrows(ValidationException.class, () -> {
             confirmReservationUseCase.execute(RESERVATION_ID);
         });
         assertTrue(exception.getMessage().contains("Reserva não encontrada"));
-        verify(persistenceGateway, times(1)).findById(eq(RESERVATION_ID));
         verify(persistenceGateway, never()).save(any());
     }
 
@@ -82,13 +80,13 @@ class ConfirmReservationUseCaseTest {
     void shouldThrowValidationExceptionWhenReservationStatusIsAlreadyPending() {
 
         var pendingReservation = createMockReservation(RESERVATION_ID, RoomStatus.PENDING);
+        when(persistenceGateway.transition(eq(RESERVATION_ID), eq(StatusTransition.CONFIRM))).thenReturn(false);
         when(persistenceGateway.findById(eq(RESERVATION_ID))).thenReturn(Optional.of(pendingReservation));
 
         var exception = assertThrows(ValidationException.class, () -> {
             confirmReservationUseCase.execute(RESERVATION_ID);
         });
         assertTrue(exception.getMessage().contains("Não é possível confirmar. O status atual é PENDING"));
-        verify(persistenceGateway, times(1)).findById(eq(RESERVATION_ID));
         verify(persistenceGateway, never()).save(any());
     }
 
@@ -97,13 +95,28 @@ class ConfirmReservationUseCaseTest {
     void shouldThrowValidationExceptionWhenReservationStatusIsCheckedIn() {
 
         var checkedInReservation = createMockReservation(RESERVATION_ID, RoomStatus.CHECKED_IN);
+        when(persistenceGateway.transition(eq(RESERVATION_ID), eq(StatusTransition.CONFIRM))).thenReturn(false);
         when(persistenceGateway.findById(eq(RESERVATION_ID))).thenReturn(Optional.of(checkedInReservation));
 
         var exception = assertThrows(ValidationException.class, () -> {
             confirmReservationUseCase.execute(RESERVATION_ID);
         });
         assertTrue(exception.getMessage().contains("Não é possível confirmar. O status atual é CHECKED_IN"));
-        verify(persistenceGateway, times(1)).findById(eq(RESERVATION_ID));
+        verify(persistenceGateway, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should lose to the STAND_BY expiry when it moved the reservation to AVAILABLE first")
+    void shouldLoseToTheStandByExpiryWhenItMovedTheReservationToAvailableFirst() {
+
+        var expiredReservation = createMockReservation(RESERVATION_ID, RoomStatus.AVAILABLE);
+        when(persistenceGateway.transition(eq(RESERVATION_ID), eq(StatusTransition.CONFIRM))).thenReturn(false);
+        when(persistenceGateway.findById(eq(RESERVATION_ID))).thenReturn(Optional.of(expiredReservation));
+
+        var exception = assertThrows(ValidationException.class, () -> {
+            confirmReservationUseCase.execute(RESERVATION_ID);
+        });
+        assertTrue(exception.getMessage().contains("O status atual é AVAILABLE"));
         verify(persistenceGateway, never()).save(any());
     }
 
@@ -119,8 +132,8 @@ class ConfirmReservationUseCaseTest {
         when(persistenceGateway.findActiveReservationsByUserEmail(eq(TEST_EMAIL)))
                 .thenReturn(List.of(standByReservation));
 
-        when(persistenceGateway.findById(eq(RESERVATION_ID))).thenReturn(Optional.of(standByReservation));
-        when(persistenceGateway.save(any(Reservation.class))).thenReturn(pendingReservation);
+        when(persistenceGateway.transition(eq(RESERVATION_ID), eq(StatusTransition.CONFIRM))).thenReturn(true);
+        when(persistenceGateway.findById(eq(RESERVATION_ID))).thenReturn(Optional.of(pendingReservation));
 
         var result = confirmReservationUseCase.execute(TEST_EMAIL);
 
@@ -128,8 +141,8 @@ class ConfirmReservationUseCaseTest {
         assertEquals(RoomStatus.PENDING, result.status());
 
         verify(persistenceGateway, times(1)).findActiveReservationsByUserEmail(eq(TEST_EMAIL));
-        verify(persistenceGateway, times(1)).findById(eq(RESERVATION_ID));
-        verify(persistenceGateway, times(1)).save(any(Reservation.class));
+        verify(persistenceGateway, times(1)).transition(eq(RESERVATION_ID), eq(StatusTransition.CONFIRM));
+        verify(persistenceGateway, never()).save(any());
     }
 
     @Test
@@ -145,7 +158,7 @@ class ConfirmReservationUseCaseTest {
         });
         assertTrue(exception.getMessage().contains("Nenhuma reserva STAND_BY encontrada"));
         verify(persistenceGateway, times(1)).findActiveReservationsByUserEmail(eq(TEST_EMAIL));
-        verify(persistenceGateway, never()).findById(any());
+        verify(persistenceGateway, never()).transition(anyLong(), any());
         verify(persistenceGateway, never()).save(any());
     }
 
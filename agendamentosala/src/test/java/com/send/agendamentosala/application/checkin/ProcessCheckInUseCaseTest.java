@@ -1,9 +1,7 @@
 package com.send.agendamentosala.application.checkin;
 
 import message.agendamentosala.application.usecase.checkin.ProcessCheckInUseCase;
-import message.agendamentosala.domain.model.Reservation;
-import message.agendamentosala.domain.model.RoomName;
-import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.StatusTransition;
 import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,9 +10,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDateTime;
-import java.util.Optional;
-
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -29,70 +24,29 @@ class ProcessCheckInUseCaseTest {
     private ProcessCheckInUseCase processCheckInUseCase;
 
     private final Long RESERVATION_ID = 15L;
-    private final String TEST_EMAIL = "user@example.com";
-    private final LocalDateTime START_TIME = LocalDateTime.now().plusDays(1).toLocalDate().atTime(10, 0, 0);
-    private final LocalDateTime END_TIME = START_TIME.plusHours(1);
-
-    private Reservation createMockReservation(RoomStatus status) {
-        return new Reservation(RESERVATION_ID, TEST_EMAIL, RoomName.HULK, 5, START_TIME, END_TIME, status);
-    }
-
-    @Test
-    @DisplayName("Should change status to CHECKED_IN and save when status is PENDING")
-    void shouldChangeStatusToCheckedInAndSaveWhenStatusIsPending() {
-
-        var pendingReservation = createMockReservation(RoomStatus.PENDING);
-
-        when(persistenceGateway.findById(eq(RESERVATION_ID))).thenReturn(Optional.of(pendingReservation));
-        when(persistenceGateway.save(any(Reservation.class))).thenAnswer(invocation -> {
-            Reservation saved = invocation.getArgument(0);
-            if (saved.status() != RoomStatus.CHECKED_IN) {
-                throw new IllegalStateException("Status was not changed to CHECKED_IN");
-            }
-            return saved;
-        });
-
-        processCheckInUseCase.execute(RESERVATION_ID);
-
-        verify(persistenceGateway, times(1)).findById(eq(RESERVATION_ID));
-        verify(persistenceGateway, times(1)).save(any(Reservation.class));
-    }
-
-    @Test
-    @DisplayName("Should ignore and not save when reservation ID is not found (null)")
-    void shouldIgnoreAndNotSaveWhenReservationIdIsNotFound() {
-
-        when(persistenceGateway.findById(eq(RESERVATION_ID))).thenReturn(Optional.empty());
-
-        processCheckInUseCase.execute(RESERVATION_ID);
-
-        verify(persistenceGateway, times(1)).findById(eq(RESERVATION_ID));
-        verify(persistenceGateway, never()).save(any());
-    }
 
     @Test
-    @DisplayName("Should ignore and not save when status is already CHECKED_IN")
-    void shouldIgnoreAndNotSaveWhenStatusIsAlreadyCheckedIn() {
+    @DisplayName("Should move a PENDING reservation to CHECKED_IN with a single conditional update")
+    void shouldMoveAPendingReservationToCheckedInWithASingleConditionalUpdate() {
 
-        var checkedInReservation = createMockReservation(RoomStatus.CHECKED_IN);
-        when(persistenceGateway.findById(eq(RESERVATION_ID))).thenReturn(Optional.of(checkedInReservation));
+        when(persistenceGateway.transition(eq(RESERVATION_ID), eq(StatusTransition.CHECK_IN))).thenReturn(true);
 
         processCheckInUseCase.execute(RESERVATION_ID);
 
-        verify(persistenceGateway, times(1)).findById(eq(RESERVATION_ID));
+        verify(persistenceGateway, times(1)).transition(eq(RESERVATION_ID), eq(StatusTransition.CHECK_IN));
+        verify(persistenceGateway, never()).findById(any());
         verify(persistenceGateway, never()).save(any());
     }
 
     @Test
-    @DisplayName("Should ignore and not save when status is STAND_BY")
-    void shouldIgnoreAndNotSaveWhenStatusIsStandBy() {
+    @DisplayName("Should ignore and not save when the reservation is missing or no longer PENDING")
+    void shouldIgnoreAndNotSaveWhenTheReservationIsMissingOrNoLongerPending() {
 
-        var standByReservation = createMockReservation(RoomStatus.STAND_BY);
-        when(persistenceGateway.findById(eq(RESERVATION_ID))).thenReturn(Optional.of(standByReservation));
+        when(persistenceGateway.transition(eq(RESERVATION_ID), eq(StatusTransition.CHECK_IN))).thenReturn(false);
 
         processCheckInUseCase.execute(RESERVATION_ID);
 
-        verify(persistenceGateway, times(1)).findById(eq(RESERVATION_ID));
+        verify(persistenceGateway, times(1)).transition(eq(RESERVATION_ID), eq(StatusTransition.CHECK_IN));
         verify(persistenceGateway, never()).save(any());
     }
-}
\ No newline at end of file
+}
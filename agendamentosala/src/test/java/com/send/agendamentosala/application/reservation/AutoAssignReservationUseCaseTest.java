@@ -0,0 +1,72 @@
+package com.send.agendamentosala.application.reservation;
+
+import message.agendamentosala.application.usecase.reservation.AutoAssignReservationUseCase;
+import message.agendamentosala.application.usecase.reservation.CreateReservationUseCase;
+import message.agendamentosala.application.usecase.room.RecommendRoomsUseCase;
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.model.Reservation;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomRecommendation;
+import message.agendamentosala.domain.model.RoomStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AutoAssignReservationUseCaseTest {
+
+    @Mock
+    private RecommendRoomsUseCase recommendRoomsUseCase;
+
+    @Mock
+    private CreateReservationUseCase createReservationUseCase;
+
+    @InjectMocks
+    private AutoAssignReservationUseCase autoAssignReservationUseCase;
+
+    private final String TEST_EMAIL = "user@example.com";
+    private final LocalDateTime START_TIME = LocalDateTime.now().plusDays(1).toLocalDate().atTime(10, 0);
+    private final LocalDateTime END_TIME = START_TIME.plusHours(1);
+
+    @Test
+    @DisplayName("Should create the reservation in the best ranked room")
+    void shouldCreateTheReservationInTheBestRankedRoom() {
+
+        when(recommendRoomsUseCase.execute(eq(4), eq(START_TIME), eq(END_TIME))).thenReturn(List.of(
+                new RoomRecommendation(RoomName.HULK, 5, 0),
+                new RoomRecommendation(RoomName.CAP_MARVEL, 25, 0)
+        ));
+        var created = new Reservation(1L, TEST_EMAIL, RoomName.HULK, 4, START_TIME, END_TIME, RoomStatus.STAND_BY);
+        when(createReservationUseCase.execute(eq(TEST_EMAIL), eq(RoomName.HULK), eq(4), eq(START_TIME), eq(END_TIME)))
+                .thenReturn(created);
+
+        var result = autoAssignReservationUseCase.execute(TEST_EMAIL, 4, START_TIME, END_TIME);
+
+        assertEquals(RoomName.HULK, result.roomName());
+        verify(createReservationUseCase, times(1)).execute(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should throw ValidationException when no room can be recommended")
+    void shouldThrowValidationExceptionWhenNoRoomCanBeRecommended() {
+
+        when(recommendRoomsUseCase.execute(eq(30), eq(START_TIME), eq(END_TIME))).thenReturn(List.of());
+
+        var exception = assertThrows(ValidationException.class, () -> {
+            autoAssignReservationUseCase.execute(TEST_EMAIL, 30, START_TIME, END_TIME);
+        });
+
+        assertTrue(exception.getMessage().contains("Nenhuma sala disponível para 30 pessoas"));
+        verify(createReservationUseCase, never()).execute(any(), any(), anyInt(), any(), any());
+    }
+}
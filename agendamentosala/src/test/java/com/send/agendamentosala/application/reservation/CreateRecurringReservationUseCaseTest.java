@@ -0,0 +1,242 @@
+package com.send.agendamentosala.application.reservation;
+
+import message.agendamentosala.application.usecase.reservation.CreateRecurringReservationUseCase;
+import message.agendamentosala.application.usecase.reservation.ReservationAdmissionLocks;
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.model.RecurrenceFrequency;
+import message.agendamentosala.domain.model.RecurrenceRule;
+import message.agendamentosala.domain.model.Reservation;
+import message.agendamentosala.domain.model.Room;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.TimeWindow;
+import message.agendamentosala.domain.model.User;
+import message.agendamentosala.infrastructure.config.RecurrenceProperties;
+import message.agendamentosala.infrastructure.gateway.persistence.recurrence.RecurrenceRulePersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.user.UserPersistenceGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateRecurringReservationUseCaseTest {
+
+    @Mock
+    private UserPersistenceGateway userGateway;
+
+    @Mock
+    private RoomPersistenceGateway roomGateway;
+
+    @Mock
+    private ReservationPersistenceGateway reservationGateway;
+
+    @Mock
+    private RecurrenceRulePersistenceGateway recurrenceGateway;
+
+    private CreateRecurringReservationUseCase createRecurringReservationUseCase;
+
+    private final String TEST_EMAIL = "user@example.com";
+    private final LocalDate NEXT_MONDAY = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+    private final LocalTime START = LocalTime.of(9, 0);
+    private final LocalTime END = LocalTime.of(10, 0);
+
+    @BeforeEach
+    void setUp() {
+        createRecurringReservationUseCase = new CreateRecurringReservationUseCase(
+                userGateway, roomGateway, reservationGateway, recurrenceGateway, new RecurrenceProperties(28),
+                new ReservationAdmissionLocks(), new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    private void mockUserAndRoom() {
+        when(userGateway.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(new User("Usuario Teste", TEST_EMAIL)));
+        when(roomGateway.findByName(RoomName.THOR)).thenReturn(Optional.of(new Room(1L, RoomName.THOR, RoomStatus.AVAILABLE)));
+    }
+
+    // ---------------------- CENÁRIOS DE SUCESSO ----------------------
+
+    @Test
+    @DisplayName("Should check every weekly occurrence at once and persist only the ones inside the horizon")
+    void shouldCheckEveryWeeklyOccurrenceAtOnceAndPersistOnlyTheOnesInsideTheHorizon() {
+
+        mockUserAndRoom();
+        LocalDate until = NEXT_MONDAY.plusMonths(6);
+        when(reservationGateway.findConflicts(eq(RoomName.THOR), anyList()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(1)).stream().map(w -> false).toList());
+        when(recurrenceGateway.save(any())).thenAnswer(invocation -> {
+            RecurrenceRule rule = invocation.getArgument(0);
+            return new RecurrenceRule(9L, rule.userEmail(), rule.roomName(), rule.requiredPeople(), rule.frequency(),
+                    rule.startDate(), rule.untilDate(), rule.startTime(), rule.endTime(), rule.materializedUntil());
+        });
+        when(reservationGateway.saveAll(anyList(), eq(9L))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var result = createRecurringReservationUseCase.execute(TEST_EMAIL, RoomName.THOR, 5, RecurrenceFrequency.WEEKLY,
+                NEXT_MONDAY, until, START, END);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TimeWindow>> windows = ArgumentCaptor.forClass(List.class);
+        verify(reservationGateway, times(1)).findConflicts(eq(RoomName.THOR), windows.capture());
+        assertTrue(windows.getValue().size() >= 26);
+        assertTrue(windows.getValue().stream().allMatch(w -> w.startDateTime().getDayOfWeek() == DayOfWeek.MONDAY));
+
+        LocalDate horizon = LocalDate.now().plusDays(28);
+        assertEquals(horizon, result.rule().materializedUntil());
+        assertFalse(result.reservations().isEmpty());
+        assertTrue(result.reservations().size() <= 4);
+        assertTrue(result.reservations().stream().allMatch(r ->
+                r.status() == RoomStatus.PENDING && !r.startDateTime().toLocalDate().isAfter(horizon)));
+        verify(reservationGateway, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should not persist any occurrence yet when the series starts after the horizon")
+    void shouldNotPersistAnyOccurrenceYetWhenTheSeriesStartsAfterTheHorizon() {
+
+        mockUserAndRoom();
+        LocalDate start = LocalDate.now().plusDays(60);
+        when(reservationGateway.findConflicts(eq(RoomName.THOR), anyList()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(1)).stream().map(w -> false).toList());
+        when(recurrenceGateway.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var result = createRecurringReservationUseCase.execute(TEST_EMAIL, RoomName.THOR, 5, RecurrenceFrequency.DAILY,
+                start, start.plusDays(9), START, END);
+
+        assertTrue(result.reservations().isEmpty());
+        verify(reservationGateway, never()).saveAll(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Should create the series even when the user already has an active standalone reservation")
+    void shouldCreateTheSeriesEvenWhenTheUserAlreadyHasAnActiveStandaloneReservation() {
+
+        mockUserAndRoom();
+        lenient().when(reservationGateway.hasActiveReservation(TEST_EMAIL)).thenReturn(true);
+        when(reservationGateway.findConflicts(eq(RoomName.THOR), anyList()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(1)).stream().map(w -> false).toList());
+        when(recurrenceGateway.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(reservationGateway.saveAll(anyList(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var result = createRecurringReservationUseCase.execute(TEST_EMAIL, RoomName.THOR, 5, RecurrenceFrequency.WEEKLY,
+                NEXT_MONDAY, NEXT_MONDAY.plusWeeks(2), START, END);
+
+        assertEquals(3, result.reservations().size());
+        verify(reservationGateway, never()).hasActiveReservation(any());
+    }
+
+    // ---------------------- CENÁRIOS DE FALHA ----------------------
+
+    @Test
+    @DisplayName("Should throw ValidationException listing every conflicting date of the series")
+    void shouldThrowValidationExceptionListingEveryConflictingDateOfTheSeries() {
+
+        mockUserAndRoom();
+        when(reservationGateway.findConflicts(eq(RoomName.THOR), anyList())).thenAnswer(invocation -> {
+            List<?> windows = invocation.getArgument(1);
+            List<Boolean> conflicts = new ArrayList<>();
+            for (int i = 0; i < windows.size(); i++) {
+                conflicts.add(i == 2);
+            }
+            return conflicts;
+        });
+
+        var exception = assertThrows(ValidationException.class, () -> {
+            createRecurringReservationUseCase.execute(TEST_EMAIL, RoomName.THOR, 5, RecurrenceFrequency.WEEKLY,
+                    NEXT_MONDAY, NEXT_MONDAY.plusWeeks(4), START, END);
+        });
+
+        assertTrue(exception.getMessage().contains(NEXT_MONDAY.plusWeeks(2).toString()));
+        verify(recurrenceGateway, never()).save(any());
+        verify(reservationGateway, never()).saveAll(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Should throw ValidationException when another series of the room still has occurrences to materialize at an overlapping time")
+    void shouldThrowValidationExceptionWhenAnotherSeriesStillHasOccurrencesToMaterializeAtAnOverlappingTime() {
+
+        mockUserAndRoom();
+        when(reservationGateway.findConflicts(eq(RoomName.THOR), anyList()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(1)).stream().map(w -> false).toList());
+        // Outra série toda segunda das 09:30 às 10:30, já materializada até a terceira segunda: as seguintes
+        // ainda não estão em reservation nem no índice de conflitos.
+        RecurrenceRule otherSeries = new RecurrenceRule(4L, "other@example.com", RoomName.THOR, 3,
+                RecurrenceFrequency.WEEKLY, NEXT_MONDAY, NEXT_MONDAY.plusWeeks(8),
+                LocalTime.of(9, 30), LocalTime.of(10, 30), NEXT_MONDAY.plusWeeks(2));
+        when(recurrenceGateway.findUnmaterializedOverlapping(RoomName.THOR, NEXT_MONDAY, NEXT_MONDAY.plusWeeks(4),
+                START, END)).thenReturn(List.of(otherSeries));
+
+        var exception = assertThrows(ValidationException.class, () -> {
+            createRecurringReservationUseCase.execute(TEST_EMAIL, RoomName.THOR, 5, RecurrenceFrequency.WEEKLY,
+                    NEXT_MONDAY, NEXT_MONDAY.plusWeeks(4), START, END);
+        });
+
+        assertTrue(exception.getMessage().endsWith("nas datas: " +
+                List.of(NEXT_MONDAY.plusWeeks(3), NEXT_MONDAY.plusWeeks(4)) + "."));
+        verify(recurrenceGateway, never()).save(any());
+        verify(reservationGateway, never()).saveAll(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Should throw ValidationException when the occurrences fall outside business hours")
+    void shouldThrowValidationExceptionWhenTheOccurrencesFallOutsideBusinessHours() {
+
+        mockUserAndRoom();
+
+        var exception = assertThrows(ValidationException.class, () -> {
+            createRecurringReservationUseCase.execute(TEST_EMAIL, RoomName.THOR, 5, RecurrenceFrequency.DAILY,
+                    NEXT_MONDAY, NEXT_MONDAY.plusDays(5), LocalTime.of(17, 30), LocalTime.of(19, 0));
+        });
+
+        assertEquals("O tempo permitido para reserva é das 08:00 até às 18:00.", exception.getMessage());
+        verify(reservationGateway, never()).findConflicts(any(RoomName.class), anyList());
+    }
+
+    @Test
+    @DisplayName("Should throw ValidationException when the series times are off the 5-minute grid")
+    void shouldThrowValidationExceptionWhenTheSeriesTimesAreOffTheFiveMinuteGrid() {
+
+        mockUserAndRoom();
+
+        var exception = assertThrows(ValidationException.class, () -> {
+            createRecurringReservationUseCase.execute(TEST_EMAIL, RoomName.THOR, 5, RecurrenceFrequency.WEEKLY,
+                    NEXT_MONDAY, NEXT_MONDAY.plusWeeks(4), LocalTime.of(9, 32), LocalTime.of(10, 5));
+        });
+
+        assertEquals("Os horários de início e término devem ser múltiplos de 5 min (ex.: 09:00, 09:05, 09:10).",
+                exception.getMessage());
+        verify(reservationGateway, never()).findConflicts(any(RoomName.class), anyList());
+    }
+
+    @Test
+    @DisplayName("Should throw ValidationException when the room capacity is exceeded")
+    void shouldThrowValidationExceptionWhenTheRoomCapacityIsExceeded() {
+
+        mockUserAndRoom();
+
+        var exception = assertThrows(ValidationException.class, () -> {
+            createRecurringReservationUseCase.execute(TEST_EMAIL, RoomName.THOR, 11, RecurrenceFrequency.WEEKLY,
+                    NEXT_MONDAY, NEXT_MONDAY.plusWeeks(4), START, END);
+        });
+
+        assertTrue(exception.getMessage().contains("possui a capacidade de limite de pessoas"));
+        verify(reservationGateway, never()).saveAll(anyList(), any());
+    }
+}
@@ -0,0 +1,200 @@
+package com.send.agendamentosala.application.reservation;
+
+import message.agendamentosala.application.usecase.reservation.CreateReservationBatchUseCase;
+import message.agendamentosala.application.usecase.reservation.ReservationAdmissionLocks;
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.model.Reservation;
+import message.agendamentosala.domain.model.ReservationBatchItem;
+import message.agendamentosala.domain.model.Room;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.infrastructure.gateway.messaging.ReservationProducerGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.user.UserPersistenceGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateReservationBatchUseCaseTest {
+
+    @Mock
+    private UserPersistenceGateway userGateway;
+
+    @Mock
+    private RoomPersistenceGateway roomGateway;
+
+    @Mock
+    private ReservationPersistenceGateway reservationGateway;
+
+    @Mock
+    private ReservationProducerGateway producerGateway;
+
+    @Spy
+    private ReservationAdmissionLocks admissionLocks = new ReservationAdmissionLocks();
+
+    @InjectMocks
+    private CreateReservationBatchUseCase createReservationBatchUseCase;
+
+    private final LocalDateTime START_TIME = LocalDateTime.now().plusDays(1).toLocalDate().atTime(10, 0);
+    private final LocalDateTime END_TIME = START_TIME.plusHours(1);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(roomGateway.findAll()).thenReturn(Arrays.stream(RoomName.values())
+                .map(name -> new Room((long) name.ordinal() + 1, name, RoomStatus.AVAILABLE))
+                .toList());
+        lenient().when(reservationGateway.findUsersWithActiveReservations(any())).thenReturn(Set.of());
+        lenient().when(reservationGateway.findConflicts(any())).thenAnswer(invocation -> {
+            List<Reservation> candidates = invocation.getArgument(0);
+            return candidates.stream().map(c -> false).toList();
+        });
+        AtomicLong ids = new AtomicLong();
+        lenient().when(reservationGateway.saveAll(any())).thenAnswer(invocation -> {
+            List<Reservation> reservations = invocation.getArgument(0);
+            List<Reservation> saved = new ArrayList<>();
+            for (Reservation r : reservations) {
+                saved.add(new Reservation(ids.incrementAndGet(), r.userEmail(), r.roomName(), r.requiredPeople(),
+                        r.startDateTime(), r.endDateTime(), r.status()));
+            }
+            return saved;
+        });
+    }
+
+    private ReservationBatchItem item(String email, RoomName roomName, int people, LocalDateTime start, LocalDateTime end) {
+        return new ReservationBatchItem(email, roomName, people, start, end);
+    }
+
+    // ---------------------- CENÁRIOS DE SUCESSO ----------------------
+
+    @Test
+    @DisplayName("Should persist every accepted item in one call and publish their timeouts together")
+    void shouldPersistEveryAcceptedItemInOneCallAndPublishTheirTimeoutsTogether() {
+
+        when(userGateway.findExistingEmails(any())).thenReturn(Set.of("a@example.com", "b@example.com"));
+
+        var results = createReservationBatchUseCase.execute(List.of(
+                item("a@example.com", RoomName.THOR, 5, START_TIME, END_TIME),
+                item("b@example.com", RoomName.LOKI, 5, START_TIME, END_TIME)
+        ));
+
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertTrue(results.get(1).isSuccess());
+        assertEquals(RoomStatus.STAND_BY, results.get(0).reservation().status());
+        assertEquals(1, results.get(1).index());
+        verify(reservationGateway, times(1)).saveAll(argThat(list -> list.size() == 2));
+        verify(producerGateway, times(1)).sendStandByTimeouts(argThat(list -> list.size() == 2));
+        verify(reservationGateway, never()).save(any());
+        verify(producerGateway, never()).sendStandByTimeout(any());
+        verify(admissionLocks, times(1)).withRoomsAndUsers(eq(EnumSet.of(RoomName.THOR, RoomName.LOKI)),
+                eq(Set.of("a@example.com", "b@example.com")), any());
+    }
+
+    // ---------------------- CENÁRIOS DE FALHA ----------------------
+
+    @Test
+    @DisplayName("Should report each failing item with the same message as the single reservation flow")
+    void shouldReportEachFailingItemWithTheSameMessageAsTheSingleReservationFlow() {
+
+        when(userGateway.findExistingEmails(any())).thenReturn(Set.of("a@example.com", "b@example.com", "c@example.com"));
+        when(reservationGateway.findUsersWithActiveReservations(any())).thenReturn(Set.of("b@example.com"));
+
+        var results = createReservationBatchUseCase.execute(List.of(
+                item("ghost@example.com", RoomName.THOR, 5, START_TIME, END_TIME),
+                item("a@example.com", RoomName.HULK, 10, START_TIME, END_TIME),
+                item("b@example.com", RoomName.THOR, 5, START_TIME, END_TIME),
+                item("c@example.com", RoomName.THOR, 5, START_TIME, START_TIME.plusMinutes(10))
+        ));
+
+        assertEquals("Usuário não encontrado: ghost@example.com", results.get(0).error());
+        assertTrue(results.get(1).error().contains("possui a capacidade de limite de pessoas"));
+        assertEquals("Usuário b@example.com já possui uma reserva ativa.", results.get(2).error());
+        assertEquals("O tempo mínimo para reserva é de 30 min.", results.get(3).error());
+        verify(reservationGateway, never()).saveAll(any());
+        verify(producerGateway, never()).sendStandByTimeouts(any());
+    }
+
+    @Test
+    @DisplayName("Should reject items that conflict with the database or with an earlier item of the batch")
+    void shouldRejectItemsThatConflictWithTheDatabaseOrWithAnEarlierItemOfTheBatch() {
+
+        when(userGateway.findExistingEmails(any())).thenReturn(Set.of("a@example.com", "b@example.com", "c@example.com"));
+        doReturn(List.of(true, false, false)).when(reservationGateway).findConflicts(any());
+
+        var results = createReservationBatchUseCase.execute(List.of(
+                item("a@example.com", RoomName.THOR, 5, START_TIME, END_TIME),
+                item("b@example.com", RoomName.LOKI, 5, START_TIME, END_TIME),
+                item("c@example.com", RoomName.LOKI, 5, START_TIME.plusMinutes(30), END_TIME.plusMinutes(30))
+        ));
+
+        assertEquals("Para a seguinte sala: THOR Este horário já está reservado.", results.get(0).error());
+        assertTrue(results.get(1).isSuccess());
+        assertEquals("Para a seguinte sala: LOKI Este horário já está reservado.", results.get(2).error());
+        verify(reservationGateway, times(1)).findConflicts(any());
+        verify(producerGateway, times(1)).sendStandByTimeouts(argThat(list -> list.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Should accept only the first item of a user that appears twice in the batch")
+    void shouldAcceptOnlyTheFirstItemOfAUserThatAppearsTwiceInTheBatch() {
+
+        when(userGateway.findExistingEmails(any())).thenReturn(Set.of("a@example.com"));
+
+        var results = createReservationBatchUseCase.execute(List.of(
+                item("a@example.com", RoomName.THOR, 5, START_TIME, END_TIME),
+                item("a@example.com", RoomName.LOKI, 5, START_TIME, END_TIME)
+        ));
+
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("Usuário a@example.com já possui uma reserva ativa.", results.get(1).error());
+    }
+
+    @Test
+    @DisplayName("Should refuse only the items whose slots another instance claimed first and save the rest one by one")
+    void shouldRefuseOnlyTheItemsWhoseSlotsAnotherInstanceClaimedFirstAndSaveTheRestOneByOne() {
+
+        when(userGateway.findExistingEmails(any())).thenReturn(Set.of("a@example.com", "b@example.com", "c@example.com"));
+        doThrow(new ValidationException("Para a seguinte sala: THOR, LOKI Este horário já está reservado."))
+                .when(reservationGateway).saveAll(any());
+        when(reservationGateway.save(any())).thenAnswer(invocation -> {
+            Reservation r = invocation.getArgument(0);
+            if (r.roomName() == RoomName.LOKI) {
+                throw new ValidationException("Para a seguinte sala: LOKI Este horário já está reservado.");
+            }
+            return new Reservation(7L, r.userEmail(), r.roomName(), r.requiredPeople(),
+                    r.startDateTime(), r.endDateTime(), r.status());
+        });
+
+        var results = createReservationBatchUseCase.execute(List.of(
+                item("a@example.com", RoomName.THOR, 5, START_TIME, END_TIME),
+                item("b@example.com", RoomName.LOKI, 5, START_TIME, END_TIME),
+                item("c@example.com", RoomName.HULK, 50, START_TIME, END_TIME)
+        ));
+
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(7L, results.get(0).reservation().id());
+        assertEquals("Para a seguinte sala: LOKI Este horário já está reservado.", results.get(1).error());
+        assertTrue(results.get(2).error().contains("possui a capacidade de limite de pessoas"));
+        verify(reservationGateway, times(2)).save(any());
+        verify(producerGateway, times(1)).sendStandByTimeouts(argThat(list -> list.size() == 1));
+    }
+}
@@ -0,0 +1,287 @@
+package com.send.agendamentosala.application.reservation;
+
+import message.agendamentosala.application.usecase.reservation.CreateReservationBatchUseCase;
+import message.agendamentosala.application.usecase.reservation.CreateReservationUseCase;
+import message.agendamentosala.application.usecase.reservation.ReservationAdmissionLocks;
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.model.Reservation;
+import message.agendamentosala.domain.model.ReservationBatchItem;
+import message.agendamentosala.domain.model.Room;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.infrastructure.gateway.messaging.ReservationProducerGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationAdmission;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.user.UserPersistenceGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Dispara milhares de reservas concorrentes, uma por thread virtual, disputando poucos horários das cinco salas.
+// O gateway em memória cede a thread entre a conferência e a gravação, o que abre a janela da corrida
+// conferir-e-gravar; sem as travas de admissão, reservas sobrepostas passariam.
+class CreateReservationConcurrencyTest {
+
+    private static final int BOOKINGS = 5_000;
+    private static final int USERS = 1_000;
+    private static final int SLOTS = 8;
+
+    // Reservas gravadas, consultadas pela admissão como o banco faria.
+    private static class InMemoryReservationGateway extends ReservationPersistenceGateway {
+
+        private final Queue<Reservation> saved = new ConcurrentLinkedQueue<>();
+        private final AtomicLong ids = new AtomicLong();
+
+        InMemoryReservationGateway() {
+            super(null, null, null);
+        }
+
+        @Override
+        public ReservationAdmission checkAdmission(String userEmail, RoomName roomName,
+                                                   LocalDateTime start, LocalDateTime end) {
+            boolean userHasActiveReservation = saved.stream().anyMatch(r -> r.userEmail().equals(userEmail));
+            boolean roomHasConflict = saved.stream().anyMatch(r -> r.roomName() == roomName
+                    && r.startDateTime().isBefore(end) && r.endDateTime().isAfter(start));
+            Thread.yield();
+            return new ReservationAdmission(true, true, userHasActiveReservation, roomHasConflict);
+        }
+
+        @Override
+        public Set<String> findUsersWithActiveReservations(Collection<String> userEmails) {
+            Set<String> withActive = saved.stream().map(Reservation::userEmail)
+                    .filter(userEmails::contains).collect(Collectors.toSet());
+            Thread.yield();
+            return withActive;
+        }
+
+        @Override
+        public List<Boolean> findConflicts(List<Reservation> candidates) {
+            return candidates.stream().map(c -> saved.stream().anyMatch(r -> r.roomName() == c.roomName()
+                    && r.startDateTime().isBefore(c.endDateTime()) && r.endDateTime().isAfter(c.startDateTime())))
+                    .toList();
+        }
+
+        @Override
+        public Reservation save(Reservation reservation) {
+            Reservation withId = new Reservation(ids.incrementAndGet(), reservation.userEmail(), reservation.roomName(),
+                    reservation.requiredPeople(), reservation.startDateTime(), reservation.endDateTime(),
+                    reservation.status());
+            saved.add(withId);
+            return withId;
+        }
+
+        @Override
+        public List<Reservation> saveAll(List<Reservation> reservations) {
+            return reservations.stream().map(this::save).toList();
+        }
+    }
+
+    // ---------------------- CORRIDA DE RESERVAS ----------------------
+
+    @Test
+    @DisplayName("Should never admit overlapping reservations of a room or a second active reservation of a user")
+    void shouldNeverAdmitOverlappingReservationsOfARoomOrASecondActiveReservationOfAUser() throws Exception {
+
+        var gateway = new InMemoryReservationGateway();
+        var useCase = new CreateReservationUseCase(gateway, mock(ReservationProducerGateway.class),
+                new ReservationAdmissionLocks());
+
+        // Reservas de 1 h começando a cada 30 min: cada horário se sobrepõe aos vizinhos.
+        LocalDateTime rushStart = LocalDate.now().plusDays(1).atTime(8, 0);
+        RoomName[] rooms = RoomName.values();
+        Random random = new Random(42);
+        List<Runnable> bookings = new ArrayList<>(BOOKINGS);
+        AtomicInteger rejected = new AtomicInteger();
+        for (int i = 0; i < BOOKINGS; i++) {
+            String email = "user" + random.nextInt(USERS) + "@example.com";
+            RoomName room = rooms[random.nextInt(rooms.length)];
+            LocalDateTime start = rushStart.plusMinutes(30L * random.nextInt(SLOTS));
+            bookings.add(() -> {
+                try {
+                    useCase.execute(email, room, 2, start, start.plusHours(1));
+                } catch (ValidationException e) {
+                    rejected.incrementAndGet();
+                }
+            });
+        }
+
+        var go = new CountDownLatch(1);
+        long startedAt;
+        long elapsedNanos;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(BOOKINGS);
+            for (Runnable booking : bookings) {
+                futures.add(clients.submit(() -> {
+                    go.await();
+                    booking.run();
+                    return null;
+                }));
+            }
+            startedAt = System.nanoTime();
+            go.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            elapsedNanos = System.nanoTime() - startedAt;
+        }
+
+        List<Reservation> saved = new ArrayList<>(gateway.saved);
+        System.out.printf("Admissão concorrente: %d reservas em %.1f ms (%.0f/s), %d aceitas e %d recusadas%n",
+                BOOKINGS, elapsedNanos / 1e6, BOOKINGS / (elapsedNanos / 1e9), saved.size(), rejected.get());
+
+        assertEquals(BOOKINGS, saved.size() + rejected.get());
+        assertFalse(saved.isEmpty());
+        assertEquals(0, overlappingPairs(saved), "reservas sobrepostas na mesma sala");
+        Map<String, Long> perUser = saved.stream()
+                .collect(Collectors.groupingBy(Reservation::userEmail, Collectors.counting()));
+        assertTrue(perUser.values().stream().allMatch(count -> count == 1), "usuário com mais de uma reserva ativa");
+    }
+
+    @Test
+    @DisplayName("Should keep the rules when single and batch reservations race for the same rooms and users")
+    void shouldKeepTheRulesWhenSingleAndBatchReservationsRaceForTheSameRoomsAndUsers() throws Exception {
+
+        var gateway = new InMemoryReservationGateway();
+        var locks = new ReservationAdmissionLocks();
+        var single = new CreateReservationUseCase(gateway, mock(ReservationProducerGateway.class), locks);
+        UserPersistenceGateway userGateway = mock(UserPersistenceGateway.class);
+        RoomPersistenceGateway roomGateway = mock(RoomPersistenceGateway.class);
+        when(userGateway.findExistingEmails(any())).thenAnswer(invocation -> new HashSet<>(invocation.getArgument(0)));
+        when(roomGateway.findAll()).thenReturn(Arrays.stream(RoomName.values())
+                .map(name -> new Room((long) name.ordinal() + 1, name, RoomStatus.AVAILABLE)).toList());
+        var batch = new CreateReservationBatchUseCase(userGateway, roomGateway, gateway,
+                mock(ReservationProducerGateway.class), locks);
+
+        LocalDateTime rushStart = LocalDate.now().plusDays(2).atTime(8, 0);
+        RoomName[] rooms = RoomName.values();
+        Random random = new Random(7);
+        List<Runnable> bookings = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS / 5; i++) {
+            if (i % 2 == 0) {
+                String email = "user" + random.nextInt(USERS / 5) + "@example.com";
+                RoomName room = rooms[random.nextInt(rooms.length)];
+                LocalDateTime start = rushStart.plusMinutes(30L * random.nextInt(SLOTS));
+                bookings.add(() -> {
+                    try {
+                        single.execute(email, room, 2, start, start.plusHours(1));
+                    } catch (ValidationException e) {
+                        // recusada pelas regras
+                    }
+                });
+            } else {
+                List<ReservationBatchItem> items = new ArrayList<>();
+                for (int j = 0; j < 5; j++) {
+                    LocalDateTime start = rushStart.plusMinutes(30L * random.nextInt(SLOTS));
+                    items.add(new ReservationBatchItem("user" + random.nextInt(USERS / 5) + "@example.com",
+                            rooms[random.nextInt(rooms.length)], 2, start, start.plusHours(1)));
+                }
+                bookings.add(() -> batch.execute(items));
+            }
+        }
+
+        var go = new CountDownLatch(1);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(bookings.size());
+            for (Runnable booking : bookings) {
+                futures.add(clients.submit(() -> {
+                    go.await();
+                    booking.run();
+                    return null;
+                }));
+            }
+            go.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        List<Reservation> saved = new ArrayList<>(gateway.saved);
+        assertFalse(saved.isEmpty());
+        assertEquals(0, overlappingPairs(saved), "reservas sobrepostas na mesma sala");
+        Map<String, Long> perUser = saved.stream()
+                .collect(Collectors.groupingBy(Reservation::userEmail, Collectors.counting()));
+        assertTrue(perUser.values().stream().allMatch(count -> count == 1), "usuário com mais de uma reserva ativa");
+    }
+
+    // ---------------------- TRAVAS ----------------------
+
+    @Test
+    @DisplayName("Should admit a reservation for another room while a room is locked")
+    void shouldAdmitAReservationForAnotherRoomWhileARoomIsLocked() throws Exception {
+
+        var locks = new ReservationAdmissionLocks();
+        var holding = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> holder = threads.submit(() -> locks.withRoomAndUser(RoomName.HULK, "a@example.com", () -> {
+                holding.countDown();
+                return awaitQuietly(release);
+            }));
+            assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+            Future<String> otherRoom = threads.submit(() ->
+                    locks.withRoomAndUser(RoomName.THOR, "b@example.com", () -> "THOR"));
+            Future<String> sameRoom = threads.submit(() ->
+                    locks.withRoomAndUser(RoomName.HULK, "c@example.com", () -> "HULK"));
+
+            assertEquals("THOR", otherRoom.get(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            assertFalse(sameRoom.isDone(), "a mesma sala não pode ser admitida ao mesmo tempo");
+
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+            assertEquals("HULK", sameRoom.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static long overlappingPairs(List<Reservation> reservations) {
+        long pairs = 0;
+        for (int i = 0; i < reservations.size(); i++) {
+            for (int j = i + 1; j < reservations.size(); j++) {
+                Reservation a = reservations.get(i);
+                Reservation b = reservations.get(j);
+                if (a.roomName() == b.roomName()
+                        && a.startDateTime().isBefore(b.endDateTime()) && b.startDateTime().isBefore(a.endDateTime())) {
+                    pairs++;
+                }
+            }
+        }
+        return pairs;
+    }
+}
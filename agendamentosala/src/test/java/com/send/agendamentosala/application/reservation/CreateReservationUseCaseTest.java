@@ -1,22 +1,21 @@
 package com.send.agendamentosala.application.reservation;
 
 import message.agendamentosala.application.usecase.reservation.CreateReservationUseCase;
+import message.agendamentosala.application.usecase.reservation.ReservationAdmissionLocks;
 import message.agendamentosala.domain.exception.ValidationException;
 import message.agendamentosala.domain.model.*;
 import message.agendamentosala.infrastructure.gateway.messaging.ReservationProducerGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationAdmission;
 import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
-import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
-import message.agendamentosala.infrastructure.gateway.persistence.user.UserPersistenceGateway;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,18 +25,15 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class CreateReservationUseCaseTest {
 
-    @Mock
-    private UserPersistenceGateway userGateway;
-
-    @Mock
-    private RoomPersistenceGateway roomGateway;
-
     @Mock
     private ReservationPersistenceGateway reservationGateway;
 
     @Mock
     private ReservationProducerGateway producerGateway;
 
+    @Spy
+    private ReservationAdmissionLocks admissionLocks = new ReservationAdmissionLocks();
+
     @InjectMocks
     private CreateReservationUseCase createReservationUseCase;
 
@@ -47,15 +43,11 @@ class CreateReservationUseCaseTest {
     private final int OVER_CAPACITY_PEOPLE = 11;
     private final Long RESERVATION_ID = 1L;
 
-    private final LocalDateTime START_TIME = LocalDateTime.now().plusHours(1).withSecond(0).withNano(0);
+    private final LocalDateTime START_TIME = LocalDateTime.now().plusDays(1).toLocalDate().atTime(10, 0);
     private final LocalDateTime END_TIME = START_TIME.plusHours(1);
 
-    private User createMockUser() {
-        return new User("Test User", TEST_EMAIL);
-    }
-
-    private Room createMockRoom() {
-        return new Room(1L, ROOM_NAME, RoomStatus.AVAILABLE);
+    private ReservationAdmission admitted() {
+        return new ReservationAdmission(true, true, false, false);
     }
 
     private Reservation createSavedReservation() {
@@ -68,11 +60,8 @@ class CreateReservationUseCaseTest {
     @DisplayName("Should create reservation, set STAND_BY status, save, and send timeout message when all validations pass")
     void shouldCreateReservationSetStandByStatusSaveAndSendTimeoutMessageWhenAllValidationsPass() {
 
-        when(userGateway.findByEmail(eq(TEST_EMAIL))).thenReturn(Optional.of(createMockUser()));
-        when(roomGateway.findByName(eq(ROOM_NAME))).thenReturn(Optional.of(createMockRoom()));
-
-        when(reservationGateway.findActiveReservationsByUserEmail(eq(TEST_EMAIL))).thenReturn(List.of());
-        when(reservationGateway.hasConflict(eq(ROOM_NAME), eq(START_TIME), eq(END_TIME))).thenReturn(false);
+        when(reservationGateway.checkAdmission(eq(TEST_EMAIL), eq(ROOM_NAME), eq(START_TIME), eq(END_TIME)))
+                .thenReturn(admitted());
 
         var savedReservation = createSavedReservation();
         when(reservationGateway.save(any(Reservation.class))).thenReturn(savedReservation);
@@ -81,6 +70,7 @@ class CreateReservationUseCaseTest {
 
         assertNotNull(result);
         assertEquals(RoomStatus.STAND_BY, result.status());
+        verify(reservationGateway, times(1)).checkAdmission(any(), any(), any(), any());
         verify(reservationGateway, times(1)).save(any(Reservation.class));
         verify(producerGateway, times(1)).sendStandByTimeout(eq(savedReservation));
     }
@@ -91,13 +81,13 @@ class CreateReservationUseCaseTest {
     @DisplayName("Should throw ValidationException when user is not found")
     void shouldThrowValidationExceptionWhenUserIsNotFound() {
 
-        when(userGateway.findByEmail(eq(TEST_EMAIL))).thenReturn(Optional.empty());
+        when(reservationGateway.checkAdmission(eq(TEST_EMAIL), eq(ROOM_NAME), eq(START_TIME), eq(END_TIME)))
+                .thenReturn(new ReservationAdmission(false, true, false, false));
 
         var exception = assertThrows(ValidationException.class, () -> {
             createReservationUseCase.execute(TEST_EMAIL, ROOM_NAME, REQUIRED_PEOPLE, START_TIME, END_TIME);
         });
         assertTrue(exception.getMessage().contains("Usuário não encontrado: " + TEST_EMAIL));
-        verify(roomGateway, never()).findByName(any());
         verify(reservationGateway, never()).save(any());
     }
 
@@ -105,8 +95,8 @@ class CreateReservationUseCaseTest {
     @DisplayName("Should throw ValidationException when room is not found")
     void shouldThrowValidationExceptionWhenRoomIsNotFound() {
 
-        when(userGateway.findByEmail(eq(TEST_EMAIL))).thenReturn(Optional.of(createMockUser()));
-        when(roomGateway.findByName(eq(ROOM_NAME))).thenReturn(Optional.empty());
+        when(reservationGateway.checkAdmission(eq(TEST_EMAIL), eq(ROOM_NAME), eq(START_TIME), eq(END_TIME)))
+                .thenReturn(new ReservationAdmission(true, false, false, false));
 
         var exception = assertThrows(ValidationException.class, () -> {
             createReservationUseCase.execute(TEST_EMAIL, ROOM_NAME, REQUIRED_PEOPLE, START_TIME, END_TIME);
@@ -119,8 +109,8 @@ class CreateReservationUseCaseTest {
     @DisplayName("Should throw ValidationException when required people exceeds room capacity")
     void shouldThrowValidationExceptionWhenRequiredPeopleExceedsRoomCapacity() {
 
-        when(userGateway.findByEmail(eq(TEST_EMAIL))).thenReturn(Optional.of(createMockUser()));
-        when(roomGateway.findByName(eq(ROOM_NAME))).thenReturn(Optional.of(createMockRoom()));
+        when(reservationGateway.checkAdmission(eq(TEST_EMAIL), eq(ROOM_NAME), eq(START_TIME), eq(END_TIME)))
+                .thenReturn(admitted());
 
         var exception = assertThrows(ValidationException.class, () -> {
             createReservationUseCase.execute(TEST_EMAIL, ROOM_NAME, OVER_CAPACITY_PEOPLE, START_TIME, END_TIME);
@@ -133,17 +123,15 @@ class CreateReservationUseCaseTest {
     @DisplayName("Should throw ValidationException when user already has an active reservation")
     void shouldThrowValidationExceptionWhenUserAlreadyHasAnActiveReservation() {
 
-        when(userGateway.findByEmail(eq(TEST_EMAIL))).thenReturn(Optional.of(createMockUser()));
-        when(roomGateway.findByName(eq(ROOM_NAME))).thenReturn(Optional.of(createMockRoom()));
-
-        var activeReservation = createSavedReservation();
-        when(reservationGateway.findActiveReservationsByUserEmail(eq(TEST_EMAIL))).thenReturn(List.of(activeReservation));
+        when(reservationGateway.checkAdmission(eq(TEST_EMAIL), eq(ROOM_NAME), eq(START_TIME), eq(END_TIME)))
+                .thenReturn(new ReservationAdmission(true, true, true, false));
 
         var exception = assertThrows(ValidationException.class, () -> {
             createReservationUseCase.execute(TEST_EMAIL, ROOM_NAME, REQUIRED_PEOPLE, START_TIME, END_TIME);
         });
         assertTrue(exception.getMessage().contains("já possui uma reserva ativa."));
-        verify(reservationGateway, times(1)).findActiveReservationsByUserEmail(eq(TEST_EMAIL));
+        verify(reservationGateway, never()).hasActiveReservation(any());
+        verify(reservationGateway, never()).findActiveReservationsByUserEmail(any());
         verify(reservationGateway, never()).save(any());
     }
 
@@ -151,17 +139,63 @@ class CreateReservationUseCaseTest {
     @DisplayName("Should throw ValidationException when a scheduling conflict exists for the room and time")
     void shouldThrowValidationExceptionWhenASchedulingConflictExistsForTheRoomAndTime() {
 
-        when(userGateway.findByEmail(eq(TEST_EMAIL))).thenReturn(Optional.of(createMockUser()));
-        when(roomGateway.findByName(eq(ROOM_NAME))).thenReturn(Optional.of(createMockRoom()));
-        when(reservationGateway.findActiveReservationsByUserEmail(eq(TEST_EMAIL))).thenReturn(List.of());
-
-        when(reservationGateway.hasConflict(eq(ROOM_NAME), eq(START_TIME), eq(END_TIME))).thenReturn(true);
+        when(reservationGateway.checkAdmission(eq(TEST_EMAIL), eq(ROOM_NAME), eq(START_TIME), eq(END_TIME)))
+                .thenReturn(new ReservationAdmission(true, true, false, true));
 
         var exception = assertThrows(ValidationException.class, () -> {
             createReservationUseCase.execute(TEST_EMAIL, ROOM_NAME, REQUIRED_PEOPLE, START_TIME, END_TIME);
         });
         assertTrue(exception.getMessage().contains("Este horário já está reservado."));
-        verify(reservationGateway, times(1)).hasConflict(eq(ROOM_NAME), eq(START_TIME), eq(END_TIME));
+        verify(reservationGateway, never()).hasConflict(any(), any(), any());
+        verify(reservationGateway, never()).save(any());
+    }
+
+
+    @Test
+    @DisplayName("Should still apply the creation rules to new reservations and reject a past day")
+    void shouldStillApplyTheCreationRulesToNewReservationsAndRejectAPastDay() {
+
+        LocalDateTime yesterday = LocalDateTime.now().minusDays(1).toLocalDate().atTime(10, 0);
+        when(reservationGateway.checkAdmission(eq(TEST_EMAIL), eq(ROOM_NAME), any(), any())).thenReturn(admitted());
+
+        var exception = assertThrows(ValidationException.class, () -> {
+            createReservationUseCase.execute(TEST_EMAIL, ROOM_NAME, REQUIRED_PEOPLE, yesterday, yesterday.plusHours(1));
+        });
+        assertEquals("O dia selecionado não pode ser anterior ao dia atual.", exception.getMessage());
+        verify(reservationGateway, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should report the first failing rule in the original order when the admission fails several")
+    void shouldReportTheFirstFailingRuleInTheOriginalOrderWhenTheAdmissionFailsSeveral() {
+
+        when(reservationGateway.checkAdmission(eq(TEST_EMAIL), eq(ROOM_NAME), eq(START_TIME), eq(END_TIME)))
+                .thenReturn(new ReservationAdmission(true, false, true, true));
+
+        var exception = assertThrows(ValidationException.class, () -> {
+            createReservationUseCase.execute(TEST_EMAIL, ROOM_NAME, REQUIRED_PEOPLE, START_TIME, END_TIME);
+        });
+        assertEquals("Sala não encontrada: " + ROOM_NAME, exception.getMessage());
+        verify(reservationGateway, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should throw ValidationException when the times are off the 5-minute grid, even for back-to-back bookings")
+    void shouldThrowValidationExceptionWhenTheTimesAreOffTheFiveMinuteGridEvenForBackToBackBookings() {
+
+        LocalDateTime nine = START_TIME.withHour(9);
+        when(reservationGateway.checkAdmission(any(), any(), any(), any())).thenReturn(admitted());
+
+        // 09:00–09:32 seguida de 09:32–10:05: não se sobrepõem, mas encostariam na mesma fatia de 5 min.
+        var first = assertThrows(ValidationException.class, () ->
+                createReservationUseCase.execute(TEST_EMAIL, ROOM_NAME, REQUIRED_PEOPLE, nine, nine.plusMinutes(32)));
+        var second = assertThrows(ValidationException.class, () ->
+                createReservationUseCase.execute("other@example.com", ROOM_NAME, REQUIRED_PEOPLE,
+                        nine.plusMinutes(32), nine.plusMinutes(65)));
+
+        assertEquals("Os horários de início e término devem ser múltiplos de 5 min (ex.: 09:00, 09:05, 09:10).",
+                first.getMessage());
+        assertEquals(first.getMessage(), second.getMessage());
         verify(reservationGateway, never()).save(any());
     }
-}
\ No newline at end of file
+}
@@ -14,7 +14,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -47,12 +47,12 @@ class DeleteReservationUseCaseTest {
 
         var activeReservation = createMockActiveReservation();
 
-        when(persistenceGateway.findActiveReservationsByUserEmail(eq(VALID_EMAIL))).thenReturn(List.of(activeReservation));
+        when(persistenceGateway.findActiveStandaloneReservationByUserEmail(eq(VALID_EMAIL))).thenReturn(Optional.of(activeReservation));
 
         doNothing().when(persistenceGateway).deleteById(eq(RESERVATION_ID));
         assertDoesNotThrow(() -> deleteReservationUseCase.execute(VALID_EMAIL));
 
-        verify(persistenceGateway, times(1)).findActiveReservationsByUserEmail(eq(VALID_EMAIL));
+        verify(persistenceGateway, times(1)).findActiveStandaloneReservationByUserEmail(eq(VALID_EMAIL));
         verify(persistenceGateway, times(1)).deleteById(eq(RESERVATION_ID));
     }
 
@@ -62,14 +62,14 @@ class DeleteReservationUseCaseTest {
     @DisplayName("Should throw ValidationException when no active reservation is found for the email")
     void shouldThrowValidationExceptionWhenNoActiveReservationIsFoundForTheEmail() {
 
-        when(persistenceGateway.findActiveReservationsByUserEmail(eq(VALID_EMAIL))).thenReturn(List.of());
+        when(persistenceGateway.findActiveStandaloneReservationByUserEmail(eq(VALID_EMAIL))).thenReturn(Optional.empty());
 
         var exception = assertThrows(ValidationException.class, () -> {
             deleteReservationUseCase.execute(VALID_EMAIL);
         });
 
         assertTrue(exception.getMessage().contains("Nenhuma reserva ativa encontrada para o e-mail:"));
-        verify(persistenceGateway, times(1)).findActiveReservationsByUserEmail(eq(VALID_EMAIL));
+        verify(persistenceGateway, times(1)).findActiveStandaloneReservationByUserEmail(eq(VALID_EMAIL));
         verify(persistenceGateway, never()).deleteById(any());
     }
 
@@ -83,7 +83,7 @@ class DeleteReservationUseCaseTest {
             deleteReservationUseCase.execute(INVALID_EMAIL);
         });
 
-        verify(persistenceGateway, never()).findActiveReservationsByUserEmail(any());
+        verify(persistenceGateway, never()).findActiveStandaloneReservationByUserEmail(any());
         verify(persistenceGateway, never()).deleteById(any());
     }
 }
\ No newline at end of file
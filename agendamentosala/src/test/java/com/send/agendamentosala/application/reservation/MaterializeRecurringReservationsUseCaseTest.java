@@ -0,0 +1,88 @@
+package com.send.agendamentosala.application.reservation;
+
+import message.agendamentosala.application.usecase.reservation.MaterializeRecurringReservationsUseCase;
+import message.agendamentosala.application.usecase.reservation.ReservationAdmissionLocks;
+import message.agendamentosala.domain.model.RecurrenceFrequency;
+import message.agendamentosala.domain.model.RecurrenceRule;
+import message.agendamentosala.domain.model.Reservation;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.infrastructure.config.RecurrenceProperties;
+import message.agendamentosala.infrastructure.gateway.persistence.recurrence.RecurrenceRulePersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MaterializeRecurringReservationsUseCaseTest {
+
+    @Mock
+    private RecurrenceRulePersistenceGateway recurrenceGateway;
+
+    @Mock
+    private ReservationPersistenceGateway reservationGateway;
+
+    private MaterializeRecurringReservationsUseCase materializeRecurringReservationsUseCase;
+
+    private final LocalDate TODAY = LocalDate.now();
+    private final LocalDate HORIZON = TODAY.plusDays(7);
+
+    @BeforeEach
+    void setUp() {
+        materializeRecurringReservationsUseCase = new MaterializeRecurringReservationsUseCase(
+                recurrenceGateway, reservationGateway, new RecurrenceProperties(7), new ReservationAdmissionLocks());
+    }
+
+    private RecurrenceRule dailyRule(LocalDate materializedUntil) {
+        return new RecurrenceRule(3L, "user@example.com", RoomName.LOKI, 4, RecurrenceFrequency.DAILY,
+                TODAY, TODAY.plusMonths(2), LocalTime.of(14, 0), LocalTime.of(15, 0), materializedUntil);
+    }
+
+    @Test
+    @DisplayName("Should materialize only the days that entered the horizon since the last run")
+    void shouldMaterializeOnlyTheDaysThatEnteredTheHorizonSinceTheLastRun() {
+
+        when(recurrenceGateway.findPendingMaterialization(HORIZON)).thenReturn(List.of(dailyRule(TODAY.plusDays(4))));
+        when(reservationGateway.findConflicts(eq(RoomName.LOKI), anyList())).thenReturn(List.of(false, false, false));
+
+        var result = materializeRecurringReservationsUseCase.execute();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Reservation>> saved = ArgumentCaptor.forClass(List.class);
+        verify(reservationGateway, times(1)).saveAll(saved.capture(), eq(3L));
+        assertEquals(3, result.created());
+        assertTrue(result.skipped().isEmpty());
+        assertEquals(List.of(TODAY.plusDays(5), TODAY.plusDays(6), TODAY.plusDays(7)),
+                saved.getValue().stream().map(r -> r.startDateTime().toLocalDate()).toList());
+        verify(recurrenceGateway, times(1)).save(argThat(rule -> HORIZON.equals(rule.materializedUntil())));
+    }
+
+    @Test
+    @DisplayName("Should skip occurrences that were booked by someone else and keep the rest of the series")
+    void shouldSkipOccurrencesThatWereBookedBySomeoneElseAndKeepTheRestOfTheSeries() {
+
+        when(recurrenceGateway.findPendingMaterialization(HORIZON)).thenReturn(List.of(dailyRule(TODAY.plusDays(5))));
+        when(reservationGateway.findConflicts(eq(RoomName.LOKI), anyList())).thenReturn(List.of(true, false));
+
+        var result = materializeRecurringReservationsUseCase.execute();
+
+        assertEquals(1, result.created());
+        assertEquals(List.of(TODAY.plusDays(6).atTime(14, 0)),
+                result.skipped().stream().map(Reservation::startDateTime).toList());
+        verify(reservationGateway, times(1)).saveAll(argThat(list -> list.size() == 1
+                && list.get(0).startDateTime().toLocalDate().equals(TODAY.plusDays(7))), eq(3L));
+        verify(recurrenceGateway, times(1)).save(argThat(rule -> HORIZON.equals(rule.materializedUntil())));
+    }
+}
@@ -1,9 +1,7 @@
 package com.send.agendamentosala.application.reservation;
 
 import message.agendamentosala.application.usecase.reservation.ProcessStandByCancellationUseCase;
-import message.agendamentosala.domain.model.Reservation;
-import message.agendamentosala.domain.model.RoomName;
-import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.StatusTransition;
 import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,9 +10,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -29,74 +27,49 @@ class ProcessStandByCancellationUseCaseTest {
     private ProcessStandByCancellationUseCase processStandByCancellationUseCase;
 
     private final Long RESERVATION_ID = 50L;
-    private final String TEST_EMAIL = "user@example.com";
-    private final LocalDateTime START_TIME = LocalDateTime.now().plusHours(1);
-
-    private Reservation createMockReservation(RoomStatus status) {
-        return new Reservation(RESERVATION_ID, TEST_EMAIL, RoomName.HULK, 5, START_TIME, START_TIME.plusHours(1), status);
-    }
 
     // ---------------------- CENÁRIO DE SUCESSO ----------------------
 
     @Test
-    @DisplayName("Should change status to AVAILABLE and save when status is STAND_BY")
-    void shouldChangeStatusToAvailableAndSaveWhenStatusIsStandBy() {
-
-        var standByReservation = createMockReservation(RoomStatus.STAND_BY);
-
-        when(persistenceGateway.findById(eq(RESERVATION_ID))).thenReturn(Optional.of(standByReservation));
-        when(persistenceGateway.save(any(Reservation.class))).thenAnswer(invocation -> {
-            Reservation saved = invocation.getArgument(0);
+    @DisplayName("Should move a STAND_BY reservation to AVAILABLE with a single conditional update")
+    void shouldMoveAStandByReservationToAvailableWithASingleConditionalUpdate() {
 
-            if (saved.status() != RoomStatus.AVAILABLE) {
-                throw new IllegalStateException("Status was not changed to AVAILABLE");
-            }
-            return saved;
-        });
+        when(persistenceGateway.transition(eq(RESERVATION_ID), eq(StatusTransition.EXPIRE))).thenReturn(true);
 
         processStandByCancellationUseCase.execute(RESERVATION_ID);
 
-        verify(persistenceGateway, times(1)).findById(eq(RESERVATION_ID));
-        verify(persistenceGateway, times(1)).save(any(Reservation.class));
+        verify(persistenceGateway, times(1)).transition(eq(RESERVATION_ID), eq(StatusTransition.EXPIRE));
+        verify(persistenceGateway, never()).findById(any());
+        verify(persistenceGateway, never()).save(any());
     }
 
     // ---------------------- CENÁRIOS DE IGNORAR/TOLERÂNCIA A FALHAS ----------------------
 
     @Test
-    @DisplayName("Should ignore and not save when reservation ID is not found (null)")
-    void shouldIgnoreAndNotSaveWhenReservationIdIsNotFound() {
+    @DisplayName("Should ignore and not save when the reservation was already confirmed, checked in or deleted")
+    void shouldIgnoreAndNotSaveWhenTheReservationWasAlreadyConfirmedCheckedInOrDeleted() {
 
-        when(persistenceGateway.findById(eq(RESERVATION_ID))).thenReturn(Optional.empty());
+        when(persistenceGateway.transition(eq(RESERVATION_ID), eq(StatusTransition.EXPIRE))).thenReturn(false);
 
         processStandByCancellationUseCase.execute(RESERVATION_ID);
 
-        verify(persistenceGateway, times(1)).findById(eq(RESERVATION_ID));
+        verify(persistenceGateway, times(1)).transition(eq(RESERVATION_ID), eq(StatusTransition.EXPIRE));
         verify(persistenceGateway, never()).save(any());
     }
 
-    @Test
-    @DisplayName("Should ignore and not save when status is already PENDING (already confirmed)")
-    void shouldIgnoreAndNotSaveWhenStatusIsAlreadyPending() {
-
-        var pendingReservation = createMockReservation(RoomStatus.PENDING);
-        when(persistenceGateway.findById(eq(RESERVATION_ID))).thenReturn(Optional.of(pendingReservation));
-
-        processStandByCancellationUseCase.execute(RESERVATION_ID);
-
-        verify(persistenceGateway, times(1)).findById(eq(RESERVATION_ID));
-        verify(persistenceGateway, never()).save(any());
-    }
+    // ---------------------- CANCELAMENTO EM LOTE ----------------------
 
     @Test
-    @DisplayName("Should ignore and not save when status is CHECKED_IN")
-    void shouldIgnoreAndNotSaveWhenStatusIsCheckedIn() {
+    @DisplayName("Should cancel a batch with a single conditional update")
+    void shouldCancelABatchWithASingleConditionalUpdate() {
 
-        var checkedInReservation = createMockReservation(RoomStatus.CHECKED_IN);
-        when(persistenceGateway.findById(eq(RESERVATION_ID))).thenReturn(Optional.of(checkedInReservation));
+        when(persistenceGateway.transition(List.of(RESERVATION_ID, 51L, 52L), StatusTransition.EXPIRE)).thenReturn(1);
 
-        processStandByCancellationUseCase.execute(RESERVATION_ID);
+        int cancelled = processStandByCancellationUseCase.execute(List.of(RESERVATION_ID, 51L, 52L));
 
-        verify(persistenceGateway, times(1)).findById(eq(RESERVATION_ID));
+        assertEquals(1, cancelled);
+        verify(persistenceGateway, never()).findAllById(any());
+        verify(persistenceGateway, never()).saveAll(any());
         verify(persistenceGateway, never()).save(any());
     }
 }
\ No newline at end of file
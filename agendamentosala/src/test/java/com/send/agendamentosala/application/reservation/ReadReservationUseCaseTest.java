@@ -2,10 +2,10 @@ package com.send.agendamentosala.application.reservation;
 
 import message.agendamentosala.application.usecase.reservation.ReadReservationUseCase;
 import message.agendamentosala.domain.exception.ValidationException;
-import message.agendamentosala.domain.model.Reservation;
 import message.agendamentosala.domain.model.RoomName;
 import message.agendamentosala.domain.model.RoomStatus;
 import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationView;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,8 +35,8 @@ class ReadReservationUseCaseTest {
     private final Long RESERVATION_ID = 5L;
     private final LocalDateTime START_TIME = LocalDateTime.now().plusHours(1);
 
-    private Reservation createMockActiveReservation() {
-        return new Reservation(RESERVATION_ID, VALID_EMAIL, RoomName.HULK, 5, START_TIME, START_TIME.plusHours(1), RoomStatus.PENDING);
+    private ReservationView createMockActiveReservation() {
+        return new ReservationView(RESERVATION_ID, VALID_EMAIL, RoomName.HULK, 5, START_TIME, START_TIME.plusHours(1), RoomStatus.PENDING);
     }
 
     // ---------------------- CENÁRIO DE SUCESSO ----------------------
@@ -46,30 +46,30 @@ class ReadReservationUseCaseTest {
     void shouldValidateEmailAndReturnAListOfActiveReservationsWhenFound() {
 
         var activeReservation = createMockActiveReservation();
-        List<Reservation> mockList = List.of(activeReservation);
+        List<ReservationView> mockList = List.of(activeReservation);
 
-        when(persistenceGateway.findActiveReservationsByUserEmail(eq(VALID_EMAIL))).thenReturn(mockList);
+        when(persistenceGateway.findActiveReservationViewsByUserEmail(eq(VALID_EMAIL))).thenReturn(mockList);
 
-        List<Reservation> result = readReservationUseCase.findActiveByEmail(VALID_EMAIL);
+        List<ReservationView> result = readReservationUseCase.findActiveByEmail(VALID_EMAIL);
 
         assertFalse(result.isEmpty());
         assertEquals(1, result.size());
         assertEquals(VALID_EMAIL, result.getFirst().userEmail());
 
-        verify(persistenceGateway, times(1)).findActiveReservationsByUserEmail(eq(VALID_EMAIL));
+        verify(persistenceGateway, times(1)).findActiveReservationViewsByUserEmail(eq(VALID_EMAIL));
     }
 
     @Test
     @DisplayName("Should validate email and return an empty list when no active reservations are found")
     void shouldValidateEmailAndReturnAnEmptyListWhenNoActiveReservationsAreFound() {
 
-        when(persistenceGateway.findActiveReservationsByUserEmail(eq(VALID_EMAIL))).thenReturn(List.of());
+        when(persistenceGateway.findActiveReservationViewsByUserEmail(eq(VALID_EMAIL))).thenReturn(List.of());
 
-        List<Reservation> result = readReservationUseCase.findActiveByEmail(VALID_EMAIL);
+        List<ReservationView> result = readReservationUseCase.findActiveByEmail(VALID_EMAIL);
 
         assertTrue(result.isEmpty());
 
-        verify(persistenceGateway, times(1)).findActiveReservationsByUserEmail(eq(VALID_EMAIL));
+        verify(persistenceGateway, times(1)).findActiveReservationViewsByUserEmail(eq(VALID_EMAIL));
     }
 
     // ---------------------- CENÁRIO DE FALHA (Validação de E-mail) ----------------------
@@ -82,6 +82,6 @@ class ReadReservationUseCaseTest {
             readReservationUseCase.findActiveByEmail(INVALID_EMAIL);
         });
 
-        verify(persistenceGateway, never()).findActiveReservationsByUserEmail(any());
+        verify(persistenceGateway, never()).findActiveReservationViewsByUserEmail(any());
     }
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+package com.send.agendamentosala.application.room;
+
+import message.agendamentosala.application.usecase.room.FindNextAvailableSlotsUseCase;
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.model.AvailableSlot;
+import message.agendamentosala.domain.model.BusinessHours;
+import message.agendamentosala.domain.model.Room;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.TimeWindow;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FindNextAvailableSlotsUseCaseTest {
+
+    @Mock
+    private RoomPersistenceGateway roomGateway;
+
+    @Mock
+    private ReservationPersistenceGateway reservationGateway;
+
+    @InjectMocks
+    private FindNextAvailableSlotsUseCase findNextAvailableSlotsUseCase;
+
+    private final LocalDate DAY = LocalDate.now().plusDays(1);
+    private final LocalDateTime EARLIEST_START = DAY.atTime(8, 0);
+
+    private List<Room> allRooms() {
+        return List.of(
+                new Room(1L, RoomName.HULK, RoomStatus.AVAILABLE),
+                new Room(2L, RoomName.THOR, RoomStatus.AVAILABLE),
+                new Room(3L, RoomName.CAP_MARVEL, RoomStatus.AVAILABLE)
+        );
+    }
+
+    // ---------------------- CENÁRIOS DE SUCESSO ----------------------
+
+    @Test
+    @DisplayName("Should return the earliest options across rooms that fit the head count, smallest room first on ties")
+    void shouldReturnTheEarliestOptionsAcrossRoomsThatFitTheHeadCount() {
+
+        when(roomGateway.findAll()).thenReturn(allRooms());
+        when(reservationGateway.findFreeWindows(eq(RoomName.THOR), eq(DAY))).thenReturn(List.of(
+                new TimeWindow(DAY.atTime(8, 0), DAY.atTime(8, 30)),
+                new TimeWindow(DAY.atTime(11, 0), DAY.atTime(18, 0))
+        ));
+        when(reservationGateway.findFreeWindows(eq(RoomName.CAP_MARVEL), eq(DAY))).thenReturn(List.of(
+                new TimeWindow(DAY.atTime(9, 0), DAY.atTime(18, 0))
+        ));
+
+        List<AvailableSlot> options = findNextAvailableSlotsUseCase.execute(8, 60, EARLIEST_START, 2);
+
+        assertEquals(List.of(
+                new AvailableSlot(RoomName.CAP_MARVEL, DAY.atTime(9, 0), DAY.atTime(10, 0)),
+                new AvailableSlot(RoomName.THOR, DAY.atTime(11, 0), DAY.atTime(12, 0))
+        ), options);
+        verify(reservationGateway, never()).findFreeWindows(eq(RoomName.HULK), any());
+        verify(reservationGateway, never()).findFreeWindows(any(), eq(DAY.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Should continue to the following days until enough options are found")
+    void shouldContinueToTheFollowingDaysUntilEnoughOptionsAreFound() {
+
+        when(roomGateway.findAll()).thenReturn(List.of(new Room(1L, RoomName.HULK, RoomStatus.AVAILABLE)));
+        when(reservationGateway.findFreeWindows(eq(RoomName.HULK), eq(DAY))).thenReturn(List.of());
+        when(reservationGateway.findFreeWindows(eq(RoomName.HULK), eq(DAY.plusDays(1))))
+                .thenReturn(BusinessHours.freeWindows(DAY.plusDays(1), List.of()));
+
+        List<AvailableSlot> options = findNextAvailableSlotsUseCase.execute(3, 30, EARLIEST_START, 1);
+
+        assertEquals(1, options.size());
+        assertEquals(DAY.plusDays(1).atTime(8, 0), options.getFirst().startDateTime());
+    }
+
+    @Test
+    @DisplayName("Should start inside a free window no earlier than the requested start, rounded to five minutes")
+    void shouldStartInsideAFreeWindowNoEarlierThanTheRequestedStart() {
+
+        when(roomGateway.findAll()).thenReturn(List.of(new Room(1L, RoomName.HULK, RoomStatus.AVAILABLE)));
+        when(reservationGateway.findFreeWindows(eq(RoomName.HULK), eq(DAY)))
+                .thenReturn(BusinessHours.freeWindows(DAY, List.of()));
+
+        List<AvailableSlot> options = findNextAvailableSlotsUseCase.execute(3, 30, DAY.atTime(10, 2), 1);
+
+        assertEquals(new AvailableSlot(RoomName.HULK, DAY.atTime(10, 5), DAY.atTime(10, 35)), options.getFirst());
+    }
+
+    @Test
+    @DisplayName("Should round the start of a free window left by an off-grid reservation up to the 5-minute grid")
+    void shouldRoundTheStartOfAFreeWindowLeftByAnOffGridReservationUpToTheFiveMinuteGrid() {
+
+        when(roomGateway.findAll()).thenReturn(List.of(new Room(1L, RoomName.HULK, RoomStatus.AVAILABLE)));
+        when(reservationGateway.findFreeWindows(eq(RoomName.HULK), eq(DAY)))
+                .thenReturn(List.of(new TimeWindow(DAY.atTime(9, 32), DAY.atTime(18, 0))));
+
+        List<AvailableSlot> options = findNextAvailableSlotsUseCase.execute(3, 30, EARLIEST_START, 1);
+
+        assertEquals(new AvailableSlot(RoomName.HULK, DAY.atTime(9, 35), DAY.atTime(10, 5)), options.getFirst());
+    }
+
+    // ---------------------- CENÁRIOS DE EXCEÇÃO ----------------------
+
+    @Test
+    @DisplayName("Should throw ValidationException when no room fits the head count")
+    void shouldThrowValidationExceptionWhenNoRoomFitsTheHeadCount() {
+
+        when(roomGateway.findAll()).thenReturn(allRooms());
+
+        var exception = assertThrows(ValidationException.class, () -> {
+            findNextAvailableSlotsUseCase.execute(30, 60, EARLIEST_START, 3);
+        });
+
+        assertTrue(exception.getMessage().contains("Nenhuma sala comporta 30 pessoas."));
+        verify(reservationGateway, never()).findFreeWindows(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should throw ValidationException when the duration is below the minimum reservation time")
+    void shouldThrowValidationExceptionWhenTheDurationIsBelowTheMinimumReservationTime() {
+
+        var exception = assertThrows(ValidationException.class, () -> {
+            findNextAvailableSlotsUseCase.execute(3, 20, EARLIEST_START, 3);
+        });
+
+        assertTrue(exception.getMessage().contains("O tempo mínimo para reserva é de 30 min."));
+        verify(roomGateway, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should throw ValidationException when the duration is not a multiple of five minutes")
+    void shouldThrowValidationExceptionWhenTheDurationIsNotAMultipleOfFiveMinutes() {
+
+        var exception = assertThrows(ValidationException.class, () -> {
+            findNextAvailableSlotsUseCase.execute(3, 32, EARLIEST_START, 3);
+        });
+
+        assertEquals("A duração da reserva deve ser múltipla de 5 min.", exception.getMessage());
+        verify(roomGateway, never()).findAll();
+    }
+}
@@ -2,11 +2,12 @@ package com.send.agendamentosala.application.room;
 
 import message.agendamentosala.application.usecase.room.ListAvailableRoomsUseCase;
 import message.agendamentosala.domain.exception.ValidationException;
-import message.agendamentosala.domain.model.Room;
 import message.agendamentosala.domain.model.RoomName;
 import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.TimeWindow;
 import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
 import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomView;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,10 +16,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -37,8 +42,8 @@ class ListAvailableRoomsUseCaseTest {
     private final LocalDateTime START_TIME = LocalDateTime.of(2026, 1, 10, 10, 0);
     private final LocalDateTime END_TIME = LocalDateTime.of(2026, 1, 10, 11, 0);
 
-    private Room createMockRoom(Long id, RoomName name) {
-        return new Room(id, name, RoomStatus.AVAILABLE);
+    private RoomView createMockRoom(Long id, RoomName name) {
+        return new RoomView(id, name, RoomStatus.AVAILABLE);
     }
 
     // ---------------------- CENÁRIOS DE SUCESSO ----------------------
@@ -49,20 +54,21 @@ class ListAvailableRoomsUseCaseTest {
 
         var roomThor = createMockRoom(1L, RoomName.THOR);
         var roomHulk = createMockRoom(2L, RoomName.HULK);
-        List<Room> allRooms = List.of(roomThor, roomHulk);
+        List<RoomView> allRooms = List.of(roomThor, roomHulk);
 
-        when(roomGateway.findAll()).thenReturn(allRooms);
-        when(reservationGateway.hasConflict(any(RoomName.class), eq(START_TIME), eq(END_TIME))).thenReturn(false);
+        when(roomGateway.findAllViews()).thenReturn(allRooms);
+        when(reservationGateway.findConflictingRoomNames(eq(START_TIME), eq(END_TIME))).thenReturn(Set.of());
 
-        List<Room> availableRooms = listAvailableRoomsUseCase.execute(START_TIME, END_TIME);
+        List<RoomView> availableRooms = listAvailableRoomsUseCase.execute(START_TIME, END_TIME);
 
         assertNotNull(availableRooms);
         assertEquals(2, availableRooms.size());
         assertTrue(availableRooms.contains(roomThor));
         assertTrue(availableRooms.contains(roomHulk));
 
-        verify(roomGateway, times(1)).findAll();
-        verify(reservationGateway, times(2)).hasConflict(any(), eq(START_TIME), eq(END_TIME));
+        verify(roomGateway, times(1)).findAllViews();
+        verify(reservationGateway, times(1)).findConflictingRoomNames(eq(START_TIME), eq(END_TIME));
+        verify(reservationGateway, never()).hasConflict(any(), any(), any());
     }
 
     @Test
@@ -71,22 +77,20 @@ class ListAvailableRoomsUseCaseTest {
 
         var roomThor = createMockRoom(1L, RoomName.THOR);
         var roomHulk = createMockRoom(2L, RoomName.HULK);
-        List<Room> allRooms = List.of(roomThor, roomHulk);
+        List<RoomView> allRooms = List.of(roomThor, roomHulk);
 
-        when(roomGateway.findAll()).thenReturn(allRooms);
-        when(reservationGateway.hasConflict(eq(RoomName.THOR), eq(START_TIME), eq(END_TIME))).thenReturn(true);
-        when(reservationGateway.hasConflict(eq(RoomName.HULK), eq(START_TIME), eq(END_TIME))).thenReturn(false);
+        when(roomGateway.findAllViews()).thenReturn(allRooms);
+        when(reservationGateway.findConflictingRoomNames(eq(START_TIME), eq(END_TIME))).thenReturn(Set.of(RoomName.THOR));
 
-        List<Room> availableRooms = listAvailableRoomsUseCase.execute(START_TIME, END_TIME);
+        List<RoomView> availableRooms = listAvailableRoomsUseCase.execute(START_TIME, END_TIME);
 
         assertNotNull(availableRooms);
         assertEquals(1, availableRooms.size());
         assertEquals(RoomName.HULK, availableRooms.getFirst().name());
         assertFalse(availableRooms.contains(roomThor));
 
-        verify(roomGateway, times(1)).findAll();
-        verify(reservationGateway, times(1)).hasConflict(eq(RoomName.THOR), eq(START_TIME), eq(END_TIME));
-        verify(reservationGateway, times(1)).hasConflict(eq(RoomName.HULK), eq(START_TIME), eq(END_TIME));
+        verify(roomGateway, times(1)).findAllViews();
+        verify(reservationGateway, times(1)).findConflictingRoomNames(eq(START_TIME), eq(END_TIME));
     }
 
     @Test
@@ -94,19 +98,64 @@ class ListAvailableRoomsUseCaseTest {
     void shouldReturnAnEmptyListWhenAllRoomsHaveASchedulingConflict() {
 
         var roomThor = createMockRoom(1L, RoomName.THOR);
-        List<Room> allRooms = List.of(roomThor);
+        List<RoomView> allRooms = List.of(roomThor);
 
-        when(roomGateway.findAll()).thenReturn(allRooms);
+        when(roomGateway.findAllViews()).thenReturn(allRooms);
 
-        when(reservationGateway.hasConflict(any(RoomName.class), eq(START_TIME), eq(END_TIME))).thenReturn(true);
+        when(reservationGateway.findConflictingRoomNames(eq(START_TIME), eq(END_TIME))).thenReturn(Set.of(RoomName.THOR));
 
-        List<Room> availableRooms = listAvailableRoomsUseCase.execute(START_TIME, END_TIME);
+        List<RoomView> availableRooms = listAvailableRoomsUseCase.execute(START_TIME, END_TIME);
 
         assertNotNull(availableRooms);
         assertTrue(availableRooms.isEmpty());
 
-        verify(roomGateway, times(1)).findAll();
-        verify(reservationGateway, times(1)).hasConflict(eq(RoomName.THOR), eq(START_TIME), eq(END_TIME));
+        verify(roomGateway, times(1)).findAllViews();
+        verify(reservationGateway, times(1)).findConflictingRoomNames(eq(START_TIME), eq(END_TIME));
+    }
+
+    @Test
+    @DisplayName("Should resolve several windows with a single conflict lookup and a single room listing")
+    void shouldResolveSeveralWindowsWithASingleConflictLookupAndASingleRoomListing() {
+
+        var roomThor = createMockRoom(1L, RoomName.THOR);
+        var roomHulk = createMockRoom(2L, RoomName.HULK);
+        var morning = new TimeWindow(START_TIME, END_TIME);
+        var afternoon = new TimeWindow(START_TIME.withHour(14), END_TIME.withHour(15));
+        List<TimeWindow> windows = List.of(morning, afternoon);
+
+        Map<TimeWindow, Set<RoomName>> conflicts = new LinkedHashMap<>();
+        conflicts.put(morning, Set.of(RoomName.THOR));
+        conflicts.put(afternoon, Set.of());
+
+        when(roomGateway.findAllViews()).thenReturn(List.of(roomThor, roomHulk));
+        when(reservationGateway.findConflictingRoomNames(eq(windows))).thenReturn(conflicts);
+
+        Map<TimeWindow, List<RoomView>> availableByWindow = listAvailableRoomsUseCase.execute(windows);
+
+        assertEquals(List.of(roomHulk), availableByWindow.get(morning));
+        assertEquals(List.of(roomThor, roomHulk), availableByWindow.get(afternoon));
+
+        verify(roomGateway, times(1)).findAllViews();
+        verify(reservationGateway, times(1)).findConflictingRoomNames(eq(windows));
+    }
+
+    @Test
+    @DisplayName("Should throw ValidationException when any of the windows is invalid")
+    void shouldThrowValidationExceptionWhenAnyOfTheWindowsIsInvalid() {
+
+        List<TimeWindow> windows = List.of(
+                new TimeWindow(START_TIME, END_TIME),
+                new TimeWindow(END_TIME, START_TIME)
+        );
+
+        var exception = assertThrows(ValidationException.class, () -> {
+            listAvailableRoomsUseCase.execute(windows);
+        });
+
+        assertTrue(exception.getMessage().contains("O horário de início deve ser anterior ao horário de término."));
+
+        verify(roomGateway, never()).findAllViews();
+        verify(reservationGateway, never()).findConflictingRoomNames(anyList());
     }
 
     // ---------------------- CENÁRIOS DE EXCEÇÃO (Validação de Tempo) ----------------------
@@ -123,8 +172,8 @@ class ListAvailableRoomsUseCaseTest {
 
         assertTrue(exception.getMessage().contains("O horário de início deve ser anterior ao horário de término."));
 
-        verify(roomGateway, never()).findAll();
-        verify(reservationGateway, never()).hasConflict(any(), any(), any());
+        verify(roomGateway, never()).findAllViews();
+        verify(reservationGateway, never()).findConflictingRoomNames(any(), any());
     }
 
     @Test
@@ -139,7 +188,7 @@ class ListAvailableRoomsUseCaseTest {
 
         assertTrue(exception.getMessage().contains("O horário de início deve ser anterior ao horário de término."));
 
-        verify(roomGateway, never()).findAll();
-        verify(reservationGateway, never()).hasConflict(any(), any(), any());
+        verify(roomGateway, never()).findAllViews();
+        verify(reservationGateway, never()).findConflictingRoomNames(any(), any());
     }
 }
\ No newline at end of file
@@ -2,10 +2,10 @@ package com.send.agendamentosala.application.room;
 
 import message.agendamentosala.application.usecase.room.ReadRoomUseCase;
 import message.agendamentosala.domain.exception.ValidationException;
-import message.agendamentosala.domain.model.Room;
 import message.agendamentosala.domain.model.RoomName;
 import message.agendamentosala.domain.model.RoomStatus;
 import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomView;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,8 +33,8 @@ class ReadRoomUseCaseTest {
     private final RoomName ROOM_NAME_THOR = RoomName.THOR;
     private final RoomName ROOM_NAME_HULK = RoomName.HULK;
 
-    private Room createMockRoom(Long id, RoomName name) {
-        return new Room(id, name, RoomStatus.AVAILABLE);
+    private RoomView createMockRoom(Long id, RoomName name) {
+        return new RoomView(id, name, RoomStatus.AVAILABLE);
     }
 
     // ---------------------- MÉTODO: findAll() ----------------------
@@ -45,30 +45,30 @@ class ReadRoomUseCaseTest {
 
         var room1 = createMockRoom(1L, ROOM_NAME_THOR);
         var room2 = createMockRoom(2L, ROOM_NAME_HULK);
-        List<Room> expectedList = List.of(room1, room2);
+        List<RoomView> expectedList = List.of(room1, room2);
 
-        when(persistenceGateway.findAll()).thenReturn(expectedList);
+        when(persistenceGateway.findAllViews()).thenReturn(expectedList);
 
-        List<Room> result = readRoomUseCase.findAll();
+        List<RoomView> result = readRoomUseCase.findAll();
 
         assertNotNull(result);
         assertEquals(2, result.size());
         assertTrue(result.contains(room1));
 
-        verify(persistenceGateway, times(1)).findAll();
+        verify(persistenceGateway, times(1)).findAllViews();
     }
 
     @Test
     @DisplayName("Should return an empty list when no rooms are found")
     void shouldReturnAnEmptyListWhenNoRoomsAreFound() {
 
-        when(persistenceGateway.findAll()).thenReturn(List.of());
+        when(persistenceGateway.findAllViews()).thenReturn(List.of());
 
-        List<Room> result = readRoomUseCase.findAll();
+        List<RoomView> result = readRoomUseCase.findAll();
 
         assertTrue(result.isEmpty());
 
-        verify(persistenceGateway, times(1)).findAll();
+        verify(persistenceGateway, times(1)).findAllViews();
     }
 
     // ---------------------- MÉTODO: findById(Long id) ----------------------
@@ -79,7 +79,7 @@ class ReadRoomUseCaseTest {
 
         var expectedRoom = createMockRoom(ROOM_ID, ROOM_NAME_THOR);
 
-        when(persistenceGateway.findById(eq(ROOM_ID))).thenReturn(Optional.of(expectedRoom));
+        when(persistenceGateway.findViewById(eq(ROOM_ID))).thenReturn(Optional.of(expectedRoom));
 
         var result = readRoomUseCase.findById(ROOM_ID);
 
@@ -87,20 +87,20 @@ class ReadRoomUseCaseTest {
         assertEquals(ROOM_ID, result.id());
         assertEquals(ROOM_NAME_THOR, result.name());
 
-        verify(persistenceGateway, times(1)).findById(eq(ROOM_ID));
+        verify(persistenceGateway, times(1)).findViewById(eq(ROOM_ID));
     }
 
     @Test
     @DisplayName("Should throw ValidationException when room ID is not found")
     void shouldThrowValidationExceptionWhenRoomIdIsNotFound() {
 
-        when(persistenceGateway.findById(eq(ROOM_ID))).thenReturn(Optional.empty());
+        when(persistenceGateway.findViewById(eq(ROOM_ID))).thenReturn(Optional.empty());
 
         var exception = assertThrows(ValidationException.class, () -> {
             readRoomUseCase.findById(ROOM_ID);
         });
         assertTrue(exception.getMessage().contains("Sala não encontrada para esse ID: " + ROOM_ID));
 
-        verify(persistenceGateway, times(1)).findById(eq(ROOM_ID));
+        verify(persistenceGateway, times(1)).findViewById(eq(ROOM_ID));
     }
 }
\ No newline at end of file
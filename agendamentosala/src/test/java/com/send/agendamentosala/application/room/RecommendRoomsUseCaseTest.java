@@ -0,0 +1,112 @@
+package com.send.agendamentosala.application.room;
+
+import message.agendamentosala.application.usecase.room.RecommendRoomsUseCase;
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.model.Room;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomRecommendation;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.TimeWindow;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomPersistenceGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendRoomsUseCaseTest {
+
+    @Mock
+    private RoomPersistenceGateway roomGateway;
+
+    @Mock
+    private ReservationPersistenceGateway reservationGateway;
+
+    @InjectMocks
+    private RecommendRoomsUseCase recommendRoomsUseCase;
+
+    private final LocalDate DAY = LocalDate.of(2026, 1, 10);
+    private final LocalDateTime START_TIME = DAY.atTime(10, 0);
+    private final LocalDateTime END_TIME = DAY.atTime(11, 0);
+
+    private List<Room> allRooms() {
+        return List.of(
+                new Room(1L, RoomName.CAP_MARVEL, RoomStatus.AVAILABLE),
+                new Room(2L, RoomName.HULK, RoomStatus.AVAILABLE),
+                new Room(3L, RoomName.THOR, RoomStatus.AVAILABLE),
+                new Room(4L, RoomName.LOKI, RoomStatus.AVAILABLE)
+        );
+    }
+
+    // ---------------------- CENÁRIOS DE SUCESSO ----------------------
+
+    @Test
+    @DisplayName("Should rank free rooms by the smallest sufficient capacity")
+    void shouldRankFreeRoomsByTheSmallestSufficientCapacity() {
+
+        when(roomGateway.findAll()).thenReturn(allRooms());
+        when(reservationGateway.findConflictingRoomNames(eq(START_TIME), eq(END_TIME))).thenReturn(Set.of(RoomName.HULK));
+        when(reservationGateway.findFreeWindows(any(), eq(DAY))).thenReturn(List.of(new TimeWindow(DAY.atTime(8, 0), DAY.atTime(18, 0))));
+
+        List<RoomRecommendation> recommendations = recommendRoomsUseCase.execute(3, START_TIME, END_TIME);
+
+        assertEquals(List.of(RoomName.THOR, RoomName.LOKI, RoomName.CAP_MARVEL),
+                recommendations.stream().map(RoomRecommendation::roomName).toList());
+        verify(reservationGateway, times(1)).findConflictingRoomNames(eq(START_TIME), eq(END_TIME));
+        verify(reservationGateway, never()).hasConflict(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should report the minutes that would be left in unusable fragments of the day")
+    void shouldReportTheMinutesThatWouldBeLeftInUnusableFragmentsOfTheDay() {
+
+        when(roomGateway.findAll()).thenReturn(List.of(new Room(3L, RoomName.THOR, RoomStatus.AVAILABLE)));
+        when(reservationGateway.findConflictingRoomNames(eq(START_TIME), eq(END_TIME))).thenReturn(Set.of());
+        when(reservationGateway.findFreeWindows(eq(RoomName.THOR), eq(DAY)))
+                .thenReturn(List.of(new TimeWindow(DAY.atTime(9, 45), DAY.atTime(12, 0))));
+
+        List<RoomRecommendation> recommendations = recommendRoomsUseCase.execute(3, START_TIME, END_TIME);
+
+        assertEquals(new RoomRecommendation(RoomName.THOR, 10, 15), recommendations.getFirst());
+    }
+
+    @Test
+    @DisplayName("Should return an empty list when no free room fits the head count")
+    void shouldReturnAnEmptyListWhenNoFreeRoomFitsTheHeadCount() {
+
+        when(roomGateway.findAll()).thenReturn(allRooms());
+        when(reservationGateway.findConflictingRoomNames(eq(START_TIME), eq(END_TIME))).thenReturn(Set.of(RoomName.CAP_MARVEL));
+
+        List<RoomRecommendation> recommendations = recommendRoomsUseCase.execute(22, START_TIME, END_TIME);
+
+        assertTrue(recommendations.isEmpty());
+        verify(reservationGateway, never()).findFreeWindows(any(), any());
+    }
+
+    // ---------------------- CENÁRIOS DE EXCEÇÃO ----------------------
+
+    @Test
+    @DisplayName("Should throw ValidationException when start time is not before end time")
+    void shouldThrowValidationExceptionWhenStartTimeIsNotBeforeEndTime() {
+
+        var exception = assertThrows(ValidationException.class, () -> {
+            recommendRoomsUseCase.execute(3, END_TIME, START_TIME);
+        });
+
+        assertTrue(exception.getMessage().contains("O horário de início deve ser anterior ao horário de término."));
+        verify(roomGateway, never()).findAll();
+    }
+}
@@ -2,8 +2,8 @@ package com.send.agendamentosala.application.user;
 
 import message.agendamentosala.application.usecase.user.ReadUserUseCase;
 import message.agendamentosala.domain.exception.ValidationException;
-import message.agendamentosala.domain.model.User;
 import message.agendamentosala.infrastructure.gateway.persistence.user.UserPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.user.UserView;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,8 +31,8 @@ class ReadUserUseCaseTest {
     private final String INVALID_EMAIL = "invalid-email";
     private final String TEST_NAME = "Test User";
 
-    private User createMockUser() {
-        return new User(TEST_NAME, VALID_EMAIL);
+    private UserView createMockUser() {
+        return new UserView(TEST_NAME, VALID_EMAIL);
     }
 
     // ---------------------- CENÁRIO DE SUCESSO ----------------------
@@ -43,7 +43,7 @@ class ReadUserUseCaseTest {
 
         var expectedUser = createMockUser();
 
-        when(persistenceGateway.findByEmail(eq(VALID_EMAIL))).thenReturn(Optional.of(expectedUser));
+        when(persistenceGateway.findViewByEmail(eq(VALID_EMAIL))).thenReturn(Optional.of(expectedUser));
 
         var result = readUserUseCase.execute(VALID_EMAIL);
 
@@ -51,7 +51,7 @@ class ReadUserUseCaseTest {
         assertEquals(VALID_EMAIL, result.email());
         assertEquals(TEST_NAME, result.fullName());
 
-        verify(persistenceGateway, times(1)).findByEmail(eq(VALID_EMAIL));
+        verify(persistenceGateway, times(1)).findViewByEmail(eq(VALID_EMAIL));
     }
 
     // ---------------------- CENÁRIO DE EXCEÇÃO (Usuário não encontrado) ----------------------
@@ -60,7 +60,7 @@ class ReadUserUseCaseTest {
     @DisplayName("Should throw ValidationException when user is not found by email")
     void shouldThrowValidationExceptionWhenUserIsNotFoundByEmail() {
 
-        when(persistenceGateway.findByEmail(eq(VALID_EMAIL))).thenReturn(Optional.empty());
+        when(persistenceGateway.findViewByEmail(eq(VALID_EMAIL))).thenReturn(Optional.empty());
 
         var exception = assertThrows(ValidationException.class, () -> {
             readUserUseCase.execute(VALID_EMAIL);
@@ -68,7 +68,7 @@ class ReadUserUseCaseTest {
 
         assertTrue(exception.getMessage().contains("Usuário não cadastrado: " + VALID_EMAIL));
 
-        verify(persistenceGateway, times(1)).findByEmail(eq(VALID_EMAIL));
+        verify(persistenceGateway, times(1)).findViewByEmail(eq(VALID_EMAIL));
     }
 
     // ---------------------- CENÁRIO DE EXCEÇÃO (Validação de E-mail) ----------------------
@@ -80,6 +80,6 @@ class ReadUserUseCaseTest {
         assertThrows(ValidationException.class, () -> {
             readUserUseCase.execute(INVALID_EMAIL);
         });
-        verify(persistenceGateway, never()).findByEmail(any());
+        verify(persistenceGateway, never()).findViewByEmail(any());
     }
 }
\ No newline at end of file
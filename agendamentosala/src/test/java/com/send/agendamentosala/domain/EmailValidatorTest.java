@@ -0,0 +1,106 @@
+package com.send.agendamentosala.domain;
+
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.validator.EmailValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Propriedade: para qualquer entrada, o validador aceita ou recusa (com a mesma mensagem) exatamente
+// como a versão anterior baseada em String.matches. As entradas são geradas com semente fixa.
+class EmailValidatorTest {
+
+    private static final String ORIGINAL_REGEX = "(?i)^[A-Z0-9._%+-]+@[A-Z0-9.-]+\\.[A-Z]{2,}$";
+    private static final String ALPHABET = "aZk09._%+-@@..-- \t\n\r\u000BéçſK Ａ#!/";
+    private static final int SAMPLES = 200_000;
+
+    private static String original(String email) {
+        if (email == null || email.isBlank()) {
+            return "O e-mail não pode ser nulo ou vazio.";
+        }
+        if (!email.matches(ORIGINAL_REGEX)) {
+            return "Formato de e-mail inválido.";
+        }
+        return null;
+    }
+
+    private static String current(String email) {
+        try {
+            EmailValidator.validate(email);
+            return null;
+        } catch (ValidationException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static String randomString(Random random, String alphabet, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    // E-mails quase válidos (parte local, domínio e sufixo) com uma posição trocada por um caractere qualquer,
+    // para exercitar as bordas que strings aleatórias raramente alcançam.
+    private static String nearlyValidEmail(Random random) {
+        String email = randomString(random, "ab.9_%+-", 6) + "@" + randomString(random, "xy.0-", 6) + "." +
+                randomString(random, "comBR", 4);
+        if (!email.isEmpty() && random.nextBoolean()) {
+            int position = random.nextInt(email.length());
+            char replacement = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            email = email.substring(0, position) + replacement + email.substring(position + 1);
+        }
+        return email;
+    }
+
+    @Test
+    @DisplayName("Should accept and reject exactly the same random strings as the original regex")
+    void shouldAcceptAndRejectExactlyTheSameRandomStringsAsTheOriginalRegex() {
+
+        Random random = new Random(20240613L);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            String email = randomString(random, ALPHABET, 16);
+            assertEquals(original(email), current(email), () -> "Divergência para: [" + email + "]");
+        }
+    }
+
+    @Test
+    @DisplayName("Should agree with the original regex on nearly valid e-mails")
+    void shouldAgreeWithTheOriginalRegexOnNearlyValidEmails() {
+
+        Random random = new Random(7L);
+        int accepted = 0;
+
+        for (int i = 0; i < SAMPLES; i++) {
+            String email = nearlyValidEmail(random);
+            String expected = original(email);
+            assertEquals(expected, current(email), () -> "Divergência para: [" + email + "]");
+            if (expected == null) {
+                accepted++;
+            }
+        }
+
+        assertTrue(accepted > SAMPLES / 10, "O gerador precisa produzir e-mails válidos suficientes: " + accepted);
+    }
+
+    @Test
+    @DisplayName("Should keep the original answer for known edge cases")
+    void shouldKeepTheOriginalAnswerForKnownEdgeCases() {
+
+        List<String> cases = List.of("user@example.com", "USER.Name+tag@Sub.Example.COM", "a@b.cd", "a@.cd",
+                "a@b..cd", "a@b.c", "a@b.c1", "@b.cd", "a@@b.cd", "a@b.cd\n", "a@b-.cd", "a@b.cd.", "a b@c.de",
+                "ação@b.cd", "a@b.Ka", "a@b.ſa", "", " ", "\t");
+
+        for (String email : cases) {
+            assertEquals(original(email), current(email), () -> "Divergência para: [" + email + "]");
+        }
+        assertEquals(original(null), current(null));
+    }
+}
@@ -0,0 +1,79 @@
+package com.send.agendamentosala.domain;
+
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.validator.NameValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Propriedade: para qualquer entrada, o validador aceita ou recusa (com a mesma mensagem) exatamente
+// como a versão anterior baseada em String.matches. As entradas são geradas com semente fixa.
+class NameValidatorTest {
+
+    private static final String ORIGINAL_REGEX = "^[a-zA-Z\\s'-]+$";
+    private static final String ALPHABET = "aZmq '-'- \t\n\r\f\u000B\u001C\u0085  éÁ0._,ſK";
+    private static final int SAMPLES = 200_000;
+
+    private static String original(String name) {
+        if (name == null || name.isBlank()) {
+            return "O nome não pode ser nulo ou vazio.";
+        }
+        if (!name.matches(ORIGINAL_REGEX)) {
+            return "O nome não pode conter números ou caracteres especiais.";
+        }
+        return null;
+    }
+
+    private static String current(String name) {
+        try {
+            NameValidator.validate(name);
+            return null;
+        } catch (ValidationException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Test
+    @DisplayName("Should accept and reject exactly the same random strings as the original regex")
+    void shouldAcceptAndRejectExactlyTheSameRandomStringsAsTheOriginalRegex() {
+
+        Random random = new Random(20240613L);
+        int accepted = 0;
+
+        for (int i = 0; i < SAMPLES; i++) {
+            int length = random.nextInt(13);
+            StringBuilder builder = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                // Metade das posições só com caracteres aceitos, para que nomes válidos apareçam com frequência.
+                String alphabet = random.nextBoolean() ? "aZmq '-" : ALPHABET;
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String name = builder.toString();
+
+            String expected = original(name);
+            assertEquals(expected, current(name), () -> "Divergência para: [" + name + "]");
+            if (expected == null) {
+                accepted++;
+            }
+        }
+
+        assertTrue(accepted > SAMPLES / 20, "O gerador precisa produzir nomes válidos suficientes: " + accepted);
+    }
+
+    @Test
+    @DisplayName("Should keep the original answer for known edge cases")
+    void shouldKeepTheOriginalAnswerForKnownEdgeCases() {
+
+        List<String> cases = List.of("Maria Silva", "O'Neil", "Jean-Luc", "Ana\tLima", "Ana\n", "José", "R2D2",
+                "Ana Lima", "Ana Lima", "-", "'", "", "  ", " ");
+
+        for (String name : cases) {
+            assertEquals(original(name), current(name), () -> "Divergência para: [" + name + "]");
+        }
+        assertEquals(original(null), current(null));
+    }
+}
@@ -0,0 +1,62 @@
+package com.send.agendamentosala.domain;
+
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.model.Reservation;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReservationTest {
+
+    private final LocalDateTime YESTERDAY = LocalDateTime.now().minusDays(1).toLocalDate().atTime(9, 0);
+
+    // ---------------------- RECONSTITUIÇÃO ----------------------
+
+    @Test
+    @DisplayName("Should rebuild a stored reservation from a past day without applying the creation rules")
+    void shouldRebuildAStoredReservationFromAPastDayWithoutApplyingTheCreationRules() {
+
+        assertThrows(ValidationException.class, () -> Reservation.create("user@example.com", RoomName.THOR, 2,
+                YESTERDAY, YESTERDAY.plusHours(1), RoomStatus.STAND_BY));
+
+        var reservation = new Reservation(9L, "user@example.com", RoomName.THOR, 2, YESTERDAY, YESTERDAY.plusHours(1),
+                RoomStatus.CHECKED_IN);
+
+        assertEquals(YESTERDAY, reservation.startDateTime());
+        assertEquals(RoomStatus.CHECKED_IN, reservation.status());
+    }
+
+    // ---------------------- TROCA DE STATUS ----------------------
+
+    @Test
+    @DisplayName("Should change only the status and keep every other field")
+    void shouldChangeOnlyTheStatusAndKeepEveryOtherField() {
+
+        var stored = new Reservation(9L, "user@example.com", RoomName.THOR, 2, YESTERDAY, YESTERDAY.plusHours(1),
+                RoomStatus.CHECKED_IN);
+
+        var changed = stored.withStatus(RoomStatus.AVAILABLE);
+
+        assertEquals(RoomStatus.AVAILABLE, changed.status());
+        assertEquals(new Reservation(9L, "user@example.com", RoomName.THOR, 2, YESTERDAY, YESTERDAY.plusHours(1),
+                RoomStatus.AVAILABLE), changed);
+        assertEquals(RoomStatus.CHECKED_IN, stored.status());
+    }
+
+    @Test
+    @DisplayName("Should only allow the status changes listed in the transition table")
+    void shouldOnlyAllowTheStatusChangesListedInTheTransitionTable() {
+
+        assertTrue(RoomStatus.STAND_BY.canTransitionTo(RoomStatus.PENDING));
+        assertTrue(RoomStatus.STAND_BY.canTransitionTo(RoomStatus.AVAILABLE));
+        assertTrue(RoomStatus.PENDING.canTransitionTo(RoomStatus.CHECKED_IN));
+        assertFalse(RoomStatus.PENDING.canTransitionTo(RoomStatus.AVAILABLE));
+        assertFalse(RoomStatus.AVAILABLE.canTransitionTo(RoomStatus.STAND_BY));
+        assertFalse(RoomStatus.CHECKED_IN.canTransitionTo(RoomStatus.PENDING));
+    }
+}
@@ -0,0 +1,113 @@
+package com.send.agendamentosala.infrastructure;
+
+import message.agendamentosala.domain.model.TimeWindow;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.DaySlotBitmap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DaySlotBitmapTest {
+
+    private final LocalDate DATE = LocalDate.of(2026, 1, 10);
+
+    private LocalDateTime at(int hour, int minute) {
+        return DATE.atTime(hour, minute);
+    }
+
+    // ---------------------- GRADE ----------------------
+
+    @Test
+    @DisplayName("Should accept only windows inside a single business day")
+    void shouldAcceptOnlyWindowsInsideASingleBusinessDay() {
+
+        assertTrue(DaySlotBitmap.fitsGrid(at(8, 0), at(18, 0)));
+        assertFalse(DaySlotBitmap.fitsGrid(at(7, 55), at(9, 0)));
+        assertFalse(DaySlotBitmap.fitsGrid(at(17, 0), at(18, 5)));
+        assertFalse(DaySlotBitmap.fitsGrid(at(9, 0), at(9, 0).plusDays(1)));
+        assertEquals(120, DaySlotBitmap.SLOTS_PER_DAY);
+    }
+
+    // ---------------------- CONSULTAS ----------------------
+
+    @Test
+    @DisplayName("Should answer free and taken windows from the bits alone")
+    void shouldAnswerFreeAndTakenWindowsFromTheBitsAlone() {
+
+        var bitmap = new DaySlotBitmap(DATE);
+        bitmap.mark(at(10, 0), at(11, 0));
+
+        assertTrue(bitmap.isCertainlyFree(at(8, 0), at(10, 0)));
+        assertTrue(bitmap.isCertainlyFree(at(11, 0), at(18, 0)));
+        assertTrue(bitmap.isCertainlyTaken(at(10, 30), at(12, 0)));
+        assertTrue(bitmap.isCertainlyTaken(at(9, 0), at(18, 0)));
+        assertFalse(bitmap.isCertainlyFree(at(10, 55), at(11, 30)));
+    }
+
+    @Test
+    @DisplayName("Should leave partially used slots undecided so the exact comparison can resolve them")
+    void shouldLeavePartiallyUsedSlotsUndecided() {
+
+        var bitmap = new DaySlotBitmap(DATE);
+        bitmap.mark(at(9, 0), at(9, 3));
+
+        assertFalse(bitmap.isCertainlyFree(at(9, 3), at(10, 0)));
+        assertFalse(bitmap.isCertainlyTaken(at(9, 3), at(10, 0)));
+    }
+
+    @Test
+    @DisplayName("Should handle slots that straddle the boundary between the two words")
+    void shouldHandleSlotsThatStraddleTheBoundaryBetweenTheTwoWords() {
+
+        var bitmap = new DaySlotBitmap(DATE);
+        bitmap.mark(at(13, 0), at(14, 0));
+
+        assertTrue(bitmap.isCertainlyTaken(at(13, 15), at(13, 30)));
+        assertTrue(bitmap.isCertainlyFree(at(14, 0), at(15, 0)));
+        assertTrue(bitmap.isCertainlyFree(at(12, 0), at(13, 0)));
+    }
+
+    @Test
+    @DisplayName("Should defer every decision to the exact comparison once the day is irregular")
+    void shouldDeferEveryDecisionToTheExactComparisonOnceTheDayIsIrregular() {
+
+        var bitmap = new DaySlotBitmap(DATE);
+        bitmap.markIrregular();
+
+        assertFalse(bitmap.isCertainlyFree(at(8, 0), at(9, 0)));
+        assertFalse(bitmap.isCertainlyTaken(at(8, 0), at(9, 0)));
+        assertFalse(bitmap.isEmpty());
+    }
+
+    // ---------------------- PERÍODOS LIVRES ----------------------
+
+    @Test
+    @DisplayName("Should list free windows aligned to five minute slots")
+    void shouldListFreeWindowsAlignedToFiveMinuteSlots() {
+
+        var bitmap = new DaySlotBitmap(DATE);
+        bitmap.mark(at(9, 2), at(10, 0));
+        bitmap.mark(at(17, 0), at(18, 0));
+
+        List<TimeWindow> free = bitmap.freeWindows();
+
+        assertEquals(List.of(
+                new TimeWindow(at(8, 0), at(9, 0)),
+                new TimeWindow(at(10, 0), at(17, 0))
+        ), free);
+    }
+
+    @Test
+    @DisplayName("Should report the whole business day as free when nothing is marked")
+    void shouldReportTheWholeBusinessDayAsFreeWhenNothingIsMarked() {
+
+        var bitmap = new DaySlotBitmap(DATE);
+
+        assertTrue(bitmap.isEmpty());
+        assertEquals(List.of(new TimeWindow(at(8, 0), at(18, 0))), bitmap.freeWindows());
+    }
+}
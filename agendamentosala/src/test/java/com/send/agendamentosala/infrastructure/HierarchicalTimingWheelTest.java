@@ -0,0 +1,90 @@
+package com.send.agendamentosala.infrastructure;
+
+import message.agendamentosala.infrastructure.scheduler.HierarchicalTimingWheel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    // ---------------------- VENCIMENTO ----------------------
+
+    @Test
+    @DisplayName("Should fire an item at its deadline and not one tick before")
+    void shouldFireAnItemAtItsDeadlineAndNotOneTickBefore() {
+
+        var wheel = new HierarchicalTimingWheel<Long>(1000, 8, START);
+        wheel.schedule(1L, START + 5_000);
+
+        assertEquals(List.of(), wheel.advance(START + 4_999));
+        assertEquals(List.of(1L), wheel.advance(START + 5_000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Should report a deadline that already passed instead of storing it")
+    void shouldReportADeadlineThatAlreadyPassedInsteadOfStoringIt() {
+
+        var wheel = new HierarchicalTimingWheel<Long>(1000, 8, START);
+
+        assertTrue(wheel.schedule(1L, START - 1));
+        assertFalse(wheel.schedule(2L, START + 1));
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Should cascade items scheduled several levels above down to their exact tick")
+    void shouldCascadeItemsScheduledSeveralLevelsAboveDownToTheirExactTick() {
+
+        // Com 4 posições de 1 s, 15 min ficam cinco níveis acima do primeiro.
+        var wheel = new HierarchicalTimingWheel<Long>(1000, 4, START);
+        long deadline = START + 15 * 60 * 1000;
+        wheel.schedule(1L, deadline);
+
+        assertEquals(List.of(), wheel.advance(deadline - 1000));
+        assertEquals(List.of(1L), wheel.advance(deadline));
+    }
+
+    @Test
+    @DisplayName("Should fire every item no earlier than its deadline, within one tick and in deadline order")
+    void shouldFireEveryItemNoEarlierThanItsDeadlineWithinOneTickAndInDeadlineOrder() {
+
+        long tick = 100;
+        var wheel = new HierarchicalTimingWheel<Long>(tick, 16, START);
+        Random random = new Random(42);
+        Map<Long, Long> deadlines = new HashMap<>();
+        for (long id = 0; id < 20_000; id++) {
+            long deadline = START + 1 + random.nextInt(3_600_000);
+            deadlines.put(id, deadline);
+            wheel.schedule(id, deadline);
+        }
+
+        List<Long> fired = new ArrayList<>();
+        long now = START;
+        while (wheel.size() > 0) {
+            now += 1 + random.nextInt(5_000);
+            for (Long id : wheel.advance(now)) {
+                long deadline = deadlines.get(id);
+                assertTrue(deadline <= now, "disparou antes do prazo");
+                fired.add(deadline);
+            }
+            // Tudo o que venceu até o tick anterior já precisa ter saído.
+            long lastTick = now / tick * tick;
+            assertTrue(deadlines.values().stream().filter(d -> d <= lastTick).count() <= fired.size());
+        }
+
+        assertEquals(deadlines.size(), fired.size());
+        for (int i = 1; i < fired.size(); i++) {
+            assertTrue(Math.ceilDiv(fired.get(i - 1), tick) <= Math.ceilDiv(fired.get(i), tick), "fora da ordem de prazo");
+        }
+    }
+}
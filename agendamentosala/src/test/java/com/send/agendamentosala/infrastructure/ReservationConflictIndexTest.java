@@ -0,0 +1,225 @@
+package com.send.agendamentosala.infrastructure;
+
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.TimeWindow;
+import message.agendamentosala.infrastructure.config.ConflictIndexProperties;
+import message.agendamentosala.infrastructure.entity.ReservationEntity;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationConflictIndex;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationConflictIndexTest {
+
+    @Mock
+    private ReservationRepository repository;
+
+    private ReservationConflictIndex conflictIndex;
+
+    private final LocalDateTime DAY = LocalDateTime.of(2026, 1, 10, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        conflictIndex = new ReservationConflictIndex(repository, new ConflictIndexProperties(true));
+    }
+
+    private ReservationEntity createEntity(Long id, RoomName roomName, int startHour, int endHour, RoomStatus status) {
+        return ReservationEntity.builder()
+                .id(id)
+                .userEmail("user" + id + "@example.com")
+                .roomName(roomName)
+                .requiredPeople(2)
+                .startDateTime(DAY.withHour(startHour))
+                .endDateTime(DAY.withHour(endHour))
+                .status(status)
+                .build();
+    }
+
+    // ---------------------- CARGA INICIAL ----------------------
+
+    @Test
+    @DisplayName("Should load active reservations at startup and detect overlapping windows")
+    void shouldLoadActiveReservationsAtStartupAndDetectOverlappingWindows() {
+
+        when(repository.findByStatusIn(any())).thenReturn(List.of(createEntity(1L, RoomName.THOR, 10, 12, RoomStatus.PENDING)));
+
+        conflictIndex.load();
+
+        assertTrue(conflictIndex.isLoaded());
+        assertTrue(conflictIndex.hasConflict(RoomName.THOR, DAY.withHour(11), DAY.withHour(13)));
+        assertTrue(conflictIndex.hasConflict(RoomName.THOR, DAY.withHour(9), DAY.withHour(11)));
+        assertFalse(conflictIndex.hasConflict(RoomName.HULK, DAY.withHour(10), DAY.withHour(12)));
+    }
+
+    @Test
+    @DisplayName("Should stay unloaded when the database cannot be read so the gateway falls back to queries")
+    void shouldStayUnloadedWhenTheDatabaseCannotBeRead() {
+
+        when(repository.findByStatusIn(any())).thenThrow(new IllegalStateException("db down"));
+
+        conflictIndex.load();
+
+        assertFalse(conflictIndex.isLoaded());
+    }
+
+    @Test
+    @DisplayName("Should stay unloaded and ignore writes when disabled so every read goes to the database")
+    void shouldStayUnloadedAndIgnoreWritesWhenDisabled() {
+
+        conflictIndex = new ReservationConflictIndex(repository, new ConflictIndexProperties(false));
+
+        conflictIndex.load();
+        conflictIndex.upsert(createEntity(1L, RoomName.THOR, 10, 12, RoomStatus.PENDING));
+        conflictIndex.remove(1L);
+
+        assertFalse(conflictIndex.isLoaded());
+        verifyNoInteractions(repository);
+    }
+
+    // ---------------------- CONSULTA DE CONFLITOS ----------------------
+
+    @Test
+    @DisplayName("Should not report conflict for back-to-back windows")
+    void shouldNotReportConflictForBackToBackWindows() {
+
+        when(repository.findByStatusIn(any())).thenReturn(List.of(createEntity(1L, RoomName.THOR, 10, 12, RoomStatus.STAND_BY)));
+        conflictIndex.load();
+
+        assertFalse(conflictIndex.hasConflict(RoomName.THOR, DAY.withHour(8), DAY.withHour(10)));
+        assertFalse(conflictIndex.hasConflict(RoomName.THOR, DAY.withHour(12), DAY.withHour(14)));
+    }
+
+    @Test
+    @DisplayName("Should detect a long reservation that started well before the requested window")
+    void shouldDetectALongReservationThatStartedWellBeforeTheRequestedWindow() {
+
+        when(repository.findByStatusIn(any())).thenReturn(List.of(
+                createEntity(1L, RoomName.LOKI, 8, 18, RoomStatus.CHECKED_IN),
+                createEntity(2L, RoomName.LOKI, 9, 10, RoomStatus.PENDING)
+        ));
+        conflictIndex.load();
+
+        assertTrue(conflictIndex.hasConflict(RoomName.LOKI, DAY.withHour(16), DAY.withHour(17)));
+    }
+
+    // ---------------------- ATUALIZAÇÕES ----------------------
+
+    @Test
+    @DisplayName("Should index new reservations and drop them when they leave the active statuses")
+    void shouldIndexNewReservationsAndDropThemWhenTheyLeaveTheActiveStatuses() {
+
+        when(repository.findByStatusIn(any())).thenReturn(List.of());
+        conflictIndex.load();
+
+        conflictIndex.upsert(createEntity(5L, RoomName.HULK, 14, 15, RoomStatus.STAND_BY));
+        assertTrue(conflictIndex.hasConflict(RoomName.HULK, DAY.withHour(14), DAY.withHour(15)));
+
+        conflictIndex.upsert(createEntity(5L, RoomName.HULK, 14, 15, RoomStatus.AVAILABLE));
+        assertFalse(conflictIndex.hasConflict(RoomName.HULK, DAY.withHour(14), DAY.withHour(15)));
+    }
+
+    @Test
+    @DisplayName("Should drop a reservation from the index when it is deleted")
+    void shouldDropAReservationFromTheIndexWhenItIsDeleted() {
+
+        when(repository.findByStatusIn(any())).thenReturn(List.of(createEntity(7L, RoomName.CAP_MARVEL, 9, 11, RoomStatus.PENDING)));
+        conflictIndex.load();
+
+        conflictIndex.remove(7L);
+
+        assertFalse(conflictIndex.hasConflict(RoomName.CAP_MARVEL, DAY.withHour(9), DAY.withHour(11)));
+    }
+
+    @Test
+    @DisplayName("Should resolve back-to-back windows that share a partially used slot")
+    void shouldResolveBackToBackWindowsThatShareAPartiallyUsedSlot() {
+
+        when(repository.findByStatusIn(any())).thenReturn(List.of());
+        conflictIndex.load();
+
+        var first = createEntity(1L, RoomName.THOR, 9, 10, RoomStatus.PENDING);
+        first.setEndDateTime(DAY.withHour(9).withMinute(3));
+        conflictIndex.upsert(first);
+
+        assertFalse(conflictIndex.hasConflict(RoomName.THOR, DAY.withHour(9).withMinute(3), DAY.withHour(10)));
+        assertTrue(conflictIndex.hasConflict(RoomName.THOR, DAY.withHour(9).withMinute(2), DAY.withHour(10)));
+    }
+
+    @Test
+    @DisplayName("Should keep the remaining reservations of a day after another one sharing a slot is removed")
+    void shouldKeepTheRemainingReservationsOfADayAfterAnotherOneSharingASlotIsRemoved() {
+
+        var first = createEntity(1L, RoomName.THOR, 9, 10, RoomStatus.PENDING);
+        first.setEndDateTime(DAY.withHour(9).withMinute(32));
+        var second = createEntity(2L, RoomName.THOR, 9, 11, RoomStatus.PENDING);
+        second.setStartDateTime(DAY.withHour(9).withMinute(32));
+        when(repository.findByStatusIn(any())).thenReturn(List.of(first, second));
+        conflictIndex.load();
+
+        conflictIndex.remove(1L);
+
+        assertFalse(conflictIndex.hasConflict(RoomName.THOR, DAY.withHour(9), DAY.withHour(9).withMinute(30)));
+        assertTrue(conflictIndex.hasConflict(RoomName.THOR, DAY.withHour(9).withMinute(30), DAY.withHour(9).withMinute(35)));
+    }
+
+    @Test
+    @DisplayName("Should detect conflicts against reservations that span several days")
+    void shouldDetectConflictsAgainstReservationsThatSpanSeveralDays() {
+
+        var multiDay = createEntity(3L, RoomName.HULK, 9, 10, RoomStatus.CHECKED_IN);
+        multiDay.setEndDateTime(DAY.plusDays(2).withHour(10));
+        when(repository.findByStatusIn(any())).thenReturn(List.of(multiDay));
+        conflictIndex.load();
+
+        assertTrue(conflictIndex.hasConflict(RoomName.HULK, DAY.plusDays(1).withHour(14), DAY.plusDays(1).withHour(15)));
+        assertFalse(conflictIndex.hasConflict(RoomName.HULK, DAY.plusDays(2).withHour(10), DAY.plusDays(2).withHour(11)));
+    }
+
+    @Test
+    @DisplayName("Should list the free windows of a room for a day")
+    void shouldListTheFreeWindowsOfARoomForADay() {
+
+        when(repository.findByStatusIn(any())).thenReturn(List.of(createEntity(1L, RoomName.LOKI, 10, 12, RoomStatus.PENDING)));
+        conflictIndex.load();
+
+        var free = conflictIndex.findFreeWindows(RoomName.LOKI, DAY.toLocalDate());
+
+        assertEquals(List.of(
+                new TimeWindow(DAY.withHour(8), DAY.withHour(10)),
+                new TimeWindow(DAY.withHour(12), DAY.withHour(18))
+        ), free);
+    }
+
+    @Test
+    @DisplayName("Should answer several windows of the same room in one call, in the given order")
+    void shouldAnswerSeveralWindowsOfTheSameRoomInOneCallInTheGivenOrder() {
+
+        when(repository.findByStatusIn(any())).thenReturn(List.of(
+                createEntity(1L, RoomName.THOR, 9, 10, RoomStatus.PENDING),
+                createEntity(2L, RoomName.THOR, 14, 15, RoomStatus.STAND_BY)
+        ));
+        conflictIndex.load();
+
+        var conflicts = conflictIndex.findConflicts(RoomName.THOR, List.of(
+                new TimeWindow(DAY.withHour(9), DAY.withHour(10)),
+                new TimeWindow(DAY.withHour(10), DAY.withHour(14)),
+                new TimeWindow(DAY.withHour(13), DAY.withHour(16)),
+                new TimeWindow(DAY.plusDays(7).withHour(9), DAY.plusDays(7).withHour(10))
+        ));
+
+        assertEquals(List.of(true, false, true, false), conflicts);
+    }
+}
\ No newline at end of file
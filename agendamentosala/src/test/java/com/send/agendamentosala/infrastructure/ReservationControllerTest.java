@@ -2,18 +2,43 @@ package com.send.agendamentosala.infrastructure;
 
 import message.agendamentosala.application.usecase.checkin.ConfirmReservationUseCase;
 import message.agendamentosala.application.usecase.checkin.TriggerCheckInUseCase;
+import message.agendamentosala.application.usecase.reservation.AutoAssignReservationUseCase;
+import message.agendamentosala.application.usecase.reservation.CancelRecurringReservationUseCase;
+import message.agendamentosala.application.usecase.reservation.CreateRecurringReservationUseCase;
+import message.agendamentosala.application.usecase.reservation.CreateReservationBatchUseCase;
 import message.agendamentosala.application.usecase.reservation.CreateReservationUseCase;
 import message.agendamentosala.application.usecase.reservation.DeleteReservationUseCase;
 import message.agendamentosala.application.usecase.reservation.ReadReservationUseCase;
+import message.agendamentosala.application.usecase.room.FindNextAvailableSlotsUseCase;
 import message.agendamentosala.application.usecase.room.ListAvailableRoomsUseCase;
+import message.agendamentosala.application.usecase.room.RecommendRoomsUseCase;
+import message.agendamentosala.domain.model.AvailableSlot;
+import message.agendamentosala.domain.model.RecurrenceFrequency;
+import message.agendamentosala.domain.model.RecurrenceRule;
+import message.agendamentosala.domain.model.RecurringReservation;
 import message.agendamentosala.domain.model.Reservation;
-import message.agendamentosala.domain.model.Room;
+import message.agendamentosala.domain.model.ReservationBatchResult;
 import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomRecommendation;
 import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.TimeWindow;
 import message.agendamentosala.infrastructure.controller.ReservationController;
+import message.agendamentosala.infrastructure.controller.request.AutoAssignReservationRequest;
+import message.agendamentosala.infrastructure.controller.request.AvailabilityRequest;
+import message.agendamentosala.infrastructure.controller.request.BulkReservationItemRequest;
+import message.agendamentosala.infrastructure.controller.request.BulkReservationRequest;
+import message.agendamentosala.infrastructure.controller.request.RecurringReservationRequest;
 import message.agendamentosala.infrastructure.controller.request.ReservationRequest;
+import message.agendamentosala.infrastructure.controller.request.TimeWindowRequest;
+import message.agendamentosala.infrastructure.controller.response.AvailabilityResponse;
+import message.agendamentosala.infrastructure.controller.response.AvailableSlotResponse;
+import message.agendamentosala.infrastructure.controller.response.BulkReservationItemResponse;
+import message.agendamentosala.infrastructure.controller.response.RecurringReservationResponse;
 import message.agendamentosala.infrastructure.controller.response.ReservationResponse;
+import message.agendamentosala.infrastructure.controller.response.RoomRecommendationResponse;
 import message.agendamentosala.infrastructure.controller.response.RoomResponse;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationView;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomView;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,7 +49,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -52,6 +80,24 @@ class ReservationControllerTest {
     @Mock
     private DeleteReservationUseCase deleteReservationUseCase;
 
+    @Mock
+    private FindNextAvailableSlotsUseCase findNextAvailableSlotsUseCase;
+
+    @Mock
+    private RecommendRoomsUseCase recommendRoomsUseCase;
+
+    @Mock
+    private AutoAssignReservationUseCase autoAssignReservationUseCase;
+
+    @Mock
+    private CreateReservationBatchUseCase createReservationBatchUseCase;
+
+    @Mock
+    private CreateRecurringReservationUseCase createRecurringReservationUseCase;
+
+    @Mock
+    private CancelRecurringReservationUseCase cancelRecurringReservationUseCase;
+
     @InjectMocks
     private ReservationController reservationController;
 
@@ -151,8 +197,9 @@ class ReservationControllerTest {
     @DisplayName("Should return OK status and list of active reservations when retrieval succeeds")
     void shouldReturnOkStatusAndListOfActiveReservationsWhenRetrievalSucceeds() {
 
-        var mockReservation = createMockReservation(RoomStatus.PENDING);
-        List<Reservation> mockList = List.of(mockReservation);
+        var mockReservation = new ReservationView(1L, TEST_EMAIL, ROOM_NAME, 5,
+                START_TIME, END_TIME, RoomStatus.PENDING);
+        List<ReservationView> mockList = List.of(mockReservation);
 
         when(readReservationUseCase.findActiveByEmail(eq(TEST_EMAIL))).thenReturn(mockList);
 
@@ -185,8 +232,8 @@ class ReservationControllerTest {
     @DisplayName("Should return OK status and list of available rooms when retrieval succeeds")
     void shouldReturnOkStatusAndListOfAvailableRoomsWhenRetrievalSucceeds() {
 
-        var mockRoom = new Room(null, RoomName.HULK, RoomStatus.AVAILABLE);
-        List<Room> mockList = List.of(mockRoom);
+        var mockRoom = new RoomView(null, RoomName.HULK, RoomStatus.AVAILABLE);
+        List<RoomView> mockList = List.of(mockRoom);
 
         when(listAvailableRoomsUseCase.execute(eq(START_TIME), eq(END_TIME))).thenReturn(mockList);
 
@@ -212,4 +259,151 @@ class ReservationControllerTest {
         assertTrue(response.getBody().isEmpty());
         verify(listAvailableRoomsUseCase, times(1)).execute(eq(START_TIME), eq(END_TIME));
     }
+
+    @Test
+    @DisplayName("Should return OK status and available rooms per window when several windows are requested")
+    void shouldReturnOkStatusAndAvailableRoomsPerWindowWhenSeveralWindowsAreRequested() {
+
+        var morning = new TimeWindow(START_TIME, END_TIME);
+        var afternoon = new TimeWindow(START_TIME.plusHours(4), END_TIME.plusHours(4));
+        var request = new AvailabilityRequest(List.of(
+                new TimeWindowRequest(morning.startDateTime(), morning.endDateTime()),
+                new TimeWindowRequest(afternoon.startDateTime(), afternoon.endDateTime())
+        ));
+
+        Map<TimeWindow, List<RoomView>> availableByWindow = new LinkedHashMap<>();
+        availableByWindow.put(morning, List.of(new RoomView(1L, RoomName.HULK, RoomStatus.AVAILABLE)));
+        availableByWindow.put(afternoon, List.of());
+
+        when(listAvailableRoomsUseCase.execute(eq(List.of(morning, afternoon)))).thenReturn(availableByWindow);
+
+        ResponseEntity<List<AvailabilityResponse>> response = reservationController.listAvailableRooms(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(2, response.getBody().size());
+        assertEquals(RoomName.HULK, response.getBody().getFirst().rooms().getFirst().name());
+        assertTrue(response.getBody().get(1).rooms().isEmpty());
+        verify(listAvailableRoomsUseCase, times(1)).execute(eq(List.of(morning, afternoon)));
+    }
+
+    // ---------------------- NEXT AVAILABLE (GET /next-available) ----------------------
+
+    @Test
+    @DisplayName("Should return OK status and the next available slots when the search succeeds")
+    void shouldReturnOkStatusAndTheNextAvailableSlotsWhenTheSearchSucceeds() {
+
+        var slot = new AvailableSlot(RoomName.THOR, START_TIME, END_TIME);
+
+        when(findNextAvailableSlotsUseCase.execute(eq(8), eq(60), eq(START_TIME), eq(3))).thenReturn(List.of(slot));
+
+        ResponseEntity<List<AvailableSlotResponse>> response =
+                reservationController.findNextAvailableSlots(8, 60, START_TIME, 3);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().size());
+        assertEquals(RoomName.THOR, response.getBody().getFirst().roomName());
+        assertEquals(RoomName.THOR.getCapacity(), response.getBody().getFirst().capacity());
+        verify(findNextAvailableSlotsUseCase, times(1)).execute(eq(8), eq(60), eq(START_TIME), eq(3));
+    }
+
+    // ---------------------- RECOMMENDATIONS (GET /recommendations) ----------------------
+
+    @Test
+    @DisplayName("Should return OK status and ranked room recommendations")
+    void shouldReturnOkStatusAndRankedRoomRecommendations() {
+
+        when(recommendRoomsUseCase.execute(eq(4), eq(START_TIME), eq(END_TIME))).thenReturn(List.of(
+                new RoomRecommendation(RoomName.HULK, 5, 0),
+                new RoomRecommendation(RoomName.THOR, 10, 15)
+        ));
+
+        ResponseEntity<List<RoomRecommendationResponse>> response = reservationController.recommendRooms(4, START_TIME, END_TIME);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(RoomName.HULK, response.getBody().getFirst().roomName());
+        assertEquals(15, response.getBody().get(1).fragmentedMinutes());
+    }
+
+    // ---------------------- AUTO-ASSIGN (POST /{userEmail}/auto-assign) ----------------------
+
+    @Test
+    @DisplayName("Should return created status when a room is auto-assigned")
+    void shouldReturnCreatedStatusWhenARoomIsAutoAssigned() {
+
+        var mockReservation = createMockReservation(RoomStatus.STAND_BY);
+        var request = new AutoAssignReservationRequest(5, START_TIME, END_TIME);
+
+        when(autoAssignReservationUseCase.execute(eq(TEST_EMAIL), eq(5), eq(START_TIME), eq(END_TIME))).thenReturn(mockReservation);
+
+        ResponseEntity<ReservationResponse> response = reservationController.createWithAutoAssignedRoom(TEST_EMAIL, request);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(ROOM_NAME, response.getBody().roomName());
+        verify(createReservationUseCase, never()).execute(any(), any(), anyInt(), any(), any());
+    }
+
+    // ---------------------- BULK (POST /bulk) ----------------------
+
+    @Test
+    @DisplayName("Should return one result per item with the created reservation or the failure reason")
+    void shouldReturnOneResultPerItemWithTheCreatedReservationOrTheFailureReason() {
+
+        var request = new BulkReservationRequest(List.of(
+                new BulkReservationItemRequest(TEST_EMAIL, ROOM_NAME, 5, START_TIME, END_TIME),
+                new BulkReservationItemRequest("outro@empresa.com", ROOM_NAME, 5, START_TIME, END_TIME)
+        ));
+
+        when(createReservationBatchUseCase.execute(any())).thenReturn(List.of(
+                ReservationBatchResult.success(0, createMockReservation(RoomStatus.STAND_BY)),
+                ReservationBatchResult.failure(1, "Para a seguinte sala: THOR Este horário já está reservado.")
+        ));
+
+        ResponseEntity<List<BulkReservationItemResponse>> response = reservationController.createBulk(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().size());
+        assertTrue(response.getBody().get(0).success());
+        assertEquals(1L, response.getBody().get(0).reservation().id());
+        assertFalse(response.getBody().get(1).success());
+        assertNull(response.getBody().get(1).reservation());
+        assertEquals("Para a seguinte sala: THOR Este horário já está reservado.", response.getBody().get(1).error());
+        verify(createReservationUseCase, never()).execute(any(), any(), anyInt(), any(), any());
+    }
+
+    // ---------------------- RECURRING (POST /{userEmail}/recurring) ----------------------
+
+    @Test
+    @DisplayName("Should return created status with the rule and the occurrences already materialized")
+    void shouldReturnCreatedStatusWithTheRuleAndTheOccurrencesAlreadyMaterialized() {
+
+        var request = new RecurringReservationRequest(ROOM_NAME, 5, RecurrenceFrequency.WEEKLY,
+                START_TIME.toLocalDate(), START_TIME.toLocalDate().plusMonths(6), LocalTime.of(10, 0), LocalTime.of(11, 0));
+        var rule = new RecurrenceRule(4L, TEST_EMAIL, ROOM_NAME, 5, RecurrenceFrequency.WEEKLY,
+                request.startDate(), request.untilDate(), request.startTime(), request.endTime(), request.startDate());
+
+        when(createRecurringReservationUseCase.execute(eq(TEST_EMAIL), eq(ROOM_NAME), eq(5), eq(RecurrenceFrequency.WEEKLY),
+                eq(request.startDate()), eq(request.untilDate()), eq(request.startTime()), eq(request.endTime())))
+                .thenReturn(new RecurringReservation(rule, List.of(createMockReservation(RoomStatus.PENDING))));
+
+        ResponseEntity<RecurringReservationResponse> response = reservationController.createRecurring(TEST_EMAIL, request);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(4L, response.getBody().id());
+        assertEquals(1, response.getBody().reservations().size());
+        assertEquals(RoomStatus.PENDING, response.getBody().reservations().get(0).status());
+    }
+
+    @Test
+    @DisplayName("Should return no content when a recurring reservation is cancelled")
+    void shouldReturnNoContentWhenARecurringReservationIsCancelled() {
+
+        ResponseEntity<Void> response = reservationController.cancelRecurring(4L);
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(cancelRecurringReservationUseCase, times(1)).execute(4L);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.send.agendamentosala.infrastructure;
+
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.infrastructure.config.RabbitMQConfig;
+import message.agendamentosala.infrastructure.gateway.messaging.ReservationEvent;
+import message.agendamentosala.infrastructure.gateway.messaging.ReservationEventMessageConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReservationEventMessageConverterTest {
+
+    private final ReservationEventMessageConverter converter = new ReservationEventMessageConverter();
+
+    private Message legacyMessage(Object payload, String receivedRoutingKey) {
+        MessageProperties properties = new MessageProperties();
+        properties.setReceivedRoutingKey(receivedRoutingKey);
+        return new SimpleMessageConverter().toMessage(payload, properties);
+    }
+
+    // ---------------------- FORMATO BINÁRIO ----------------------
+
+    @Test
+    @DisplayName("Should encode an event in eleven bytes with its own content type")
+    void shouldEncodeAnEventInElevenBytesWithItsOwnContentType() {
+
+        Message message = converter.toMessage(ReservationEvent.standByTimeout(Long.MAX_VALUE), new MessageProperties());
+
+        assertEquals(ReservationEventMessageConverter.SIZE, message.getBody().length);
+        assertEquals(ReservationEventMessageConverter.CONTENT_TYPE, message.getMessageProperties().getContentType());
+        assertTrue(legacyMessage(Long.MAX_VALUE, null).getBody().length > 5 * ReservationEventMessageConverter.SIZE);
+    }
+
+    @Test
+    @DisplayName("Should decode every event type back to the same event")
+    void shouldDecodeEveryEventTypeBackToTheSameEvent() {
+
+        for (ReservationEvent event : new ReservationEvent[]{
+                ReservationEvent.standByTimeout(42L),
+                ReservationEvent.checkIn(7L),
+                new ReservationEvent(ReservationEvent.Type.CHECK_IN, -1L, RoomStatus.CHECKED_IN)}) {
+            assertEquals(event, converter.fromMessage(converter.toMessage(event, new MessageProperties())));
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse to publish anything other than a reservation event")
+    void shouldRefuseToPublishAnythingOtherThanAReservationEvent() {
+
+        assertThrows(MessageConversionException.class, () -> converter.toMessage(42L, new MessageProperties()));
+    }
+
+    @Test
+    @DisplayName("Should reject a message with an unknown format version or event code")
+    void shouldRejectAMessageWithAnUnknownFormatVersionOrEventCode() {
+
+        Message message = converter.toMessage(ReservationEvent.checkIn(7L), new MessageProperties());
+        byte[] body = message.getBody();
+
+        body[1] = 9;
+        assertThrows(MessageConversionException.class, () -> converter.fromMessage(message));
+        body[1] = 1;
+        body[0] = 2;
+        assertThrows(MessageConversionException.class, () -> converter.fromMessage(message));
+    }
+
+    // ---------------------- MENSAGENS ANTIGAS ----------------------
+
+    @Test
+    @DisplayName("Should still read a serialized Long left in the queues, taking the event type from the routing key")
+    void shouldStillReadASerializedLongLeftInTheQueuesTakingTheEventTypeFromTheRoutingKey() {
+
+        assertEquals(ReservationEvent.checkIn(5L),
+                converter.fromMessage(legacyMessage(5L, RabbitMQConfig.CHECK_IN_ROUTING_KEY)));
+        assertEquals(ReservationEvent.standByTimeout(6L),
+                converter.fromMessage(legacyMessage(6L, RabbitMQConfig.STAND_BY_CANCEL_ROUTING_KEY)));
+    }
+
+    @Test
+    @DisplayName("Should not deserialize classes other than Long from old messages")
+    void shouldNotDeserializeClassesOtherThanLongFromOldMessages() {
+
+        Message message = legacyMessage(new ArrayList<>(), RabbitMQConfig.CHECK_IN_ROUTING_KEY);
+
+        assertThrows(SecurityException.class, () -> converter.fromMessage(message));
+    }
+}
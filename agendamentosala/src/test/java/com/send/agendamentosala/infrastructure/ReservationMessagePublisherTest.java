@@ -0,0 +1,153 @@
+package com.send.agendamentosala.infrastructure;
+
+import message.agendamentosala.infrastructure.config.PublisherProperties;
+import message.agendamentosala.infrastructure.gateway.messaging.ReservationMessagePublisher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationMessagePublisherTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    private ReservationMessagePublisher createPublisher(int bufferCapacity, int maxAttempts) {
+        return new ReservationMessagePublisher(rabbitTemplate, new PublisherProperties(bufferCapacity, 100, 1000, maxAttempts, 0));
+    }
+
+    // O broker responde ack/nack na ordem dada; depois da lista, sempre ack.
+    private void brokerAnswers(Boolean... acks) {
+        Deque<Boolean> answers = new ArrayDeque<>(List.of(acks));
+        lenient().when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+        lenient().when(connectionFactory.isPublisherConfirms()).thenReturn(true);
+        lenient().doAnswer(invocation -> invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(rabbitTemplate))
+                .when(rabbitTemplate).invoke(any());
+        lenient().doAnswer(invocation -> {
+            boolean ack = answers.isEmpty() || answers.poll();
+            invocation.<CorrelationData>getArgument(3).getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+    }
+
+    // ---------------------- BUFFER ----------------------
+
+    @Test
+    @DisplayName("Should only buffer the message on the caller thread")
+    void shouldOnlyBufferTheMessageOnTheCallerThread() {
+
+        brokerAnswers();
+        var publisher = createPublisher(10, 3);
+
+        publisher.publish("exchange", "key", 1L);
+
+        assertEquals(1, publisher.getBufferDepth());
+        verify(rabbitTemplate, never()).invoke(any());
+    }
+
+    @Test
+    @DisplayName("Should publish the buffered messages in a single channel invocation with correlated confirms")
+    void shouldPublishTheBufferedMessagesInASingleChannelInvocationWithCorrelatedConfirms() {
+
+        brokerAnswers();
+        var publisher = createPublisher(10, 3);
+        publisher.publish("exchange", "key", 1L);
+        publisher.publish("exchange", "key", 2L);
+        publisher.publish("exchange", "key", 3L);
+
+        assertEquals(3, publisher.drain());
+
+        verify(rabbitTemplate, times(1)).invoke(any());
+        verify(rabbitTemplate, times(3)).convertAndSend(eq("exchange"), eq("key"), any(Object.class), any(CorrelationData.class));
+        assertEquals(0, publisher.getBufferDepth());
+        assertEquals(3, publisher.getConfirmed());
+        assertEquals(0, publisher.getUnconfirmed());
+    }
+
+    @Test
+    @DisplayName("Should publish on the caller thread when the buffer is full instead of losing the message")
+    void shouldPublishOnTheCallerThreadWhenTheBufferIsFullInsteadOfLosingTheMessage() {
+
+        brokerAnswers();
+        var publisher = createPublisher(1, 3);
+
+        publisher.publish("exchange", "key", 1L);
+        publisher.publish("exchange", "key", 2L);
+
+        verify(rabbitTemplate, times(1)).convertAndSend(eq("exchange"), eq("key"), eq(2L), any(CorrelationData.class));
+        assertEquals(1, publisher.getPublishedSynchronously());
+        assertEquals(1, publisher.getBufferDepth());
+    }
+
+    // ---------------------- CONFIRMAÇÕES ----------------------
+
+    @Test
+    @DisplayName("Should republish a nacked message until the broker acks it")
+    void shouldRepublishANackedMessageUntilTheBrokerAcksIt() {
+
+        brokerAnswers(true, false);
+        var publisher = createPublisher(10, 3);
+        publisher.publish("exchange", "key", 1L);
+        publisher.publish("exchange", "key", 2L);
+
+        publisher.drain();
+
+        verify(rabbitTemplate, times(1)).convertAndSend(eq("exchange"), eq("key"), eq(1L), any(CorrelationData.class));
+        verify(rabbitTemplate, times(2)).convertAndSend(eq("exchange"), eq("key"), eq(2L), any(CorrelationData.class));
+        assertEquals(3, publisher.getPublished());
+        assertEquals(2, publisher.getConfirmed());
+        assertEquals(1, publisher.getRetried());
+        assertEquals(0, publisher.getDropped());
+    }
+
+    @Test
+    @DisplayName("Should drop a message after the maximum number of unconfirmed attempts")
+    void shouldDropAMessageAfterTheMaximumNumberOfUnconfirmedAttempts() {
+
+        brokerAnswers(false, false, false);
+        var publisher = createPublisher(10, 3);
+        publisher.publish("exchange", "key", 1L);
+
+        publisher.drain();
+
+        verify(rabbitTemplate, times(3)).convertAndSend(eq("exchange"), eq("key"), eq(1L), any(CorrelationData.class));
+        assertEquals(3, publisher.getUnconfirmed());
+        assertEquals(1, publisher.getDropped());
+        assertEquals(0, publisher.getConfirmed());
+    }
+
+    @Test
+    @DisplayName("Should publish from its own thread once started and flush the buffer on stop")
+    void shouldPublishFromItsOwnThreadOnceStartedAndFlushTheBufferOnStop() throws InterruptedException {
+
+        brokerAnswers();
+        var publisher = createPublisher(10, 3);
+        publisher.start();
+
+        publisher.publish("exchange", "key", 1L);
+        publisher.stop();
+
+        assertEquals(1, publisher.getConfirmed());
+        assertEquals(0, publisher.getBufferDepth());
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class));
+    }
+}
@@ -0,0 +1,211 @@
+package com.send.agendamentosala.infrastructure;
+
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.StatusTransition;
+import message.agendamentosala.domain.model.TimeWindow;
+import message.agendamentosala.infrastructure.entity.ReservationEntity;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationConflictIndex;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationRepository;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationSlotRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationPersistenceGatewayTest {
+
+    @Mock
+    private ReservationRepository repository;
+
+    @Mock
+    private ReservationConflictIndex conflictIndex;
+
+    @Mock
+    private ReservationSlotRepository slotRepository;
+
+    @InjectMocks
+    private ReservationPersistenceGateway reservationGateway;
+
+    private final LocalDateTime DAY = LocalDateTime.of(2026, 1, 12, 0, 0);
+
+    private ReservationEntity createEntity(Long id, LocalDateTime start, LocalDateTime end) {
+        return ReservationEntity.builder()
+                .id(id)
+                .userEmail("user" + id + "@example.com")
+                .roomName(RoomName.THOR)
+                .requiredPeople(2)
+                .startDateTime(start)
+                .endDateTime(end)
+                .status(RoomStatus.PENDING)
+                .build();
+    }
+
+    // ---------------------- CONFLITOS SEM O ÍNDICE ----------------------
+
+    @Test
+    @DisplayName("Should resolve many windows of a room with a single query when the index is not loaded")
+    void shouldResolveManyWindowsOfARoomWithASingleQueryWhenTheIndexIsNotLoaded() {
+
+        when(conflictIndex.isLoaded()).thenReturn(false);
+        when(repository.findConflictingReservations(eq(RoomName.THOR), any(), any(), any())).thenReturn(List.of(
+                createEntity(2L, DAY.plusDays(7).withHour(9).withMinute(30), DAY.plusDays(7).withHour(11)),
+                createEntity(1L, DAY.withHour(8), DAY.plusDays(1).withHour(18))
+        ));
+
+        var conflicts = reservationGateway.findConflicts(RoomName.THOR, List.of(
+                new TimeWindow(DAY.withHour(9), DAY.withHour(10)),
+                new TimeWindow(DAY.plusDays(1).withHour(9), DAY.plusDays(1).withHour(10)),
+                new TimeWindow(DAY.plusDays(2).withHour(9), DAY.plusDays(2).withHour(10)),
+                new TimeWindow(DAY.plusDays(7).withHour(9), DAY.plusDays(7).withHour(10)),
+                new TimeWindow(DAY.plusDays(7).withHour(11), DAY.plusDays(7).withHour(12))
+        ));
+
+        assertEquals(List.of(true, true, false, true, false), conflicts);
+        verify(repository, times(1)).findConflictingReservations(eq(RoomName.THOR), any(), any(), any());
+        verify(conflictIndex, never()).findConflicts(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should delegate to the in-memory index when it is loaded")
+    void shouldDelegateToTheInMemoryIndexWhenItIsLoaded() {
+
+        var windows = List.of(new TimeWindow(DAY.withHour(9), DAY.withHour(10)));
+        when(conflictIndex.isLoaded()).thenReturn(true);
+        when(conflictIndex.findConflicts(RoomName.THOR, windows)).thenReturn(List.of(true));
+
+        assertEquals(List.of(true), reservationGateway.findConflicts(RoomName.THOR, windows));
+        verifyNoInteractions(repository);
+    }
+
+    // ---------------------- CONSULTAS DE EXISTÊNCIA ----------------------
+
+    @Test
+    @DisplayName("Should check conflicts with an existence query instead of loading the reservations")
+    void shouldCheckConflictsWithAnExistenceQueryInsteadOfLoadingTheReservations() {
+
+        var start = DAY.withHour(9);
+        var end = DAY.withHour(10);
+        when(conflictIndex.isLoaded()).thenReturn(false);
+        when(repository.findActiveConflictIds(RoomName.THOR, start, end, Limit.of(1))).thenReturn(List.of(42L));
+
+        assertTrue(reservationGateway.hasConflict(RoomName.THOR, start, end));
+        verify(repository, never()).findConflictingReservations(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should check active reservations of a user with an existence query")
+    void shouldCheckActiveReservationsOfAUserWithAnExistenceQuery() {
+
+        when(repository.findActiveReservationIds("user@example.com", Limit.of(1))).thenReturn(List.of());
+
+        assertFalse(reservationGateway.hasActiveReservation("user@example.com"));
+        verify(repository, never()).findByUserEmailAndStatusInOrderByStartDateTimeAsc(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep the literal status list of the existence queries equal to the active statuses")
+    void shouldKeepTheLiteralStatusListOfTheExistenceQueriesEqualToTheActiveStatuses() {
+
+        for (RoomStatus status : RoomStatus.values()) {
+            assertEquals(status.isActive(),
+                    ReservationRepository.ACTIVE_STATUSES_JPQL.contains("RoomStatus." + status.name()),
+                    "Status fora de sincronia: " + status);
+        }
+    }
+
+
+    // ---------------------- RECONSTITUIÇÃO ----------------------
+
+    @Test
+    @DisplayName("Should load stored reservations from past days without applying the creation rules again")
+    void shouldLoadStoredReservationsFromPastDaysWithoutApplyingTheCreationRulesAgain() {
+
+        LocalDateTime yesterday = LocalDateTime.now().minusDays(1).toLocalDate().atTime(9, 0);
+        var entity = createEntity(9L, yesterday, yesterday.plusHours(1));
+        entity.setStatus(RoomStatus.CHECKED_IN);
+        when(repository.findById(9L)).thenReturn(Optional.of(entity));
+
+        var reservation = reservationGateway.findById(9L).orElseThrow();
+
+        assertEquals(yesterday, reservation.startDateTime());
+        assertEquals(RoomStatus.CHECKED_IN, reservation.status());
+    }
+
+    // ---------------------- TRANSIÇÕES CONDICIONAIS ----------------------
+
+    @Test
+    @DisplayName("Should apply a transition with a single conditional update from its source status")
+    void shouldApplyATransitionWithASingleConditionalUpdateFromItsSourceStatus() {
+
+        when(repository.compareAndSetStatus(7L, RoomStatus.STAND_BY, RoomStatus.PENDING)).thenReturn(1);
+
+        assertTrue(reservationGateway.transition(7L, StatusTransition.CONFIRM));
+        verify(repository, never()).findById(any());
+        verify(repository, never()).save(any());
+        verifyNoInteractions(conflictIndex, slotRepository);
+    }
+
+    @Test
+    @DisplayName("Should report a lost transition and leave the index untouched")
+    void shouldReportALostTransitionAndLeaveTheIndexUntouched() {
+
+        when(repository.compareAndSetStatus(7L, RoomStatus.STAND_BY, RoomStatus.AVAILABLE)).thenReturn(0);
+
+        assertFalse(reservationGateway.transition(7L, StatusTransition.EXPIRE));
+        verifyNoInteractions(conflictIndex, slotRepository);
+    }
+
+    @Test
+    @DisplayName("Should evict a reservation from the index and release its slots when a transition makes it inactive")
+    void shouldEvictAReservationFromTheIndexAndReleaseItsSlotsWhenATransitionMakesItInactive() {
+
+        when(repository.compareAndSetStatus(7L, RoomStatus.STAND_BY, RoomStatus.AVAILABLE)).thenReturn(1);
+
+        assertTrue(reservationGateway.transition(7L, StatusTransition.EXPIRE));
+        verify(conflictIndex).remove(7L);
+        verify(slotRepository).deleteByReservationIdIn(List.of(7L));
+    }
+
+    @Test
+    @DisplayName("Should evict from the index only the reservations the batch update moved to AVAILABLE")
+    void shouldEvictFromTheIndexOnlyTheReservationsTheBatchUpdateMovedToAvailable() {
+
+        var ids = List.of(1L, 2L, 3L);
+        when(repository.compareAndSetStatusIn(ids, RoomStatus.STAND_BY, RoomStatus.AVAILABLE)).thenReturn(2);
+        when(repository.findIdsByIdInAndStatus(ids, RoomStatus.AVAILABLE)).thenReturn(List.of(1L, 3L));
+
+        assertEquals(2, reservationGateway.transition(ids, StatusTransition.EXPIRE));
+        verify(conflictIndex).remove(1L);
+        verify(conflictIndex).remove(3L);
+        verify(conflictIndex, never()).remove(2L);
+        verify(slotRepository).deleteByReservationIdIn(List.of(1L, 3L));
+        verify(repository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should leave the index untouched when no reservation of the batch was still in STAND_BY")
+    void shouldLeaveTheIndexUntouchedWhenNoReservationOfTheBatchWasStillInStandBy() {
+
+        when(repository.compareAndSetStatusIn(List.of(1L), RoomStatus.STAND_BY, RoomStatus.AVAILABLE)).thenReturn(0);
+
+        assertEquals(0, reservationGateway.transition(List.of(1L), StatusTransition.EXPIRE));
+        assertEquals(0, reservationGateway.transition(List.of(), StatusTransition.EXPIRE));
+        verify(repository, times(1)).compareAndSetStatusIn(any(), any(), any());
+        verifyNoInteractions(conflictIndex, slotRepository);
+    }
+}
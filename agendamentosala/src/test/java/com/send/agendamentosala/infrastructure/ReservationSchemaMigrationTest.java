@@ -0,0 +1,182 @@
+package com.send.agendamentosala.infrastructure;
+
+import jakarta.persistence.SequenceGenerator;
+import message.agendamentosala.infrastructure.entity.RecurrenceRuleEntity;
+import message.agendamentosala.infrastructure.entity.ReservationEntity;
+import message.agendamentosala.infrastructure.entity.ReservationSlotEntity;
+import message.agendamentosala.infrastructure.entity.RoomEntity;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Aplica as migrações em um H2 com histórico de reservas e confere, pelo EXPLAIN, que as consultas
+// mais frequentes usam os índices compostos em vez de percorrer a tabela.
+class ReservationSchemaMigrationTest {
+
+    private static final String URL = "jdbc:h2:mem:schema_plan_test;DB_CLOSE_DELAY=-1";
+    private static final String[] ROOMS = {"HULK", "THOR", "LOKI", "DR_STRANGE", "CAP_MARVEL"};
+    private static final int HISTORY_ROWS = 20_000;
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrateAndLoadHistory() throws SQLException {
+        Flyway.configure().dataSource(URL, "sa", "").locations("classpath:db/migration").load().migrate();
+        connection = DriverManager.getConnection(URL, "sa", "");
+
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 8, 0);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO reservation (user_email, room_name, required_people, start_date_time, end_date_time, status) " +
+                        "VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < HISTORY_ROWS; i++) {
+                LocalDateTime start = base.plusDays(i / 20).plusMinutes(30L * (i % 20));
+                insert.setString(1, "user" + (i % 500) + "@example.com");
+                insert.setString(2, ROOMS[i % ROOMS.length]);
+                insert.setInt(3, 2);
+                insert.setTimestamp(4, Timestamp.valueOf(start));
+                insert.setTimestamp(5, Timestamp.valueOf(start.plusMinutes(30)));
+                insert.setString(6, i % 100 == 0 ? "PENDING" : "AVAILABLE");
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    private String explain(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet plan = statement.executeQuery("EXPLAIN " + sql)) {
+            plan.next();
+            return plan.getString(1).toUpperCase();
+        }
+    }
+
+    @Test
+    @DisplayName("Should create every table mapped by the entities")
+    void shouldCreateEveryTableMappedByTheEntities() throws SQLException {
+        for (String table : new String[]{"APP_USER", "ROOM", "RESERVATION", "RECURRENCE_RULE", "RESERVATION_SLOT"}) {
+            try (ResultSet tables = connection.getMetaData().getTables(null, "PUBLIC", table, null)) {
+                assertTrue(tables.next(), "Tabela ausente: " + table);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should resolve the room conflict check through the room, status and start index")
+    void shouldResolveTheRoomConflictCheckThroughTheRoomStatusAndStartIndex() throws SQLException {
+        String plan = explain("SELECT r.id FROM reservation r WHERE r.room_name = 'THOR' " +
+                "AND r.status IN ('STAND_BY', 'PENDING', 'CHECKED_IN') " +
+                "AND r.start_date_time < TIMESTAMP '2025-03-10 11:00:00' AND r.end_date_time > TIMESTAMP '2025-03-10 10:00:00'");
+
+        assertTrue(plan.contains("IDX_RESERVATION_ROOM_STATUS_START"), plan);
+    }
+
+    @Test
+    @DisplayName("Should resolve the active reservations of a user through the user and status index")
+    void shouldResolveTheActiveReservationsOfAUserThroughTheUserAndStatusIndex() throws SQLException {
+        String plan = explain("SELECT r.id FROM reservation r WHERE r.user_email = 'user7@example.com' " +
+                "AND r.status IN ('STAND_BY', 'PENDING', 'CHECKED_IN') ORDER BY r.start_date_time");
+
+        assertTrue(plan.contains("IDX_RESERVATION_USER_STATUS"), plan);
+    }
+
+    @Test
+    @DisplayName("Should check the standalone active reservation of a user through the user and status index")
+    void shouldCheckTheStandaloneActiveReservationOfAUserThroughTheUserAndStatusIndex() throws SQLException {
+        String plan = explain("SELECT r.id FROM reservation r WHERE r.user_email = 'user7@example.com' " +
+                "AND r.status IN ('STAND_BY', 'PENDING', 'CHECKED_IN') AND r.recurrence_rule_id IS NULL");
+
+        assertTrue(plan.contains("IDX_RESERVATION_USER_STATUS"), plan);
+    }
+
+    @Test
+    @DisplayName("Should load the active reservations through the status index")
+    void shouldLoadTheActiveReservationsThroughTheStatusIndex() throws SQLException {
+        String plan = explain("SELECT r.id FROM reservation r WHERE r.status IN ('STAND_BY', 'PENDING', 'CHECKED_IN')");
+
+        assertTrue(plan.contains("IDX_RESERVATION_STATUS_START"), plan);
+    }
+
+    @Test
+    @DisplayName("Should look rooms up by name through the unique index")
+    void shouldLookRoomsUpByNameThroughTheUniqueIndex() throws SQLException {
+        String plan = explain("SELECT r.id FROM room r WHERE r.name = 'LOKI'");
+
+        assertTrue(plan.contains("UK_ROOM_NAME"), plan);
+    }
+
+    @Test
+    @DisplayName("Should look users up by e-mail through the primary key")
+    void shouldLookUsersUpByEmailThroughThePrimaryKey() throws SQLException {
+        String plan = explain("SELECT u.full_name FROM app_user u WHERE u.email = 'user7@example.com'");
+
+        assertTrue(plan.contains("PRIMARY_KEY"), plan);
+    }
+
+
+    @Test
+    @DisplayName("Should generate ids from sequences whose increment matches the allocation size of the entities")
+    void shouldGenerateIdsFromSequencesWhoseIncrementMatchesTheAllocationSizeOfTheEntities() throws SQLException {
+        Map<String, Class<?>> sequences = Map.of(
+                "RESERVATION_SEQ", ReservationEntity.class,
+                "ROOM_SEQ", RoomEntity.class,
+                "RECURRENCE_RULE_SEQ", RecurrenceRuleEntity.class,
+                "RESERVATION_SLOT_SEQ", ReservationSlotEntity.class
+        );
+
+        for (var sequence : sequences.entrySet()) {
+            SequenceGenerator generator = Arrays.stream(sequence.getValue().getDeclaredFields())
+                    .map(field -> field.getAnnotation(SequenceGenerator.class))
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .orElseThrow();
+
+            try (PreparedStatement query = connection.prepareStatement(
+                    "SELECT increment FROM information_schema.sequences WHERE sequence_name = ?")) {
+                query.setString(1, sequence.getKey());
+                try (ResultSet result = query.executeQuery()) {
+                    assertTrue(result.next(), "Sequência ausente: " + sequence.getKey());
+                    assertEquals(generator.allocationSize(), result.getLong(1), sequence.getKey());
+                    assertEquals(sequence.getKey(), generator.sequenceName().toUpperCase());
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep filling the id of rows inserted directly in the database")
+    void shouldKeepFillingTheIdOfRowsInsertedDirectlyInTheDatabase() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COUNT(*), COUNT(DISTINCT id) FROM reservation")) {
+            result.next();
+            assertEquals(HISTORY_ROWS, result.getInt(1));
+            assertEquals(HISTORY_ROWS, result.getInt(2));
+        }
+    }
+}
\ No newline at end of file
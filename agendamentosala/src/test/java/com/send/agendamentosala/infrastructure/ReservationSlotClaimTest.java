@@ -0,0 +1,283 @@
+package com.send.agendamentosala.infrastructure;
+
+import message.agendamentosala.AgendamentosalaApplication;
+import message.agendamentosala.application.usecase.reservation.CreateReservationBatchUseCase;
+import message.agendamentosala.domain.exception.ValidationException;
+import message.agendamentosala.domain.model.Reservation;
+import message.agendamentosala.domain.model.ReservationBatchItem;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.domain.model.StatusTransition;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Grava reservas direto pelo gateway, sem passar pelas travas de admissão, como fariam várias instâncias
+// da aplicação ao mesmo tempo: quem impede a sobreposição é só a chave única de reservation_slot no H2.
+//
+// A medição com muitas escritas só roda quando slots.writes é informado:
+// mvn test -Dtest=ReservationSlotClaimTest -Dslots.writes=1000 -Dslots.writers=16
+@SpringBootTest(classes = AgendamentosalaApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:slot_claim_test;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "spring.rabbitmq.listener.simple.auto-startup=false",
+                "spring.h2.console.enabled=false",
+                "logging.level.root=WARN"
+        })
+class ReservationSlotClaimTest {
+
+    private static final String ACTIVE_STATUSES = "('STAND_BY', 'PENDING', 'CHECKED_IN')";
+    private static final int WRITES = Integer.getInteger("slots.writes", 1_000);
+    private static final int WRITERS = Integer.getInteger("slots.writers", 16);
+    private static final int RACERS = 6;
+
+    @Autowired
+    private ReservationPersistenceGateway reservationGateway;
+
+    @Autowired
+    private CreateReservationBatchUseCase createReservationBatchUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Reservation reservation(String userEmail, RoomName roomName, LocalDateTime start, LocalDateTime end) {
+        return Reservation.create(userEmail, roomName, 2, start, end, RoomStatus.STAND_BY);
+    }
+
+    private int slotsOf(Long reservationId) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM reservation_slot WHERE reservation_id = ?", Integer.class,
+                reservationId);
+    }
+
+    // ---------------------- ESCRITAS CONCORRENTES ----------------------
+
+    @Test
+    @DisplayName("Should let exactly one of several writers racing for the same slot through")
+    void shouldLetExactlyOneOfSeveralWritersRacingForTheSameSlotThrough() throws Exception {
+
+        LocalDateTime three = LocalDate.now().plusDays(12).atTime(15, 0);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>(RACERS);
+        try (ExecutorService writers = Executors.newFixedThreadPool(RACERS)) {
+            for (int i = 0; i < RACERS; i++) {
+                Reservation reservation = reservation("racer" + i + "@example.com", RoomName.DR_STRANGE,
+                        three, three.plusMinutes(30));
+                results.add(writers.submit(() -> {
+                    start.await();
+                    try {
+                        reservationGateway.save(reservation);
+                        return true;
+                    } catch (ValidationException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int accepted = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(30, TimeUnit.SECONDS)) {
+                    accepted++;
+                }
+            }
+            assertEquals(1, accepted);
+        }
+
+        assertEquals(1, jdbc.queryForObject("SELECT COUNT(*) FROM reservation WHERE room_name = 'DR_STRANGE' " +
+                "AND start_date_time = ?", Integer.class, three));
+        assertEquals(6, jdbc.queryForObject("SELECT COUNT(*) FROM reservation_slot WHERE room_name = 'DR_STRANGE' " +
+                "AND slot_date = ?", Integer.class, three.toLocalDate()));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "slots.writes", matches = "\\d+")
+    @DisplayName("Should let only non-overlapping reservations through when several writers race for the same room")
+    void shouldLetOnlyNonOverlappingReservationsThroughWhenSeveralWritersRaceForTheSameRoom() throws Exception {
+
+        // Disputa: reservas de 1 h que começam a cada 30 min, todas na mesma sala e no mesmo dia.
+        LocalDateTime contendedDay = LocalDate.now().plusDays(30).atTime(8, 0);
+        Random random = new Random(7);
+        int[] offsets = random.ints(WRITES, 0, 18).toArray();
+        Outcome contended = writeConcurrently(i -> reservation("race" + i + "@example.com", RoomName.THOR,
+                contendedDay.plusMinutes(30L * offsets[i]), contendedDay.plusMinutes(30L * offsets[i] + 60)));
+
+        // Sem disputa: cada reserva tem o seu dia, então nenhuma fatia se repete.
+        LocalDateTime firstFreeDay = LocalDate.now().plusDays(60).atTime(9, 0);
+        Outcome uncontended = writeConcurrently(i -> reservation("free" + i + "@example.com", RoomName.LOKI,
+                firstFreeDay.plusDays(i), firstFreeDay.plusDays(i).plusHours(1)));
+
+        System.out.printf("Fatias: %d escritas concorrentes na mesma sala em %.1f ms (%d aceitas, %d recusadas); " +
+                        "%d sem disputa em %.1f ms%n",
+                WRITES, contended.elapsedNanos() / 1e6, contended.accepted(), contended.rejected(),
+                WRITES, uncontended.elapsedNanos() / 1e6);
+
+        assertEquals(WRITES, contended.accepted() + contended.rejected());
+        assertTrue(contended.accepted() >= 1 && contended.accepted() <= 10, "aceitas: " + contended.accepted());
+        assertEquals(WRITES, uncontended.accepted());
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM reservation a JOIN reservation b " +
+                "ON a.id < b.id AND a.room_name = b.room_name " +
+                "AND a.start_date_time < b.end_date_time AND b.start_date_time < a.end_date_time " +
+                "WHERE a.status IN " + ACTIVE_STATUSES + " AND b.status IN " + ACTIVE_STATUSES, Integer.class));
+        // As recusadas não deixam nem a reserva nem fatias para trás.
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM reservation r WHERE r.room_name = 'THOR' " +
+                "AND NOT EXISTS (SELECT 1 FROM reservation_slot s WHERE s.reservation_id = r.id)", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Should accept back-to-back reservations that only touch at the boundary")
+    void shouldAcceptBackToBackReservationsThatOnlyTouchAtTheBoundary() {
+
+        LocalDateTime nine = LocalDate.now().plusDays(5).atTime(9, 0);
+
+        var first = reservationGateway.save(reservation("first@example.com", RoomName.HULK, nine, nine.plusHours(1)));
+        var second = reservationGateway.save(reservation("second@example.com", RoomName.HULK,
+                nine.plusHours(1), nine.plusHours(2)));
+
+        assertEquals(12, slotsOf(first.id()));
+        assertEquals(12, slotsOf(second.id()));
+        assertThrows(ValidationException.class, () -> reservationGateway.save(reservation("third@example.com",
+                RoomName.HULK, nine.plusMinutes(55), nine.plusMinutes(90))));
+    }
+
+    @Test
+    @DisplayName("Should accept back-to-back reservations that meet off the hour and refuse times off the 5-minute grid")
+    void shouldAcceptBackToBackReservationsThatMeetOffTheHourAndRefuseTimesOffTheFiveMinuteGrid() {
+
+        LocalDateTime nine = LocalDate.now().plusDays(9).atTime(9, 0);
+
+        var first = reservationGateway.save(reservation("early@example.com", RoomName.LOKI, nine, nine.plusMinutes(35)));
+        var second = reservationGateway.save(reservation("later@example.com", RoomName.LOKI,
+                nine.plusMinutes(35), nine.plusMinutes(65)));
+
+        assertEquals(7, slotsOf(first.id()));
+        assertEquals(6, slotsOf(second.id()));
+        // 09:00–09:32 e 09:32–10:05 dividiriam a fatia das 09:30: são recusadas antes de chegar ao banco.
+        assertThrows(ValidationException.class, () -> reservation("off@example.com", RoomName.THOR,
+                nine, nine.plusMinutes(32)));
+        assertThrows(ValidationException.class, () -> reservation("off@example.com", RoomName.THOR,
+                nine.plusMinutes(32), nine.plusMinutes(65)));
+    }
+
+    @Test
+    @DisplayName("Should refuse only the bulk items whose slots another instance claimed and keep the rest")
+    void shouldRefuseOnlyTheBulkItemsWhoseSlotsAnotherInstanceClaimedAndKeepTheRest() {
+
+        LocalDateTime ten = LocalDate.now().plusDays(11).atTime(10, 0);
+        for (RoomName room : List.of(RoomName.HULK, RoomName.CAP_MARVEL)) {
+            jdbc.update("MERGE INTO room (name, status) KEY (name) VALUES (?, 'AVAILABLE')", room.name());
+        }
+        for (String email : List.of("bulk1@example.com", "bulk2@example.com")) {
+            jdbc.update("MERGE INTO app_user (email, full_name) KEY (email) VALUES (?, ?)", email, email);
+        }
+        // Outra instância grava 10:00–11:00 na CAP_MARVEL direto no banco: o índice em memória desta não a vê.
+        jdbc.update("INSERT INTO reservation (user_email, room_name, required_people, start_date_time, end_date_time, status) " +
+                "VALUES ('other@example.com', 'CAP_MARVEL', 2, ?, ?, 'PENDING')", ten, ten.plusHours(1));
+        Long otherId = jdbc.queryForObject("SELECT MAX(id) FROM reservation WHERE user_email = 'other@example.com'", Long.class);
+        for (int slot = 120; slot < 132; slot++) {
+            jdbc.update("INSERT INTO reservation_slot (room_name, slot_date, slot_index, reservation_id) " +
+                    "VALUES ('CAP_MARVEL', ?, ?, ?)", ten.toLocalDate(), slot, otherId);
+        }
+
+        var results = createReservationBatchUseCase.execute(List.of(
+                new ReservationBatchItem("bulk1@example.com", RoomName.HULK, 2, ten, ten.plusHours(1)),
+                new ReservationBatchItem("bulk2@example.com", RoomName.CAP_MARVEL, 2, ten.plusMinutes(30), ten.plusMinutes(90))));
+
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(12, slotsOf(results.get(0).reservation().id()));
+        assertEquals("Para a seguinte sala: CAP_MARVEL Este horário já está reservado.", results.get(1).error());
+        assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM reservation WHERE user_email = 'bulk2@example.com'",
+                Integer.class));
+    }
+
+    // ---------------------- LIBERAÇÃO ----------------------
+
+    @Test
+    @DisplayName("Should release the slots when a STAND_BY reservation expires")
+    void shouldReleaseTheSlotsWhenAStandByReservationExpires() {
+
+        LocalDateTime ten = LocalDate.now().plusDays(6).atTime(10, 0);
+        var expired = reservationGateway.save(reservation("late@example.com", RoomName.CAP_MARVEL, ten, ten.plusMinutes(30)));
+
+        assertTrue(reservationGateway.transition(expired.id(), StatusTransition.EXPIRE));
+
+        assertEquals(0, slotsOf(expired.id()));
+        var replacement = reservationGateway.save(reservation("next@example.com", RoomName.CAP_MARVEL, ten, ten.plusMinutes(30)));
+        assertEquals(6, slotsOf(replacement.id()));
+    }
+
+    @Test
+    @DisplayName("Should release the slots of a batch only for the reservations that actually expired")
+    void shouldReleaseTheSlotsOfABatchOnlyForTheReservationsThatActuallyExpired() {
+
+        LocalDateTime eleven = LocalDate.now().plusDays(7).atTime(11, 0);
+        var saved = reservationGateway.saveAll(List.of(
+                reservation("a@example.com", RoomName.DR_STRANGE, eleven, eleven.plusMinutes(30)),
+                reservation("b@example.com", RoomName.DR_STRANGE, eleven.plusHours(1), eleven.plusHours(2))));
+        assertTrue(reservationGateway.transition(saved.get(1).id(), StatusTransition.CONFIRM));
+
+        assertEquals(1, reservationGateway.transition(List.of(saved.get(0).id(), saved.get(1).id()), StatusTransition.EXPIRE));
+
+        assertEquals(0, slotsOf(saved.get(0).id()));
+        assertEquals(12, slotsOf(saved.get(1).id()));
+    }
+
+    @Test
+    @DisplayName("Should release the slots when a reservation is deleted")
+    void shouldReleaseTheSlotsWhenAReservationIsDeleted() {
+
+        LocalDateTime two = LocalDate.now().plusDays(8).atTime(14, 0);
+        var deleted = reservationGateway.save(reservation("gone@example.com", RoomName.THOR, two, two.plusHours(1)));
+
+        reservationGateway.deleteById(deleted.id());
+
+        assertEquals(0, slotsOf(deleted.id()));
+        assertNotNull(reservationGateway.save(reservation("again@example.com", RoomName.THOR, two, two.plusHours(1))).id());
+    }
+
+    private record Outcome(int accepted, int rejected, long elapsedNanos) {
+    }
+
+    private Outcome writeConcurrently(IntFunction<Reservation> reservations) throws Exception {
+        List<Future<Boolean>> results = new ArrayList<>(WRITES);
+        long startedAt = System.nanoTime();
+        try (ExecutorService writers = Executors.newFixedThreadPool(WRITERS)) {
+            for (int i = 0; i < WRITES; i++) {
+                Reservation reservation = reservations.apply(i);
+                results.add(writers.submit(() -> {
+                    try {
+                        reservationGateway.save(reservation);
+                        return true;
+                    } catch (ValidationException e) {
+                        return false;
+                    }
+                }));
+            }
+            int accepted = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(60, TimeUnit.SECONDS)) {
+                    accepted++;
+                }
+            }
+            return new Outcome(accepted, WRITES - accepted, System.nanoTime() - startedAt);
+        }
+    }
+}
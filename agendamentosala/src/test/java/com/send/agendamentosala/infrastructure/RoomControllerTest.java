@@ -10,6 +10,7 @@ import message.agendamentosala.domain.model.RoomName;
 import message.agendamentosala.domain.model.RoomStatus;
 import message.agendamentosala.infrastructure.controller.RoomController;
 import message.agendamentosala.infrastructure.controller.response.RoomResponse;
+import message.agendamentosala.infrastructure.gateway.persistence.room.RoomView;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -87,9 +88,9 @@ class RoomControllerTest {
     @DisplayName("Should return OK status and list of room responses when find all succeeds")
     void shouldReturnOkStatusAndListOfRoomResponsesWhenFindAllSucceeds() {
 
-        var room1 = createMockRoom(ROOM_NAME, RoomStatus.AVAILABLE);
-        var room2 = createMockRoom(NEW_ROOM_NAME, RoomStatus.AVAILABLE);
-        List<Room> mockList = List.of(room1, room2);
+        var room1 = new RoomView(ROOM_ID, ROOM_NAME, RoomStatus.AVAILABLE);
+        var room2 = new RoomView(ROOM_ID, NEW_ROOM_NAME, RoomStatus.AVAILABLE);
+        List<RoomView> mockList = List.of(room1, room2);
 
         when(readRoomUseCase.findAll()).thenReturn(mockList);
 
@@ -0,0 +1,59 @@
+package com.send.agendamentosala.infrastructure;
+
+import message.agendamentosala.application.usecase.reservation.ProcessStandByCancellationUseCase;
+import message.agendamentosala.infrastructure.consumer.StandByCancellationConsumer;
+import message.agendamentosala.infrastructure.gateway.messaging.ReservationEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StandByCancellationConsumerTest {
+
+    @Mock
+    private ProcessStandByCancellationUseCase cancellationUseCase;
+
+    @InjectMocks
+    private StandByCancellationConsumer consumer;
+
+    private List<ReservationEvent> events(long... ids) {
+        return Arrays.stream(ids).mapToObj(ReservationEvent::standByTimeout).toList();
+    }
+
+    // ---------------------- CENÁRIO DE SUCESSO ----------------------
+
+    @Test
+    @DisplayName("Should cancel the whole delivery with a single call")
+    void shouldCancelTheWholeDeliveryWithASingleCall() {
+
+        consumer.receiveCancellationMessages(events(1L, 2L, 3L));
+
+        verify(cancellationUseCase, times(1)).execute(List.of(1L, 2L, 3L));
+        verifyNoMoreInteractions(cancellationUseCase);
+    }
+
+    // ---------------------- CENÁRIOS DE FALHA ----------------------
+
+    @Test
+    @DisplayName("Should retry each ID alone when the batch fails and still expire the ones that succeed")
+    void shouldRetryEachIdAloneWhenTheBatchFailsAndStillExpireTheOnesThatSucceed() {
+
+        lenient().doThrow(new IllegalStateException("lote")).when(cancellationUseCase).execute(List.of(1L, 2L, 3L));
+        lenient().doThrow(new IllegalStateException("ID 2")).when(cancellationUseCase).execute(List.of(2L));
+
+        assertDoesNotThrow(() -> consumer.receiveCancellationMessages(events(1L, 2L, 3L)));
+
+        verify(cancellationUseCase, times(1)).execute(List.of(1L));
+        verify(cancellationUseCase, times(1)).execute(List.of(2L));
+        verify(cancellationUseCase, times(1)).execute(List.of(3L));
+    }
+}
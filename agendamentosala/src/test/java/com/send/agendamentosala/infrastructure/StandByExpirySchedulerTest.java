@@ -0,0 +1,94 @@
+package com.send.agendamentosala.infrastructure;
+
+import message.agendamentosala.application.usecase.reservation.ProcessStandByCancellationUseCase;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.infrastructure.config.RabbitMQConfig;
+import message.agendamentosala.infrastructure.config.StandByProperties;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import message.agendamentosala.infrastructure.scheduler.StandByExpiryScheduler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StandByExpirySchedulerTest {
+
+    @Mock
+    private ReservationPersistenceGateway reservationGateway;
+
+    @Mock
+    private ProcessStandByCancellationUseCase cancellationUseCase;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    private StandByExpiryScheduler createScheduler() {
+        return new StandByExpiryScheduler(reservationGateway, cancellationUseCase,
+                new StandByProperties("timing-wheel", 1000, 100, 100), clock::get);
+    }
+
+    // ---------------------- REMONTAGEM NA SUBIDA ----------------------
+
+    @Test
+    @DisplayName("Should rebuild the wheel from every STAND_BY reservation in the database")
+    void shouldRebuildTheWheelFromEveryStandByReservationInTheDatabase() {
+
+        when(reservationGateway.findIdsByStatus(RoomStatus.STAND_BY)).thenReturn(List.of(1L, 2L, 3L));
+        var scheduler = createScheduler();
+
+        scheduler.rebuild();
+        scheduler.schedule(4L);
+
+        assertEquals(4, scheduler.pending());
+    }
+
+    // ---------------------- VENCIMENTO ----------------------
+
+    @Test
+    @DisplayName("Should not cancel anything before the STAND_BY time limit")
+    void shouldNotCancelAnythingBeforeTheStandByTimeLimit() {
+
+        when(reservationGateway.findIdsByStatus(RoomStatus.STAND_BY)).thenReturn(List.of(1L));
+        var scheduler = createScheduler();
+        scheduler.rebuild();
+
+        scheduler.expire();
+
+        verify(cancellationUseCase, never()).execute(anyList());
+        assertEquals(1, scheduler.pending());
+    }
+
+    @Test
+    @DisplayName("Should cancel the rest of a failing batch one by one and give up on the ID that keeps failing")
+    void shouldCancelTheRestOfAFailingBatchOneByOneAndGiveUpOnTheIdThatKeepsFailing() {
+
+        var scheduler = createScheduler();
+        List.of(1L, 2L, 3L).forEach(scheduler::schedule);
+        lenient().doThrow(new IllegalStateException("lote")).when(cancellationUseCase).execute(List.of(1L, 2L, 3L));
+        lenient().doThrow(new IllegalStateException("ID 2")).when(cancellationUseCase).execute(List.of(2L));
+
+        clock.addAndGet(RabbitMQConfig.STAND_BY_TTL_MS + 1000);
+        scheduler.expire();
+
+        verify(cancellationUseCase, times(1)).execute(List.of(1L));
+        verify(cancellationUseCase, times(1)).execute(List.of(3L));
+        assertEquals(1, scheduler.pending());
+
+        // Cada nova tentativa espera o dobro da anterior; depois da última, o ID sai da roda.
+        for (int i = 0; i < 10; i++) {
+            clock.addAndGet(60_000);
+            scheduler.expire();
+        }
+
+        verify(cancellationUseCase, times(StandByExpiryScheduler.MAX_EXPIRY_ATTEMPTS)).execute(List.of(2L));
+        assertEquals(0, scheduler.pending());
+    }
+}
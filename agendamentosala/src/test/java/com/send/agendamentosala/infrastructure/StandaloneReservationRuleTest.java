@@ -0,0 +1,83 @@
+package com.send.agendamentosala.infrastructure;
+
+import message.agendamentosala.AgendamentosalaApplication;
+import message.agendamentosala.domain.model.Reservation;
+import message.agendamentosala.domain.model.RoomName;
+import message.agendamentosala.domain.model.RoomStatus;
+import message.agendamentosala.infrastructure.gateway.persistence.reservation.ReservationPersistenceGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A regra de uma reserva ativa por usuário, conferida nas consultas do H2: só as reservas avulsas contam,
+// as ocorrências de uma recorrência (recurrence_rule_id preenchido) ficam de fora.
+@SpringBootTest(classes = AgendamentosalaApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:slot_claim_test;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "spring.rabbitmq.listener.simple.auto-startup=false",
+                "spring.h2.console.enabled=false",
+                "logging.level.root=WARN"
+        })
+class StandaloneReservationRuleTest {
+
+    @Autowired
+    private ReservationPersistenceGateway reservationGateway;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Long seriesOf(String userEmail) {
+        jdbc.update("INSERT INTO recurrence_rule (user_email, room_name, required_people, frequency, start_date, " +
+                        "until_date, start_time, end_time) VALUES (?, 'LOKI', 2, 'DAILY', ?, ?, TIME '09:00:00', TIME '10:00:00')",
+                userEmail, LocalDate.now().plusDays(40), LocalDate.now().plusDays(42));
+        return jdbc.queryForObject("SELECT MAX(id) FROM recurrence_rule WHERE user_email = ?", Long.class, userEmail);
+    }
+
+    private Reservation occurrence(String userEmail, LocalDate day) {
+        return new Reservation(null, userEmail, RoomName.LOKI, 2, day.atTime(9, 0), day.atTime(10, 0), RoomStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Should not count the occurrences of a series as the active reservation of the user")
+    void shouldNotCountTheOccurrencesOfASeriesAsTheActiveReservationOfTheUser() {
+
+        String email = "series@example.com";
+        LocalDate first = LocalDate.now().plusDays(40);
+        reservationGateway.saveAll(List.of(occurrence(email, first), occurrence(email, first.plusDays(1))), seriesOf(email));
+
+        assertFalse(reservationGateway.hasActiveReservation(email));
+        assertTrue(reservationGateway.findActiveStandaloneReservationByUserEmail(email).isEmpty());
+        assertTrue(reservationGateway.findUsersWithActiveReservations(Set.of(email)).isEmpty());
+        LocalDateTime ten = first.atTime(10, 0);
+        assertFalse(reservationGateway.checkAdmission(email, RoomName.HULK, ten, ten.plusHours(1)).userHasActiveReservation());
+        assertEquals(2, reservationGateway.findActiveReservationsByUserEmail(email).size());
+    }
+
+    @Test
+    @DisplayName("Should count a standalone reservation next to the series as the active reservation of the user")
+    void shouldCountAStandaloneReservationNextToTheSeriesAsTheActiveReservationOfTheUser() {
+
+        String email = "both@example.com";
+        LocalDate first = LocalDate.now().plusDays(43);
+        reservationGateway.saveAll(List.of(occurrence(email, first)), seriesOf(email));
+        LocalDateTime two = first.atTime(14, 0);
+        Reservation standalone = reservationGateway.save(
+                Reservation.create(email, RoomName.HULK, 2, two, two.plusHours(1), RoomStatus.STAND_BY));
+
+        assertTrue(reservationGateway.hasActiveReservation(email));
+        assertEquals(standalone.id(), reservationGateway.findActiveStandaloneReservationByUserEmail(email).orElseThrow().id());
+        assertEquals(Set.of(email), reservationGateway.findUsersWithActiveReservations(Set.of(email)));
+        assertTrue(reservationGateway.checkAdmission(email, RoomName.THOR, two, two.plusHours(1)).userHasActiveReservation());
+    }
+}
@@ -9,6 +9,7 @@ import message.agendamentosala.domain.model.User;
 import message.agendamentosala.infrastructure.controller.UserController;
 import message.agendamentosala.infrastructure.controller.request.UserRequest;
 import message.agendamentosala.infrastructure.controller.response.UserResponse;
+import message.agendamentosala.infrastructure.gateway.persistence.user.UserView;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -90,7 +91,7 @@ class UserControllerTest {
     @DisplayName("Should return OK status and user response when finding by email succeeds")
     void shouldReturnOkStatusAndUserResponseWhenFindingByEmailSucceeds() {
 
-        var mockUser = createMockUser(TEST_EMAIL, TEST_NAME);
+        var mockUser = new UserView(TEST_NAME, TEST_EMAIL);
 
         when(readUserUseCase.execute(eq(TEST_EMAIL))).thenReturn(mockUser);
 
@@ -0,0 +1,311 @@
+package com.send.agendamentosala.load;
+
+import com.send.agendamentosala.load.EndpointStats.Outcome;
+import com.send.agendamentosala.load.InProcessRabbitConfig.InProcessRabbitTemplate;
+import message.agendamentosala.AgendamentosalaApplication;
+import message.agendamentosala.domain.model.BusinessHours;
+import message.agendamentosala.domain.model.RoomName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Simula a corrida de reservas do começo do dia: sobe a aplicação inteira (Tomcat + H2), com o RabbitMQ trocado
+// por entregas em memória (InProcessRabbitConfig), e dispara clientes concorrentes, um por virtual thread,
+// contra os controllers reais. Todos disputam os mesmos horários de amanhã cedo nas cinco salas.
+// Ao final imprime vazão, p50/p99/p999 e taxa de recusa por conflito de cada endpoint (também em target/load-report.txt).
+//
+// Só roda quando load.durationSeconds é informado:
+// mvn test -Dtest=BookingRushLoadTest -Dload.durationSeconds=30 -Dload.clients=200 -Dload.users=1000 \
+//     "-Dload.mix=create:40,confirm:20,checkIn:5,available:30,delete:5" -Dload.standByTtlMs=5000
+@SpringBootTest(classes = AgendamentosalaApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:load_test;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "spring.rabbitmq.listener.simple.auto-startup=false",
+                "spring.h2.console.enabled=false",
+                "server.error.include-message=always",
+                "logging.level.root=WARN"
+        })
+@Import(InProcessRabbitConfig.class)
+@EnabledIfSystemProperty(named = "load.durationSeconds", matches = "\\d+")
+class BookingRushLoadTest {
+
+    private static final String API = "/api/v1/reservations";
+    private static final String ACTIVE_STATUSES = "('STAND_BY', 'PENDING', 'CHECKED_IN')";
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 200);
+    private static final int USERS = Integer.getInteger("load.users", 1000);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.durationSeconds", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmupSeconds", 5);
+    private static final int RUSH_SLOTS = Integer.getInteger("load.slots", 8);
+    private static final String MIX = System.getProperty("load.mix", "create:40,confirm:20,checkIn:5,available:30,delete:5");
+
+    enum Endpoint { CREATE, CONFIRM, CHECK_IN, AVAILABLE, DELETE }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private InProcessRabbitTemplate rabbit;
+
+    // Para comparar os dois modos: -Dspring.threads.virtual.enabled=false volta para as threads de plataforma.
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private Map<Endpoint, Integer> mix;
+    private int totalWeight;
+    private LocalDateTime rushStart;
+
+    @Test
+    @DisplayName("Should sustain a morning booking rush and report throughput, latency and conflict rate per endpoint")
+    void shouldSustainAMorningBookingRush() throws Exception {
+
+        seed();
+        mix = parseMix(MIX);
+        totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        rushStart = LocalDate.now().plusDays(1).atTime(BusinessHours.OPENING_TIME);
+
+        run(Duration.ofSeconds(WARMUP_SECONDS));
+        long publishedBefore = rabbit.published.sum();
+        long startedAt = System.nanoTime();
+        Map<Endpoint, EndpointStats> stats = run(Duration.ofSeconds(DURATION_SECONDS));
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+        String report = report(stats, elapsedSeconds, rabbit.published.sum() - publishedBefore);
+        System.out.println(report);
+        Files.writeString(Path.of("target", "load-report.txt"), report);
+
+        EndpointStats created = stats.get(Endpoint.CREATE);
+        assertTrue(created.requests() == 0 || created.requests() > created.conflicts() + created.rejected(),
+                "Nenhuma reserva foi criada durante a carga.");
+    }
+
+    // ---------------------- MASSA DE DADOS ----------------------
+
+    private void seed() {
+        for (RoomName room : RoomName.values()) {
+            jdbc.update("INSERT INTO room (name, status) VALUES (?, 'AVAILABLE')", room.name());
+        }
+        List<Object[]> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(new Object[]{email(i), "Usuario Carga"});
+        }
+        jdbc.batchUpdate("INSERT INTO app_user (email, full_name) VALUES (?, ?)", users);
+    }
+
+    private static String email(int user) {
+        return "user" + user + "@example.com";
+    }
+
+    // "create:40,confirm:20,..." -> pesos por endpoint; endpoints fora da lista não são chamados.
+    private static Map<Endpoint, Integer> parseMix(String spec) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            Endpoint endpoint = switch (parts[0]) {
+                case "create" -> Endpoint.CREATE;
+                case "confirm" -> Endpoint.CONFIRM;
+                case "checkIn" -> Endpoint.CHECK_IN;
+                case "available" -> Endpoint.AVAILABLE;
+                case "delete" -> Endpoint.DELETE;
+                default -> throw new IllegalArgumentException("Endpoint desconhecido em load.mix: " + parts[0]);
+            };
+            weights.put(endpoint, Integer.parseInt(parts[1]));
+        }
+        return weights;
+    }
+
+    // ---------------------- CLIENTES ----------------------
+
+    private Map<Endpoint, EndpointStats> run(Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        Map<Endpoint, EndpointStats> total = newStats();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Map<Endpoint, EndpointStats>>> results = new ArrayList<>(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                results.add(clients.submit(() -> client(deadline)));
+            }
+            for (Future<Map<Endpoint, EndpointStats>> result : results) {
+                result.get().forEach((endpoint, stats) -> total.get(endpoint).addAll(stats));
+            }
+        }
+        return total;
+    }
+
+    private Map<Endpoint, EndpointStats> client(long deadline) {
+        Map<Endpoint, EndpointStats> stats = newStats();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = pick(random.nextInt(totalWeight));
+            HttpRequest request = request(endpoint, email(random.nextInt(USERS)), random);
+
+            long start = System.nanoTime();
+            Outcome outcome = send(request);
+            stats.get(endpoint).record(System.nanoTime() - start, outcome);
+        }
+        return stats;
+    }
+
+    private Endpoint pick(int ticket) {
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private HttpRequest request(Endpoint endpoint, String email, ThreadLocalRandom random) {
+        LocalDateTime start = rushStart.plusMinutes(30L * random.nextInt(RUSH_SLOTS));
+        return switch (endpoint) {
+            case CREATE -> {
+                RoomName room = RoomName.values()[random.nextInt(RoomName.values().length)];
+                // Uma em cada dez tenta o próximo horário de hoje, para que o check-in tenha o que confirmar.
+                if (random.nextInt(10) == 0) {
+                    start = imminentSlotOr(start);
+                }
+                String body = "{\"roomName\":\"" + room + "\",\"requiredPeople\":2,\"startDateTime\":\"" + start +
+                        "\",\"endDateTime\":\"" + start.plusMinutes(30) + "\"}";
+                yield HttpRequest.newBuilder(uri(API + "/" + email))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+            }
+            case CONFIRM -> HttpRequest.newBuilder(uri(API + "/confirm/" + email))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build();
+            case CHECK_IN -> HttpRequest.newBuilder(uri(API + "/check-in/" + email))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build();
+            case AVAILABLE -> HttpRequest.newBuilder(uri(API + "/available?startDateTime=" + start +
+                    "&endDateTime=" + start.plusMinutes(30))).GET().build();
+            case DELETE -> HttpRequest.newBuilder(uri(API + "/" + email)).DELETE().build();
+        };
+    }
+
+    private static LocalDateTime imminentSlotOr(LocalDateTime fallback) {
+        LocalDateTime soon = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).plusMinutes(2);
+        LocalDateTime start = soon.plusMinutes((BusinessHours.SLOT_MINUTES - soon.getMinute() % BusinessHours.SLOT_MINUTES)
+                % BusinessHours.SLOT_MINUTES);
+        boolean open = !start.toLocalTime().isBefore(BusinessHours.OPENING_TIME)
+                && !start.plusMinutes(30).toLocalTime().isAfter(BusinessHours.CLOSING_TIME)
+                && start.plusMinutes(30).toLocalDate().equals(start.toLocalDate());
+        return open ? start : fallback;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    // Sem @ControllerAdvice, as recusas do domínio chegam como 500 com a mensagem da ValidationException;
+    // as de conflito são reconhecidas pelo texto.
+    private Outcome send(HttpRequest request) {
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() < 300) {
+                return Outcome.OK;
+            }
+            String body = response.body();
+            if (body.contains("já está reservado") || body.contains("já possui uma reserva ativa")) {
+                return Outcome.CONFLICT;
+            }
+            return Outcome.REJECTED;
+        } catch (IOException e) {
+            return Outcome.REJECTED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Outcome.REJECTED;
+        }
+    }
+
+    private static Map<Endpoint, EndpointStats> newStats() {
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+        return stats;
+    }
+
+    // ---------------------- RELATÓRIO ----------------------
+
+    private String report(Map<Endpoint, EndpointStats> stats, double elapsedSeconds, long published) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%nCorrida de reservas: %d clientes, %d usuários, %d s (+%d s de aquecimento), mix %s%n",
+                CLIENTS, USERS, DURATION_SECONDS, WARMUP_SECONDS, MIX));
+        report.append(String.format("Threads do Tomcat e dos listeners: %s%n", virtualThreads ? "virtuais" : "de plataforma"));
+        report.append(String.format("%-10s %9s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "req", "req/s", "p50 ms", "p99 ms", "p999 ms", "conflito", "recusa"));
+
+        EndpointStats all = new EndpointStats();
+        stats.forEach((endpoint, endpointStats) -> {
+            if (endpointStats.requests() > 0) {
+                report.append(line(endpoint.name(), endpointStats, elapsedSeconds));
+                all.addAll(endpointStats);
+            }
+        });
+        report.append(line("TOTAL", all, elapsedSeconds));
+
+        report.append(String.format("AMQP em memória: %d mensagens publicadas na rodada, %d entregues e %d recusadas no total%n",
+                published, rabbit.delivered.sum(), rabbit.rejected.sum()));
+        report.append(String.format("Integridade: %d pares de reservas ativas sobrepostas na mesma sala, %d usuários com mais de uma reserva ativa%n",
+                overlappingActivePairs(), usersWithSeveralActiveReservations()));
+        return report.toString();
+    }
+
+    private static String line(String name, EndpointStats stats, double elapsedSeconds) {
+        long requests = stats.requests();
+        return String.format("%-10s %9d %9.1f %9.2f %9.2f %9.2f %8.1f%% %8.1f%%%n",
+                name, requests, requests / elapsedSeconds,
+                stats.percentileMillis(50), stats.percentileMillis(99), stats.percentileMillis(99.9),
+                100.0 * stats.conflicts() / Math.max(requests, 1), 100.0 * stats.rejected() / Math.max(requests, 1));
+    }
+
+    private long overlappingActivePairs() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM reservation a JOIN reservation b " +
+                "ON a.room_name = b.room_name AND a.id < b.id " +
+                "AND a.start_date_time < b.end_date_time AND b.start_date_time < a.end_date_time " +
+                "WHERE a.status IN " + ACTIVE_STATUSES + " AND b.status IN " + ACTIVE_STATUSES, Long.class);
+    }
+
+    private long usersWithSeveralActiveReservations() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM (SELECT user_email FROM reservation " +
+                "WHERE status IN " + ACTIVE_STATUSES + " GROUP BY user_email HAVING COUNT(*) > 1)", Long.class);
+    }
+}
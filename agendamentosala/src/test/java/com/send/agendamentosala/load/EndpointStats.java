@@ -0,0 +1,65 @@
+package com.send.agendamentosala.load;
+
+import java.util.Arrays;
+
+// Latências e resultados de um endpoint. Cada cliente tem a sua instância (sem contenção entre clientes)
+// e as instâncias são somadas no final da rodada.
+final class EndpointStats {
+
+    enum Outcome { OK, CONFLICT, REJECTED }
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long conflicts;
+    private long rejected;
+    private boolean sorted;
+
+    void record(long latencyNanos, Outcome outcome) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        sorted = false;
+        if (outcome == Outcome.CONFLICT) {
+            conflicts++;
+        } else if (outcome == Outcome.REJECTED) {
+            rejected++;
+        }
+    }
+
+    void addAll(EndpointStats other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        sorted = false;
+        conflicts += other.conflicts;
+        rejected += other.rejected;
+    }
+
+    long requests() {
+        return count;
+    }
+
+    long conflicts() {
+        return conflicts;
+    }
+
+    long rejected() {
+        return rejected;
+    }
+
+    // Percentil pelo método "nearest rank"; as amostras são ordenadas uma vez, na primeira consulta.
+    double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(latencies, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return latencies[Math.max(rank, 1) - 1] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,114 @@
+package com.send.agendamentosala.load;
+
+import message.agendamentosala.infrastructure.config.RabbitMQConfig;
+import message.agendamentosala.infrastructure.consumer.CheckInConfirmationConsumer;
+import message.agendamentosala.infrastructure.consumer.StandByCancellationConsumer;
+import message.agendamentosala.infrastructure.gateway.messaging.ReservationEvent;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Substitui o RabbitTemplate por uma entrega em memória: o check-in vai direto para o consumidor e o STAND_BY
+// volta para o consumidor de cancelamento depois do TTL (load.standByTtlMs, 15 min por padrão, como na fila real).
+// Cada entrega roda em uma virtual thread, como se viesse do listener.
+@TestConfiguration(proxyBeanMethods = false)
+class InProcessRabbitConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    InProcessRabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory,
+                                           MessageConverter messageConverter,
+                                           ObjectProvider<CheckInConfirmationConsumer> checkInConsumer,
+                                           ObjectProvider<StandByCancellationConsumer> cancellationConsumer,
+                                           @Value("${load.standByTtlMs:" + RabbitMQConfig.STAND_BY_TTL_MS + "}") long standByTtlMs) {
+        return new InProcessRabbitTemplate(connectionFactory, messageConverter, checkInConsumer, cancellationConsumer, standByTtlMs);
+    }
+
+    static class InProcessRabbitTemplate extends RabbitTemplate {
+
+        private final ObjectProvider<CheckInConfirmationConsumer> checkInConsumer;
+        private final ObjectProvider<StandByCancellationConsumer> cancellationConsumer;
+        private final long standByTtlMs;
+
+        private final ExecutorService deliveries = Executors.newVirtualThreadPerTaskExecutor();
+        private final ScheduledExecutorService delayQueue = Executors.newSingleThreadScheduledExecutor();
+
+        final LongAdder published = new LongAdder();
+        final LongAdder delivered = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+
+        // A ConnectionFactory só satisfaz a validação do RabbitTemplate; nenhuma conexão é aberta.
+        InProcessRabbitTemplate(ConnectionFactory connectionFactory,
+                                MessageConverter messageConverter,
+                                ObjectProvider<CheckInConfirmationConsumer> checkInConsumer,
+                                ObjectProvider<StandByCancellationConsumer> cancellationConsumer,
+                                long standByTtlMs) {
+            super(connectionFactory);
+            setMessageConverter(messageConverter);
+            this.checkInConsumer = checkInConsumer;
+            this.cancellationConsumer = cancellationConsumer;
+            this.standByTtlMs = standByTtlMs;
+        }
+
+        @Override
+        public void convertAndSend(String exchange, String routingKey, Object message) throws AmqpException {
+            published.increment();
+            // Passa pelo conversor da aplicação nos dois sentidos, como na publicação e no consumo reais.
+            Message wire = getMessageConverter().toMessage(message, new MessageProperties());
+            ReservationEvent event = (ReservationEvent) getMessageConverter().fromMessage(wire);
+            switch (routingKey) {
+                case RabbitMQConfig.CHECK_IN_ROUTING_KEY -> deliver(() ->
+                        checkInConsumer.getObject().receiveCheckInMessage(event));
+                case RabbitMQConfig.STAND_BY_DELAY_ROUTING_KEY -> delayQueue.schedule(() -> deliver(() ->
+                        cancellationConsumer.getObject().receiveCancellationMessages(List.of(event))),
+                        standByTtlMs, TimeUnit.MILLISECONDS);
+                default -> throw new AmqpException("Routing key sem consumidor no teste de carga: " + routingKey);
+            }
+        }
+
+        // O publisher assíncrono publica com CorrelationData: a entrega é local, então a confirmação é imediata.
+        @Override
+        public void convertAndSend(String exchange, String routingKey, Object message, CorrelationData correlationData)
+                throws AmqpException {
+            convertAndSend(exchange, routingKey, message);
+            correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+        }
+
+        // Publicações em lote usam o mesmo "canal": aqui, o próprio template.
+        @Override
+        public <T> T invoke(OperationsCallback<T> action, com.rabbitmq.client.ConfirmCallback acks,
+                            com.rabbitmq.client.ConfirmCallback nacks) {
+            return action.doInRabbit(this);
+        }
+
+        private void deliver(Runnable listener) {
+            deliveries.execute(() -> {
+                try {
+                    listener.run();
+                    delivered.increment();
+                } catch (RuntimeException e) {
+                    rejected.increment();
+                }
+            });
+        }
+
+        void shutdown() {
+            delayQueue.shutdownNow();
+            deliveries.shutdown();
+        }
+    }
+}